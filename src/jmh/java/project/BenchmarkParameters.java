@@ -0,0 +1,39 @@
+package project;
+
+import project.model.maps.MapStorageVariant;
+import project.presenter.ExecutionVariant;
+import project.presenter.GrowthGrassVariant;
+import project.presenter.MutationVariant;
+
+final class BenchmarkParameters {
+    private static final long BENCHMARK_SEED = 42L;
+
+    private BenchmarkParameters() {
+    }
+
+    static SimulationParameters create(int mapSize, int numberOfAnimals, int numberOfGenes, GrowthGrassVariant growthGrassVariant, MutationVariant mutationVariant, MapStorageVariant mapStorageVariant) {
+        int numberOfFields = mapSize * mapSize;
+
+        return new SimulationParameters(
+                mapSize,
+                mapSize,
+                growthGrassVariant,
+                numberOfFields / 4,
+                10,
+                numberOfFields / 20,
+                Math.min(numberOfAnimals, numberOfFields),
+                50,
+                30,
+                15,
+                0,
+                Math.min(3, numberOfGenes),
+                mutationVariant,
+                numberOfGenes,
+                false,
+                mapStorageVariant,
+                ExecutionVariant.SEQUENTIAL,
+                SimulationParameters.DEFAULT_PARALLEL_POPULATION_THRESHOLD,
+                BENCHMARK_SEED
+        );
+    }
+}
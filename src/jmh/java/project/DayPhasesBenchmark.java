@@ -0,0 +1,131 @@
+package project;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.Blackhole;
+import project.model.maps.IncorrectPositionException;
+import project.model.maps.MapStorageVariant;
+import project.presenter.GrowthGrassVariant;
+import project.presenter.MutationVariant;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 50)
+@Measurement(iterations = 100)
+public class DayPhasesBenchmark {
+    private static final int SIMULATED_DAYS_BEFORE_MEASUREMENT = 100;
+    private static final List<String> DAY_PHASES = List.of(
+            "removeDeadAnimals",
+            "rotateAnimals",
+            "moveAnimals",
+            "consumePlantsAndReproduce",
+            "spawnGrass",
+            "updateStatistics"
+    );
+
+    @Param({"50", "200"})
+    private int mapSize;
+
+    @Param({"100", "2000"})
+    private int numberOfAnimals;
+
+    @Param({"8", "64"})
+    private int numberOfGenes;
+
+    @Param({"EQUATOR_MAP", "MOVING_JUNGLE_MAP"})
+    private GrowthGrassVariant growthGrassVariant;
+
+    @Param({"RANDOM", "INCREMENT_DECREMENT"})
+    private MutationVariant mutationVariant;
+
+    @Param({"HASH_MAP", "ARRAY_GRID"})
+    private MapStorageVariant mapStorageVariant;
+
+    private SimulationParameters simulationParameters;
+    private Path checkpointPath;
+    private Simulation simulation;
+
+    @Setup(Level.Trial)
+    public void simulateFirstDays() throws IOException, IncorrectPositionException {
+        simulationParameters = BenchmarkParameters.create(mapSize, numberOfAnimals, numberOfGenes, growthGrassVariant, mutationVariant, mapStorageVariant);
+
+        Simulation advancedSimulation = new Simulation(simulationParameters);
+        for (int day = 0; day < SIMULATED_DAYS_BEFORE_MEASUREMENT; day++) {
+            advancedSimulation.simulateDay();
+        }
+
+        checkpointPath = Files.createTempFile("day-phases-benchmark", ".checkpoint");
+        advancedSimulation.saveCheckpoint(checkpointPath, false);
+    }
+
+    @Setup(Level.Iteration)
+    public void restoreSimulation(BenchmarkParams benchmarkParams) throws IOException, IncorrectPositionException {
+        simulation = Simulation.fromCheckpoint(checkpointPath);
+
+        String benchmark = benchmarkParams.getBenchmark();
+        String measuredPhase = benchmark.substring(benchmark.lastIndexOf('.') + 1);
+        int numberOfPhasesBefore = DAY_PHASES.contains(measuredPhase) ? DAY_PHASES.indexOf(measuredPhase) : 0;
+        for (String phase : DAY_PHASES.subList(0, numberOfPhasesBefore)) {
+            runPhase(phase);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteCheckpoint() throws IOException {
+        Files.deleteIfExists(checkpointPath);
+    }
+
+    private void runPhase(String phase) throws IncorrectPositionException {
+        switch (phase) {
+            case "removeDeadAnimals" -> simulation.removeDeadAnimals();
+            case "rotateAnimals" -> simulation.rotateAnimals();
+            case "moveAnimals" -> simulation.moveAnimals();
+            case "consumePlantsAndReproduce" -> simulation.consumePlantsAndReproduce();
+            case "spawnGrass" -> simulation.getWorldMap().spawnGrass(simulationParameters.numberOfGrassGrowingEveryDay());
+            default -> throw new IllegalArgumentException("Unknown day phase: " + phase);
+        }
+    }
+
+    @Benchmark
+    public void removeDeadAnimals() {
+        simulation.removeDeadAnimals();
+    }
+
+    @Benchmark
+    public void rotateAnimals() {
+        simulation.rotateAnimals();
+    }
+
+    @Benchmark
+    public void moveAnimals() {
+        simulation.moveAnimals();
+    }
+
+    @Benchmark
+    public void consumePlantsAndReproduce() throws IncorrectPositionException {
+        simulation.consumePlantsAndReproduce();
+    }
+
+    @Benchmark
+    public void spawnGrass() {
+        simulation.getWorldMap().spawnGrass(simulationParameters.numberOfGrassGrowingEveryDay());
+    }
+
+    @Benchmark
+    public void updateStatistics(Blackhole blackhole) {
+        simulation.getStatistics().updateStatistics(simulation.getWorldMap(), simulation.getCurrentDay());
+        blackhole.consume(simulation.getStatistics().getStatisticsRecord());
+    }
+
+    @Benchmark
+    public void simulateDay() throws IncorrectPositionException {
+        simulation.simulateDay();
+    }
+}
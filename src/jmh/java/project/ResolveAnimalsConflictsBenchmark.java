@@ -0,0 +1,44 @@
+package project;
+
+import org.openjdk.jmh.annotations.*;
+import project.model.Vector2d;
+import project.model.maps.MapStorageVariant;
+import project.model.worldElements.Animal;
+import project.model.worldElements.RandomMutationStrategyVariant;
+import project.presenter.GrowthGrassVariant;
+import project.presenter.MutationVariant;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ResolveAnimalsConflictsBenchmark {
+
+    @Param({"2", "10", "100"})
+    private int animalsAtPosition;
+
+    private Simulation simulation;
+    private final List<Animal> animals = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void createAnimals() {
+        simulation = new Simulation(BenchmarkParameters.create(10, 1, 8, GrowthGrassVariant.EQUATOR_MAP, MutationVariant.RANDOM, MapStorageVariant.HASH_MAP));
+
+        Random random = new Random(42);
+        Vector2d position = new Vector2d(0, 0);
+        for (int i = 0; i < animalsAtPosition; i++) {
+            animals.add(new Animal(position, 8, 1 + random.nextInt(100), 30, 15, new RandomMutationStrategyVariant(0, 0)));
+        }
+    }
+
+    @Benchmark
+    public List<Animal> resolveAnimalsConflicts() {
+        return simulation.resolveAnimalsConflicts(animals);
+    }
+}
@@ -0,0 +1,114 @@
+package project.model.maps;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import project.model.Vector2d;
+import project.model.worldElements.Animal;
+import project.model.worldElements.Grass;
+import project.model.worldElements.RandomMutationStrategyVariant;
+import project.presenter.GrowthGrassVariant;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class WorldMapBenchmark {
+
+    @Param({"50", "200"})
+    private int mapSize;
+
+    @Param({"100", "2000"})
+    private int numberOfAnimals;
+
+    @Param({"EQUATOR_MAP", "MOVING_JUNGLE_MAP"})
+    private GrowthGrassVariant growthGrassVariant;
+
+    @Param({"HASH_MAP", "ARRAY_GRID"})
+    private MapStorageVariant mapStorageVariant;
+
+    private WorldMap worldMap;
+    private final List<Animal> animals = new ArrayList<>();
+    private final List<Vector2d> freePositions = new ArrayList<>();
+    private int nextFreePosition = 0;
+
+    @Setup(Level.Trial)
+    public void createMap() throws IncorrectPositionException {
+        worldMap = createWorldMap(growthGrassVariant, mapStorageVariant, mapSize);
+        worldMap.spawnGrass(mapSize * mapSize / 4);
+
+        Random random = new Random(42);
+        for (int i = 0; i < numberOfAnimals; i++) {
+            Vector2d position = new Vector2d(random.nextInt(mapSize), random.nextInt(mapSize));
+            Animal animal = new Animal(position, 8, 1_000_000_000, 30, 15, new RandomMutationStrategyVariant(0, 0));
+            worldMap.place(animal);
+            animals.add(animal);
+        }
+
+        freePositions.addAll(worldMap.getFreeGrassPreferredPositions());
+        freePositions.addAll(worldMap.getFreeGrassNotPreferredPositions());
+    }
+
+    @Benchmark
+    public void moveAnimals() {
+        for (Animal animal : animals) {
+            worldMap.move(animal);
+        }
+    }
+
+    @Benchmark
+    public void placeAndRemoveGrass() throws IncorrectPositionException {
+        Vector2d position = freePositions.get(nextFreePosition);
+        nextFreePosition = (nextFreePosition + 1) % freePositions.size();
+
+        worldMap.place(new Grass(position));
+        worldMap.removeGrass(position);
+    }
+
+    @Benchmark
+    public void animalsAt(Blackhole blackhole) {
+        for (Animal animal : animals) {
+            blackhole.consume(worldMap.animalsAt(animal.getPosition()));
+        }
+    }
+
+    @Benchmark
+    public void getOrderedAnimals(Blackhole blackhole) {
+        blackhole.consume(worldMap.getOrderedAnimals());
+    }
+
+    @Benchmark
+    public void getElements(Blackhole blackhole) {
+        blackhole.consume(worldMap.getElements());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 200)
+    @Measurement(iterations = 100)
+    public void spawnGrassOnEmptyMap(EmptyMapState emptyMapState) {
+        emptyMapState.worldMap.spawnGrass(mapSize * mapSize / 10);
+    }
+
+    @State(Scope.Thread)
+    public static class EmptyMapState {
+        private WorldMap worldMap;
+
+        @Setup(Level.Iteration)
+        public void createMap(WorldMapBenchmark benchmark) {
+            worldMap = createWorldMap(benchmark.growthGrassVariant, benchmark.mapStorageVariant, benchmark.mapSize);
+        }
+    }
+
+    private static WorldMap createWorldMap(GrowthGrassVariant growthGrassVariant, MapStorageVariant mapStorageVariant, int mapSize) {
+        return switch (growthGrassVariant) {
+            case EQUATOR_MAP -> new EquatorMap(mapSize, mapSize, mapStorageVariant);
+            case MOVING_JUNGLE_MAP -> new MovingJungleMap(mapSize, mapSize, mapStorageVariant);
+        };
+    }
+}
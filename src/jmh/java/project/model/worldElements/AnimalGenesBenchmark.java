@@ -0,0 +1,91 @@
+package project.model.worldElements;
+
+import org.openjdk.jmh.annotations.*;
+import project.model.Vector2d;
+import project.presenter.MutationVariant;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class AnimalGenesBenchmark {
+    private static final int REPRODUCTIONS_PER_BATCH = 1000;
+    private static final int ENERGY_OF_WELL_FED_ANIMAL = 30;
+    private static final int ENERGY_USED_TO_REPRODUCE = 15;
+
+    @Param({"8", "64", "256"})
+    private int numberOfGenes;
+
+    @Param({"RANDOM", "INCREMENT_DECREMENT"})
+    private MutationVariant mutationVariant;
+
+    private MutationStrategy mutationStrategy;
+    private Animal animal;
+    private ArrayList<Integer> genes;
+    private byte[] packedGenes;
+
+    @Setup(Level.Trial)
+    public void createMutationStrategy() {
+        int maximumNumberOfMutations = Math.min(3, numberOfGenes);
+
+        mutationStrategy = switch (mutationVariant) {
+            case RANDOM -> new RandomMutationStrategyVariant(0, maximumNumberOfMutations);
+            case INCREMENT_DECREMENT -> new IncrementDecrementMutationStrategyVariant(0, maximumNumberOfMutations);
+        };
+    }
+
+    @Setup(Level.Trial)
+    public void createAnimal() {
+        animal = new Animal(new Vector2d(0, 0), numberOfGenes, 100, ENERGY_OF_WELL_FED_ANIMAL, ENERGY_USED_TO_REPRODUCE, mutationStrategy);
+        genes = animal.getAnimalGenesList();
+        packedGenes = new byte[numberOfGenes];
+        for (int i = 0; i < numberOfGenes; i++) {
+            packedGenes[i] = genes.get(i).byteValue();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 200, batchSize = REPRODUCTIONS_PER_BATCH)
+    @Measurement(iterations = 100, batchSize = REPRODUCTIONS_PER_BATCH)
+    public Animal reproduce(ParentsState parents) {
+        return Animal.reproduce(parents.firstParent, parents.secondParent);
+    }
+
+    @Benchmark
+    public ArrayList<Integer> mutateGenes() {
+        ArrayList<Integer> genesToMutate = new ArrayList<>(genes);
+        mutationStrategy.mutateGenes(genesToMutate);
+        return genesToMutate;
+    }
+
+    @Benchmark
+    public byte[] mutatePackedGenes() {
+        mutationStrategy.mutateGenes(packedGenes, 0, numberOfGenes);
+        return packedGenes;
+    }
+
+    @Benchmark
+    public Animal createAnimalWithGenes() {
+        return new Animal(animal.getPosition(), genes, 30, ENERGY_OF_WELL_FED_ANIMAL, ENERGY_USED_TO_REPRODUCE, mutationStrategy);
+    }
+
+    @State(Scope.Thread)
+    public static class ParentsState {
+        private Animal firstParent;
+        private Animal secondParent;
+
+        @Setup(Level.Iteration)
+        public void createParents(AnimalGenesBenchmark benchmark) {
+            Vector2d position = new Vector2d(0, 0);
+            int energyForBatch = ENERGY_OF_WELL_FED_ANIMAL + REPRODUCTIONS_PER_BATCH * ENERGY_USED_TO_REPRODUCE;
+            firstParent = new Animal(position, benchmark.numberOfGenes, energyForBatch, ENERGY_OF_WELL_FED_ANIMAL, ENERGY_USED_TO_REPRODUCE, benchmark.mutationStrategy);
+            secondParent = new Animal(position, benchmark.numberOfGenes, energyForBatch, ENERGY_OF_WELL_FED_ANIMAL, ENERGY_USED_TO_REPRODUCE, benchmark.mutationStrategy);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package project;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+class CheckpointSchedule {
+    private final Path checkpointPath;
+    private final int checkpointInterval;
+    private final boolean compressed;
+
+    private int numberOfDays = 0;
+    private int numberOfCheckpoints = 0;
+    private long checkpointNanos = 0;
+
+    CheckpointSchedule(Path checkpointPath, int checkpointInterval, boolean compressed) {
+        this.checkpointPath = checkpointPath;
+        this.checkpointInterval = checkpointInterval;
+        this.compressed = compressed;
+    }
+
+    void afterDay(Simulation simulation, boolean lastDay) throws IOException {
+        numberOfDays++;
+        if (checkpointPath == null) {
+            return;
+        }
+
+        if (lastDay || (checkpointInterval > 0 && numberOfDays % checkpointInterval == 0)) {
+            long startTime = System.nanoTime();
+            simulation.saveCheckpoint(checkpointPath, compressed);
+            checkpointNanos += System.nanoTime() - startTime;
+            numberOfCheckpoints++;
+        }
+    }
+
+    void printSummary() {
+        if (numberOfCheckpoints > 0) {
+            System.out.printf("Saved %d checkpoints to %s (%.1f ms per checkpoint)%n", numberOfCheckpoints, checkpointPath, checkpointNanos / 1_000_000.0 / numberOfCheckpoints);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package project;
+
+import project.model.Vector2d;
+import project.model.worldElements.Animal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class FeedingBuffer {
+    private final List<Vector2d> eatenGrassPositions = new ArrayList<>();
+    private final List<Animal> firstParents = new ArrayList<>();
+    private final List<Animal> secondParents = new ArrayList<>();
+
+    void addEatenGrass(Vector2d position) {
+        eatenGrassPositions.add(position);
+    }
+
+    void addParents(Animal firstParent, Animal secondParent) {
+        firstParents.add(firstParent);
+        secondParents.add(secondParent);
+    }
+
+    List<Vector2d> getEatenGrassPositions() {
+        return eatenGrassPositions;
+    }
+
+    int getNumberOfNewborns() {
+        return firstParents.size();
+    }
+
+    Animal getFirstParent(int newborn) {
+        return firstParents.get(newborn);
+    }
+
+    Animal getSecondParent(int newborn) {
+        return secondParents.get(newborn);
+    }
+}
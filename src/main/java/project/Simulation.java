@@ -1,52 +1,118 @@
 package project;
 
+import project.checkpoint.CheckpointFile;
+import project.checkpoint.CheckpointInput;
+import project.checkpoint.CheckpointOutput;
+import project.listener.AnimalBirthListener;
+import project.listener.FrameSnapshotPublisher;
 import project.listener.SimulationChangeListener;
 import project.listener.SimulationEventType;
 import project.listener.SimulationSaveStatistics;
+import project.metrics.SimulationMetrics;
+import project.metrics.SimulationPhase;
+import project.model.SplitMixRandom;
 import project.model.Vector2d;
 import project.model.maps.*;
 import project.model.worldElements.*;
+import project.presenter.ExecutionVariant;
+import project.presenter.SimulationPresets;
 import project.statistics.SimulationStatistics;
 import project.statistics.StatisticsRecord;
 
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.file.Path;
 import java.util.*;
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
 public class Simulation implements Runnable {
 
+    private static final int ROW_BANDS_PER_THREAD = 4;
+    private static final int CELL_CHUNKS_PER_THREAD = 4;
+
+    private static final Comparator<Animal> ANIMALS_CONFLICTS_ORDER = Comparator
+            .comparingInt(Animal::getCurrentEnergy).reversed()
+            .thenComparingInt(Animal::getLengthOfLife).reversed()
+            .thenComparingInt(Animal::getNumberOfKids).reversed()
+            .thenComparingLong(Animal::getId);
+
+    private static final PhaseBarrier NO_WAIT = dayEnded -> {
+    };
+
     private final ArrayList<SimulationChangeListener> listeners = new ArrayList<>();
+    private final ArrayList<AnimalBirthListener> birthListeners = new ArrayList<>();
     private final WorldMap worldMap;
+    private final Population population;
     private final SimulationParameters simulationParameters;
     private final SimulationStatistics statistics = new SimulationStatistics();
+    private final SimulationMetrics metrics = new SimulationMetrics();
     private int currentDay = 1;
-    private int coolDown = 200;
+    private volatile int coolDown = 200;
     private final int initialAnimalsEnergy;
 
-    private CountDownLatch countDownLatch;
-    private boolean running = true;
+    private final Object pauseLock = new Object();
+    private final Queue<Runnable> simulationThreadTasks = new ConcurrentLinkedQueue<>();
+    private final Queue<Runnable> dayEndTasks = new ConcurrentLinkedQueue<>();
+    private volatile boolean running = true;
+    private boolean paused = false;
 
-    private final Random rand = new Random();
+    private final long seed;
+    private final SplitMixRandom grassRandom;
+    private final SplitMixRandom spawnRandom;
+    private final SplitMixRandom animalsRandom;
+    private final SplitMixRandom mutationRandom;
 
     public Simulation(SimulationParameters simulationParameters) {
+        this(simulationParameters, null);
+    }
+
+    private Simulation(SimulationParameters simulationParameters, CheckpointInput checkpoint) {
         this.simulationParameters = simulationParameters;
         this.initialAnimalsEnergy = simulationParameters.initialAnimalsEnergy();
 
+        if (checkpoint == null) {
+            this.seed = (simulationParameters.seed() != null) ? simulationParameters.seed() : new SplittableRandom().nextLong();
+            SplitMixRandom random = new SplitMixRandom(seed);
+            this.grassRandom = random.split();
+            this.spawnRandom = random.split();
+            this.animalsRandom = random.split();
+            this.mutationRandom = random.split();
+        } else {
+            this.seed = checkpoint.getLong();
+            this.currentDay = checkpoint.getInt();
+            this.grassRandom = readRandom(checkpoint);
+            this.spawnRandom = readRandom(checkpoint);
+            this.animalsRandom = readRandom(checkpoint);
+            this.mutationRandom = readRandom(checkpoint);
+        }
+
         this.worldMap = switch (simulationParameters.growthGrassVariant()) {
-            case EQUATOR_MAP -> new EquatorMap(simulationParameters.mapHeight(), simulationParameters.mapWidth());
+            case EQUATOR_MAP ->
+                    new EquatorMap(simulationParameters.mapHeight(), simulationParameters.mapWidth(), simulationParameters.mapStorageVariant());
             case MOVING_JUNGLE_MAP ->
-                    new MovingJungleMap(simulationParameters.mapHeight(), simulationParameters.mapWidth());
+                    new MovingJungleMap(simulationParameters.mapHeight(), simulationParameters.mapWidth(), simulationParameters.mapStorageVariant());
         };
-        worldMap.spawnGrass(simulationParameters.numberOfGrassOnMap());
 
         MutationStrategy mutationStrategy = switch (simulationParameters.mutationVariant()) {
             case RANDOM ->
-                    new RandomMutationStrategyVariant(simulationParameters.minimalNumberOfMutation(), simulationParameters.maximumNumberOfMutation());
+                    new RandomMutationStrategyVariant(simulationParameters.minimalNumberOfMutation(), simulationParameters.maximumNumberOfMutation(), mutationRandom);
             case INCREMENT_DECREMENT ->
-                    new IncrementDecrementMutationStrategyVariant(simulationParameters.minimalNumberOfMutation(), simulationParameters.maximumNumberOfMutation());
+                    new IncrementDecrementMutationStrategyVariant(simulationParameters.minimalNumberOfMutation(), simulationParameters.maximumNumberOfMutation(), mutationRandom);
         };
 
+        population = new Population(simulationParameters.numberOfGenes(), simulationParameters.energyNeedToReproduce(), simulationParameters.energyUsedToReproduce(), mutationStrategy, animalsRandom);
+        population.setCurrentDay(currentDay);
+
+        if (checkpoint != null) {
+            restoreCheckpoint(checkpoint);
+            return;
+        }
+
+        worldMap.spawnGrass(simulationParameters.numberOfGrassOnMap(), grassRandom);
         try {
-            spawnFirstAnimals(simulationParameters.startNumberOfAnimals(), simulationParameters.initialAnimalsEnergy(), simulationParameters.energyNeedToReproduce(), simulationParameters.energyUsedToReproduce(), mutationStrategy, simulationParameters.numberOfGenes());
+            spawnFirstAnimals(simulationParameters.startNumberOfAnimals(), simulationParameters.initialAnimalsEnergy());
         } catch (IncorrectPositionException e) {
             System.err.printf("Error while creating Simulation: %s%n", e.getMessage());
         }
@@ -54,6 +120,58 @@ public class Simulation implements Runnable {
         statistics.updateStatistics(worldMap, currentDay);
     }
 
+    public static Simulation fromCheckpoint(Path path) throws IOException {
+        CheckpointInput checkpoint = CheckpointFile.read(path);
+        try {
+            SimulationParameters simulationParameters = SimulationPresets.parseParameters(checkpoint.getString());
+            return new Simulation(simulationParameters, checkpoint);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Checkpoint %s is truncated".formatted(path));
+        }
+    }
+
+    public void saveCheckpoint(Path path, boolean compressed) throws IOException {
+        CheckpointOutput checkpoint = new CheckpointOutput()
+                .putString(SimulationPresets.toCsvLine(simulationParameters))
+                .putLong(seed)
+                .putInt(currentDay);
+        writeRandom(checkpoint, grassRandom);
+        writeRandom(checkpoint, spawnRandom);
+        writeRandom(checkpoint, animalsRandom);
+        writeRandom(checkpoint, mutationRandom);
+
+        worldMap.writeCheckpoint(checkpoint);
+        population.writeCheckpoint(checkpoint);
+        statistics.writeCheckpoint(checkpoint);
+
+        CheckpointFile.write(path, checkpoint, compressed);
+    }
+
+    private void restoreCheckpoint(CheckpointInput checkpoint) {
+        worldMap.restoreCheckpoint(checkpoint);
+        population.restoreCheckpoint(checkpoint);
+        try {
+            for (int slot = 0; slot < population.size(); slot++) {
+                worldMap.place(population.getAnimal(slot));
+            }
+        } catch (IncorrectPositionException e) {
+            throw new IllegalStateException("Checkpoint contains an animal outside of the map: %s".formatted(e.getMessage()));
+        }
+        statistics.restoreCheckpoint(checkpoint, worldMap);
+
+        if (checkpoint.hasRemaining()) {
+            throw new IllegalStateException("Checkpoint was not fully restored");
+        }
+    }
+
+    private static void writeRandom(CheckpointOutput checkpoint, SplitMixRandom random) {
+        checkpoint.putLong(random.getSeed()).putLong(random.getGamma());
+    }
+
+    private static SplitMixRandom readRandom(CheckpointInput checkpoint) {
+        return new SplitMixRandom(checkpoint.getLong(), checkpoint.getLong());
+    }
+
     public SimulationStatistics getStatistics() {
         return statistics;
     }
@@ -62,17 +180,33 @@ public class Simulation implements Runnable {
         return worldMap;
     }
 
+    public SimulationParameters getSimulationParameters() {
+        return simulationParameters;
+    }
+
     public int getInitialAnimalsEnergy() {
         return initialAnimalsEnergy;
     }
 
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getCurrentDay() {
+        return currentDay;
+    }
+
+    public SimulationMetrics getMetrics() {
+        return metrics;
+    }
+
+    public Animal resolveStrongestAnimal(List<Animal> animals) {
+        return (animals.size() == 1) ? animals.getFirst() : Collections.min(animals, ANIMALS_CONFLICTS_ORDER);
+    }
+
     public List<Animal> resolveAnimalsConflicts(List<Animal> animals) {
         return animals.stream()
-                .sorted(Comparator
-                        .comparingInt(Animal::getCurrentEnergy).reversed()
-                        .thenComparingInt(Animal::getLengthOfLife).reversed()
-                        .thenComparingInt(animal -> animal.getAnimalsKids().size()).reversed()
-                )
+                .sorted(ANIMALS_CONFLICTS_ORDER)
                 .toList();
     }
 
@@ -84,8 +218,36 @@ public class Simulation implements Runnable {
         listeners.remove(observer);
     }
 
-    public void countDown() {
-        countDownLatch.countDown();
+    public void addBirthListener(AnimalBirthListener listener) {
+        birthListeners.add(listener);
+    }
+
+    public void removeBirthListener(AnimalBirthListener listener) {
+        birthListeners.remove(listener);
+    }
+
+    public void pause() {
+        synchronized (pauseLock) {
+            paused = true;
+        }
+    }
+
+    public void resume() {
+        synchronized (pauseLock) {
+            paused = false;
+            pauseLock.notifyAll();
+        }
+    }
+
+    public void execute(Runnable task) {
+        simulationThreadTasks.add(task);
+        synchronized (pauseLock) {
+            pauseLock.notifyAll();
+        }
+    }
+
+    public void executeAtDayEnd(Runnable task) {
+        dayEndTasks.add(task);
     }
 
     public void setCoolDown(int coolDown) {
@@ -94,86 +256,136 @@ public class Simulation implements Runnable {
 
     public void stopSimulation() {
         running = false;
-        countDownLatch.countDown();
-
-        for (SimulationChangeListener observer : listeners) {
-            if (observer instanceof SimulationSaveStatistics) {
-                ((SimulationSaveStatistics) observer).close();
-            }
+        synchronized (pauseLock) {
+            pauseLock.notifyAll();
         }
     }
 
-    private void spawnFirstAnimals(
-            int numberOfAnimalsToSpawn,
-            int initialAnimalsEnergy,
-            int energyNeedToReproduce,
-            int energyUsedToReproduce,
-            MutationStrategy mutationStrategy,
-            int numberOfGenes) throws IncorrectPositionException {
+    private void spawnFirstAnimals(int numberOfAnimalsToSpawn, int initialAnimalsEnergy) throws IncorrectPositionException {
 
         Boundary mapBounds = worldMap.getMapBounds();
         int mapWidth = mapBounds.upperRight().x() + 1;
         int mapHeight = mapBounds.upperRight().y() + 1;
 
         for (int i = 0; i < numberOfAnimalsToSpawn; i++) {
-            Vector2d positionToSpawnAnimal = new Vector2d(rand.nextInt(mapWidth), rand.nextInt(mapHeight));
-            Animal animal = new Animal(positionToSpawnAnimal, numberOfGenes, initialAnimalsEnergy, energyNeedToReproduce, energyUsedToReproduce, mutationStrategy);
+            Vector2d positionToSpawnAnimal = new Vector2d(spawnRandom.nextInt(mapWidth), spawnRandom.nextInt(mapHeight));
+            Animal animal = population.spawnAnimal(positionToSpawnAnimal, initialAnimalsEnergy);
             worldMap.place(animal);
+            statistics.registerSpawnedAnimal(animal);
         }
     }
 
-    private void rotateAnimals() {
-        Collection<Animal> animals = worldMap.getOrderedAnimals();
+    void rotateAnimals() {
+        if (isParallelExecution()) {
+            IntStream.range(0, population.size()).parallel().forEach(population::rotate);
+            return;
+        }
 
-        for (Animal animal : animals) {
-            animal.rotate();
+        for (int slot = 0; slot < population.size(); slot++) {
+            population.rotate(slot);
         }
     }
 
-    private void moveAnimals() {
-        Collection<Animal> animals = worldMap.getOrderedAnimals();
+    void moveAnimals() {
+        if (isParallelExecution()) {
+            statistics.registerMovedAnimals(worldMap.moveAnimalsInRowBands(ForkJoinPool.getCommonPoolParallelism() * ROW_BANDS_PER_THREAD));
+            return;
+        }
 
-        for (Animal animal : animals) {
-            worldMap.move(animal);
+        int numberOfMovedAnimals = 0;
+        for (int slot = 0; slot < population.size(); slot++) {
+            if (worldMap.move(population.getAnimal(slot))) {
+                numberOfMovedAnimals++;
+            }
         }
+        statistics.registerMovedAnimals(numberOfMovedAnimals);
     }
 
-    private void removeDeadAnimals() {
-        Collection<Animal> allAnimalsOnMap = worldMap.getOrderedAnimals();
-        for (Animal animal : allAnimalsOnMap) {
-            if (!animal.isAnimalAlive()) {
+    private boolean isParallelExecution() {
+        return simulationParameters.executionVariant() == ExecutionVariant.PARALLEL
+                && population.size() >= simulationParameters.parallelPopulationThreshold();
+    }
+
+    void removeDeadAnimals() {
+        for (int slot = population.size() - 1; slot >= 0; slot--) {
+            if (!population.isAlive(slot)) {
+                Animal animal = population.getAnimal(slot);
                 statistics.registerDeadAnimal(animal);
                 worldMap.removeAnimal(animal);
+                population.remove(slot);
             }
         }
     }
 
-    private void consumePlantsAndReproduce() throws IncorrectPositionException {
-        for (Vector2d position : worldMap.getAllAnimalsPositions()) {
+    void consumePlantsAndReproduce() throws IncorrectPositionException {
+        List<Vector2d> occupiedPositions = worldMap.getOrderedAnimalsPositions();
+        int numberOfChunks = isParallelExecution()
+                ? Math.min(occupiedPositions.size(), ForkJoinPool.getCommonPoolParallelism() * CELL_CHUNKS_PER_THREAD)
+                : 1;
+
+        List<FeedingBuffer> feedingBuffers = new ArrayList<>(numberOfChunks);
+        for (int chunk = 0; chunk < numberOfChunks; chunk++) {
+            feedingBuffers.add(new FeedingBuffer());
+        }
 
-            Optional<List<Animal>> animalsAtPosition = worldMap.animalsAt(position);
-            List<Animal> resolvedConflictsAnimals = resolveAnimalsConflicts(animalsAtPosition.get());
+        IntStream chunks = IntStream.range(0, numberOfChunks);
+        (numberOfChunks > 1 ? chunks.parallel() : chunks).forEach(chunk -> feedAnimalsAtPositions(
+                occupiedPositions.subList(chunk * occupiedPositions.size() / numberOfChunks, (chunk + 1) * occupiedPositions.size() / numberOfChunks),
+                feedingBuffers.get(chunk)
+        ));
 
-            if (worldMap.isGrassAt(position)) {
+        for (FeedingBuffer feedingBuffer : feedingBuffers) {
+            for (Vector2d position : feedingBuffer.getEatenGrassPositions()) {
                 worldMap.removeGrass(position);
-                resolvedConflictsAnimals.getFirst().eat(simulationParameters.energyFromGrass());
             }
+            statistics.registerEatenPlants(feedingBuffer.getEatenGrassPositions().size(), simulationParameters.energyFromGrass());
+        }
 
-            if (resolvedConflictsAnimals.size() < 2) {
-                continue;
+        for (FeedingBuffer feedingBuffer : feedingBuffers) {
+            for (int newborn = 0; newborn < feedingBuffer.getNumberOfNewborns(); newborn++) {
+                Animal firstParent = feedingBuffer.getFirstParent(newborn);
+                Animal secondParent = feedingBuffer.getSecondParent(newborn);
+                Animal kid = Animal.reproduce(firstParent, secondParent);
+                worldMap.place(kid);
+                statistics.registerBornAnimal(kid);
+
+                for (AnimalBirthListener listener : birthListeners) {
+                    listener.handleAnimalBirth(firstParent, secondParent, kid);
+                }
+            }
+        }
+    }
+
+    private void feedAnimalsAtPositions(List<Vector2d> positions, FeedingBuffer feedingBuffer) {
+        for (Vector2d position : positions) {
+            Animal strongestAnimal = null;
+            Animal secondStrongestAnimal = null;
+
+            for (Animal animal : worldMap.animalsAt(position).get()) {
+                if (strongestAnimal == null || ANIMALS_CONFLICTS_ORDER.compare(animal, strongestAnimal) < 0) {
+                    secondStrongestAnimal = strongestAnimal;
+                    strongestAnimal = animal;
+                } else if (secondStrongestAnimal == null || ANIMALS_CONFLICTS_ORDER.compare(animal, secondStrongestAnimal) < 0) {
+                    secondStrongestAnimal = animal;
+                }
+            }
+
+            if (worldMap.isGrassAt(position)) {
+                feedingBuffer.addEatenGrass(position);
+                strongestAnimal.eat(simulationParameters.energyFromGrass());
             }
 
-            Animal parent1 = resolvedConflictsAnimals.get(0);
-            Animal parent2 = resolvedConflictsAnimals.get(1);
+            if (secondStrongestAnimal == null) {
+                continue;
+            }
 
-            if (parent1.getCurrentEnergy() >= simulationParameters.energyNeedToReproduce() && parent2.getCurrentEnergy() >= simulationParameters.energyNeedToReproduce()) {
-                worldMap.place(Animal.reproduce(parent1,parent2));
+            if (strongestAnimal.getCurrentEnergy() >= simulationParameters.energyNeedToReproduce() && secondStrongestAnimal.getCurrentEnergy() >= simulationParameters.energyNeedToReproduce()) {
+                feedingBuffer.addParents(strongestAnimal, secondStrongestAnimal);
             }
         }
     }
 
     private void SimulationChangeEvent(SimulationEventType eventType) {
-        countDownLatch = new CountDownLatch(1);
         StatisticsRecord statisticsRecord = statistics.getStatisticsRecord();
 
         for (SimulationChangeListener observer : listeners) {
@@ -181,40 +393,99 @@ public class Simulation implements Runnable {
         }
     }
 
+    public void simulateDay() throws IncorrectPositionException {
+        try {
+            simulateDay(NO_WAIT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void simulateDay(PhaseBarrier phaseBarrier) throws IncorrectPositionException, InterruptedException {
+        metrics.startDay(currentDay, population.size());
+        removeDeadAnimals();
+        notifyListeners(SimulationEventType.ANIMALS_REMOVED, SimulationPhase.REMOVE_DEAD);
+        phaseBarrier.await(false);
+        rotateAnimals();
+        notifyListeners(SimulationEventType.ANIMALS_ROTATED, SimulationPhase.ROTATE);
+        phaseBarrier.await(false);
+        moveAnimals();
+        notifyListeners(SimulationEventType.ANIMALS_MOVED, SimulationPhase.MOVE);
+        phaseBarrier.await(false);
+        consumePlantsAndReproduce();
+        notifyListeners(SimulationEventType.FOOD_CONSUMED, SimulationPhase.EAT_AND_REPRODUCE);
+        phaseBarrier.await(false);
+        worldMap.spawnGrass(simulationParameters.numberOfGrassGrowingEveryDay(), grassRandom);
+        notifyListeners(SimulationEventType.GRASS_SPAWNED, SimulationPhase.SPAWN_GRASS);
+        phaseBarrier.await(false);
+
+        statistics.updateStatistics(worldMap, currentDay);
+        notifyListeners(SimulationEventType.DAY_ENDED, SimulationPhase.STATISTICS);
+        population.setCurrentDay(++currentDay);
+        phaseBarrier.await(true);
+        metrics.endDay();
+    }
+
+    private void notifyListeners(SimulationEventType eventType, SimulationPhase finishedPhase) {
+        metrics.endPhase(finishedPhase);
+        SimulationChangeEvent(eventType);
+        metrics.endPhase(SimulationPhase.LISTENERS);
+    }
+
+    private void waitForNextPhase(boolean dayEnded) throws InterruptedException {
+        if (dayEnded) {
+            runTasks(dayEndTasks);
+        } else {
+            Thread.sleep(coolDown);
+        }
+        awaitResume();
+        metrics.endPhase(SimulationPhase.WAIT);
+    }
+
+    private void awaitResume() throws InterruptedException {
+        runTasks(simulationThreadTasks);
+
+        synchronized (pauseLock) {
+            while (paused && running) {
+                pauseLock.wait();
+                runTasks(simulationThreadTasks);
+            }
+        }
+    }
+
+    private void runTasks(Queue<Runnable> tasks) {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+
     @Override
     public void run() {
+        metrics.registerMBean(worldMap.getId().toString());
         try {
             while (running) {
-                removeDeadAnimals();
-                SimulationChangeEvent(SimulationEventType.ANIMALS_REMOVED);
-                Thread.sleep(coolDown);
-                countDownLatch.await();
-                rotateAnimals();
-                SimulationChangeEvent(SimulationEventType.ANIMALS_ROTATED);
-                Thread.sleep(coolDown);
-                countDownLatch.await();
-                moveAnimals();
-                SimulationChangeEvent(SimulationEventType.ANIMALS_MOVED);
-                Thread.sleep(coolDown);
-                countDownLatch.await();
-                consumePlantsAndReproduce();
-                SimulationChangeEvent(SimulationEventType.FOOD_CONSUMED);
-                Thread.sleep(coolDown);
-                countDownLatch.await();
-                worldMap.spawnGrass(simulationParameters.numberOfGrassGrowingEveryDay());
-                SimulationChangeEvent(SimulationEventType.GRASS_SPAWNED);
-                Thread.sleep(coolDown);
-                countDownLatch.await();
-
-                statistics.updateStatistics(worldMap, currentDay);
-                SimulationChangeEvent(SimulationEventType.DAY_ENDED);
-                currentDay++;
-                countDownLatch.await();
+                simulateDay(this::waitForNextPhase);
             }
+            runTasks(dayEndTasks);
         } catch (IncorrectPositionException e) {
             System.err.printf("Error while running Simulation: %s%n", e.getMessage());
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
+        } finally {
+            metrics.unregisterMBean();
+            for (SimulationChangeListener observer : listeners) {
+                if (observer instanceof SimulationSaveStatistics) {
+                    ((SimulationSaveStatistics) observer).close();
+                } else if (observer instanceof FrameSnapshotPublisher) {
+                    ((FrameSnapshotPublisher) observer).close();
+                }
+            }
         }
     }
+
+    @FunctionalInterface
+    private interface PhaseBarrier {
+        void await(boolean dayEnded) throws InterruptedException;
+    }
 }
\ No newline at end of file
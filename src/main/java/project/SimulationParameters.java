@@ -1,5 +1,7 @@
 package project;
 
+import project.model.maps.MapStorageVariant;
+import project.presenter.ExecutionVariant;
 import project.presenter.GrowthGrassVariant;
 import project.presenter.MutationVariant;
 
@@ -18,8 +20,36 @@ public record SimulationParameters(
         int maximumNumberOfMutation,
         MutationVariant mutationVariant,
         int numberOfGenes,
-        boolean collectStatistics
+        boolean collectStatistics,
+        MapStorageVariant mapStorageVariant,
+        ExecutionVariant executionVariant,
+        int parallelPopulationThreshold,
+        Long seed
 ) {
+    public static final int DEFAULT_PARALLEL_POPULATION_THRESHOLD = 2000;
+    public static final int MAX_MAP_SIZE = 1000;
+    public static final int MAX_CHUNKED_MAP_SIZE = 46340;
+
+    public SimulationParameters(
+            int mapHeight,
+            int mapWidth,
+            GrowthGrassVariant growthGrassVariant,
+            int numberOfGrassOnMap,
+            int energyFromGrass,
+            int numberOfGrassGrowingEveryDay,
+            int startNumberOfAnimals,
+            int initialAnimalsEnergy,
+            int energyNeedToReproduce,
+            int energyUsedToReproduce,
+            int minimalNumberOfMutation,
+            int maximumNumberOfMutation,
+            MutationVariant mutationVariant,
+            int numberOfGenes,
+            boolean collectStatistics
+    ) {
+        this(mapHeight, mapWidth, growthGrassVariant, numberOfGrassOnMap, energyFromGrass, numberOfGrassGrowingEveryDay, startNumberOfAnimals, initialAnimalsEnergy, energyNeedToReproduce, energyUsedToReproduce, minimalNumberOfMutation, maximumNumberOfMutation, mutationVariant, numberOfGenes, collectStatistics, MapStorageVariant.HASH_MAP, ExecutionVariant.SEQUENTIAL, DEFAULT_PARALLEL_POPULATION_THRESHOLD, null);
+    }
+
     public SimulationParameters(
             String mapHeight,
             String mapWidth,
@@ -36,10 +66,34 @@ public record SimulationParameters(
             MutationVariant mutationVariant,
             String numberOfGenes,
             boolean collectStatistics
+    ) {
+        this(mapHeight, mapWidth, growthGrassVariant, numberOfGrassOnMap, energyFromGrass, numberOfGrassGrowingEveryDay, startNumberOfAnimals, initialAnimalsEnergy, energyNeedToReproduce, energyUsedToReproduce, minimalNumberOfMutation, maximumNumberOfMutation, mutationVariant, numberOfGenes, collectStatistics, MapStorageVariant.HASH_MAP, ExecutionVariant.SEQUENTIAL, String.valueOf(DEFAULT_PARALLEL_POPULATION_THRESHOLD), "");
+    }
+
+    public SimulationParameters(
+            String mapHeight,
+            String mapWidth,
+            GrowthGrassVariant growthGrassVariant,
+            String numberOfGrassOnMap,
+            String energyFromGrass,
+            String numberOfGrassGrowingEveryDay,
+            String startNumberOfAnimals,
+            String initialAnimalsEnergy,
+            String energyNeedToReproduce,
+            String energyUsedToReproduce,
+            String minimalNumberOfMutation,
+            String maximumNumberOfMutation,
+            MutationVariant mutationVariant,
+            String numberOfGenes,
+            boolean collectStatistics,
+            MapStorageVariant mapStorageVariant,
+            ExecutionVariant executionVariant,
+            String parallelPopulationThreshold,
+            String seed
     ) {
         this(
-                checkMapSize(mapHeight),
-                checkMapSize(mapWidth),
+                checkMapSize(mapHeight, mapStorageVariant),
+                checkMapSize(mapWidth, mapStorageVariant),
                 growthGrassVariant,
                 checkParametersGraterOrEqualThanZero(numberOfGrassOnMap, "Initial number of Grass"),
                 checkParametersGraterThanZero(energyFromGrass, "Energy from grass"),
@@ -52,19 +106,24 @@ public record SimulationParameters(
                 checkParametersGraterOrEqualThanZero(maximumNumberOfMutation, "Maximum number of Mutations"),
                 mutationVariant,
                 checkParametersGraterThanZero(numberOfGenes, "Number of Genes"),
-                collectStatistics
+                collectStatistics,
+                mapStorageVariant,
+                executionVariant,
+                checkParametersGraterOrEqualThanZero(parallelPopulationThreshold, "Parallel population threshold"),
+                seed.isBlank() ? null : Long.parseLong(seed.trim())
         );
 
         checkDependenceBetweenParameters();
     }
-    private static int checkMapSize(String mapSize) {
+    private static int checkMapSize(String mapSize, MapStorageVariant mapStorageVariant) {
         if (mapSize.isEmpty())
             throw new IllegalArgumentException("Missing Map Size");
 
         int size = Integer.parseInt(mapSize);
+        int maxMapSize = (mapStorageVariant == MapStorageVariant.CHUNKED) ? MAX_CHUNKED_MAP_SIZE : MAX_MAP_SIZE;
 
-        if (size < 0 || size > 200)
-            throw new IllegalArgumentException("Map Size must be between 1 and 200");
+        if (size < 0 || size > maxMapSize)
+            throw new IllegalArgumentException("Map Size must be between 1 and %d".formatted(maxMapSize));
 
         return size;
     }
@@ -0,0 +1,167 @@
+package project;
+
+import project.listener.FrameSnapshotPublisher;
+import project.metrics.SimulationMetrics;
+import project.model.maps.IncorrectPositionException;
+import project.presenter.SimulationPresets;
+import project.replay.ReplayRecorder;
+import project.statistics.StatisticsFileWriter;
+import project.statistics.StatisticsRecord;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class WorldHeadless {
+    private static final String USAGE = "Usage: WorldHeadless <preset name | path to preset .csv> <number of days> [statistics file] [options]\n"
+            + "       WorldHeadless --resume <checkpoint file> <number of days> [statistics file] [options]\n"
+            + "Options: --checkpoint <file> --checkpoint-every <number of days> --compress --replay <file>";
+
+    public static void main(String[] args) {
+        Path resumePath = null;
+        Path checkpointPath = null;
+        int checkpointInterval = 0;
+        boolean compressCheckpoints = false;
+        Path replayPath = null;
+        List<String> positionalArgs = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--resume" -> resumePath = Path.of(optionValue(args, ++i));
+                    case "--checkpoint" -> checkpointPath = Path.of(optionValue(args, ++i));
+                    case "--checkpoint-every" -> checkpointInterval = Integer.parseInt(optionValue(args, ++i));
+                    case "--compress" -> compressCheckpoints = true;
+                    case "--replay" -> replayPath = Path.of(optionValue(args, ++i));
+                    default -> positionalArgs.add(args[i]);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+
+        int numberOfPresetArgs = (resumePath == null) ? 1 : 0;
+        if (positionalArgs.size() < numberOfPresetArgs + 1 || positionalArgs.size() > numberOfPresetArgs + 2) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+
+        try {
+            Simulation simulation = (resumePath == null)
+                    ? new Simulation(loadParameters(positionalArgs.getFirst()))
+                    : Simulation.fromCheckpoint(resumePath);
+            int numberOfDays = Integer.parseInt(positionalArgs.get(numberOfPresetArgs));
+            Path statisticsPath = (positionalArgs.size() > numberOfPresetArgs + 1) ? Path.of(positionalArgs.getLast()) : null;
+
+            if (numberOfDays <= 0) {
+                throw new IllegalArgumentException("Number of days must be grater than 0");
+            }
+            if (checkpointInterval < 0 || (checkpointInterval > 0 && checkpointPath == null)) {
+                throw new IllegalArgumentException("Checkpoint interval must be positive and requires --checkpoint");
+            }
+
+            if (replayPath == null) {
+                runSimulation(simulation, numberOfDays, statisticsPath, new CheckpointSchedule(checkpointPath, checkpointInterval, compressCheckpoints));
+            } else {
+                try (ReplayRecorder replayRecorder = new ReplayRecorder(simulation, replayPath)) {
+                    FrameSnapshotPublisher framePublisher = new FrameSnapshotPublisher(simulation);
+                    framePublisher.addFrameListener(replayRecorder);
+                    simulation.addObserver(framePublisher);
+                    runSimulation(simulation, numberOfDays, statisticsPath, new CheckpointSchedule(checkpointPath, checkpointInterval, compressCheckpoints));
+                }
+            }
+        } catch (IllegalArgumentException | IllegalStateException | IOException | IncorrectPositionException e) {
+            System.err.printf("Error while running headless Simulation: %s%n", e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static String optionValue(String[] args, int index) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Option %s requires a value".formatted(args[index - 1]));
+        }
+        return args[index];
+    }
+
+    private static SimulationParameters loadParameters(String preset) throws IOException {
+        Path presetPath = Path.of(preset);
+        if (Files.isRegularFile(presetPath)) {
+            return SimulationPresets.loadParametersFromFile(presetPath);
+        }
+
+        SimulationPresets.getCorrectFilesNames();
+        SimulationParameters simulationParameters = SimulationPresets.loadParameters(preset);
+
+        if (simulationParameters == null) {
+            throw new IllegalArgumentException("Preset %s not found".formatted(preset));
+        }
+        return simulationParameters;
+    }
+
+    private static void runSimulation(Simulation simulation, int numberOfDays, Path statisticsPath, CheckpointSchedule checkpointSchedule) throws IncorrectPositionException, IOException {
+        SimulationMetrics metrics = simulation.getMetrics();
+        metrics.registerMBean(simulation.getWorldMap().getId().toString());
+        try {
+            simulateDays(simulation, numberOfDays, statisticsPath, checkpointSchedule);
+        } finally {
+            metrics.unregisterMBean();
+        }
+    }
+
+    private static void simulateDays(Simulation simulation, int numberOfDays, Path statisticsPath, CheckpointSchedule checkpointSchedule) throws IncorrectPositionException, IOException {
+        long startTime = System.nanoTime();
+        if (statisticsPath == null) {
+            for (int i = 0; i < numberOfDays; i++) {
+                simulation.simulateDay();
+                checkpointSchedule.afterDay(simulation, i + 1 == numberOfDays);
+            }
+        } else {
+            try (StatisticsFileWriter statisticsWriter = openStatisticsWriter(statisticsPath, simulation)) {
+                for (int i = 0; i < numberOfDays; i++) {
+                    simulation.simulateDay();
+                    statisticsWriter.write(simulation.getStatistics().getStatisticsRecord());
+                    checkpointSchedule.afterDay(simulation, i + 1 == numberOfDays);
+                }
+            }
+        }
+        double elapsedSeconds = (System.nanoTime() - startTime) / 1_000_000_000.0;
+
+        System.out.printf("Simulated %d days in %.3f s (%.1f days/s)%n", numberOfDays, elapsedSeconds, numberOfDays / elapsedSeconds);
+        System.out.printf("Seed: %d%n", simulation.getSeed());
+        checkpointSchedule.printSummary();
+        printPhases(simulation.getMetrics());
+        printStatistics(simulation.getStatistics().getStatisticsRecord());
+    }
+
+    private static StatisticsFileWriter openStatisticsWriter(Path statisticsPath, Simulation simulation) throws IOException {
+        if (simulation.getCurrentDay() == 0) {
+            return new StatisticsFileWriter(statisticsPath);
+        }
+        return StatisticsFileWriter.continueFrom(statisticsPath, simulation.getCurrentDay());
+    }
+
+    private static void printPhases(SimulationMetrics metrics) {
+        for (String phaseSummary : metrics.getPhaseSummary()) {
+            System.out.println(phaseSummary);
+        }
+    }
+
+    private static void printStatistics(StatisticsRecord statisticsRecord) {
+        String mostPopularGenotype = statisticsRecord.mostPopularGenotype()
+                .map(genotypeCount -> "%s (%d)".formatted(genotypeCount.genotype(), genotypeCount.count()))
+                .orElse("-");
+
+        System.out.printf("Day: %d%n", statisticsRecord.day());
+        System.out.printf("Animals: %d%n", statisticsRecord.animalsCount());
+        System.out.printf("Grass: %d%n", statisticsRecord.plantsCount());
+        System.out.printf("Empty fields: %d%n", statisticsRecord.emptyFieldsCount());
+        System.out.printf("Average energy: %.2f%n", statisticsRecord.averageEnergy());
+        System.out.printf("Average life length: %.2f%n", statisticsRecord.averageLifeLength());
+        System.out.printf("Average children count: %.2f%n", statisticsRecord.averageChildrenCount());
+        System.out.printf("Most popular genotype: %s%n", mostPopularGenotype);
+    }
+}
@@ -0,0 +1,41 @@
+package project;
+
+import project.statistics.StatisticsColumn;
+import project.statistics.StatisticsFileReader;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+public class WorldStatistics {
+    private static final String USAGE = "Usage: WorldStatistics <statistics file> <csv file> | WorldStatistics <statistics file> <column> <from day> <to day>";
+
+    public static void main(String[] args) {
+        if (args.length != 2 && args.length != 4) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+
+        try (StatisticsFileReader reader = new StatisticsFileReader(Path.of(args[0]))) {
+            if (args.length == 2) {
+                reader.writeCsv(Path.of(args[1]));
+                System.out.printf("Converted days %d..%d to %s%n", reader.getFirstDay(), reader.getLastDay(), args[1]);
+                return;
+            }
+
+            StatisticsColumn column = Arrays.stream(StatisticsColumn.values())
+                    .filter(statisticsColumn -> statisticsColumn.getColumnName().equals(args[1]) || statisticsColumn.name().equals(args[1]))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown column %s".formatted(args[1])));
+            int fromDay = Integer.parseInt(args[2]);
+            double[] values = reader.readDoubleColumn(column, fromDay, Integer.parseInt(args[3]));
+
+            for (int i = 0; i < values.length; i++) {
+                System.out.printf("%d,%s%n", fromDay + i, values[i]);
+            }
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | IOException e) {
+            System.err.printf("Error while reading statistics: %s%n", e.getMessage());
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package project;
+
+import project.sweep.ParameterSweep;
+import project.sweep.SweepRunResult;
+import project.sweep.SweepRunner;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+public class WorldSweep {
+    private static final String USAGE = "Usage: WorldSweep <path to sweep .csv> <number of days> <path to results .csv> [number of threads]";
+
+    public static void main(String[] args) {
+        if (args.length < 3 || args.length > 4) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+
+        try {
+            ParameterSweep parameterSweep = ParameterSweep.fromFile(Path.of(args[0]));
+            int numberOfDays = Integer.parseInt(args[1]);
+            Path resultsFilePath = Path.of(args[2]);
+            SweepRunner sweepRunner = (args.length == 4) ? new SweepRunner(Integer.parseInt(args[3])) : new SweepRunner();
+
+            System.out.printf("Running %d simulations for %d days on %d threads%n", parameterSweep.getNumberOfRuns(), numberOfDays, sweepRunner.getNumberOfThreads());
+            long startTime = System.nanoTime();
+            List<SweepRunResult> runResults = sweepRunner.run(parameterSweep, numberOfDays, resultsFilePath, WorldSweep::printProgress);
+            double elapsedSeconds = (System.nanoTime() - startTime) / 1_000_000_000.0;
+
+            long numberOfFailedRuns = runResults.stream().filter(SweepRunResult::failed).count();
+            System.out.printf("Finished %d runs in %.3f s (%d failed)%n", runResults.size(), elapsedSeconds, numberOfFailedRuns);
+            System.out.printf("Results: %s%n", resultsFilePath);
+        } catch (IllegalArgumentException | IOException e) {
+            System.err.printf("Error while running parameter sweep: %s%n", e.getMessage());
+            System.exit(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.exit(1);
+        }
+    }
+
+    private static void printProgress(SweepRunResult runResult, int numberOfFinishedRuns, int numberOfRuns) {
+        if (runResult.failed()) {
+            System.out.printf("[%d/%d] Run %d failed after %d days: %s%n", numberOfFinishedRuns, numberOfRuns, runResult.runId(), runResult.simulatedDays(), runResult.error());
+        } else {
+            System.out.printf("[%d/%d] Run %d finished in %.3f s (seed %d)%n", numberOfFinishedRuns, numberOfRuns, runResult.runId(), runResult.elapsedSeconds(), runResult.seed());
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package project.checkpoint;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+public class CheckpointFile {
+    private static final int MAGIC = 0x44574350;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 2 * Integer.BYTES + Byte.BYTES + Integer.BYTES;
+
+    private CheckpointFile() {
+    }
+
+    public static void write(Path path, CheckpointOutput output, boolean compressed) throws IOException {
+        ByteBuffer content = output.toByteBuffer();
+        int contentSize = content.remaining();
+        if (compressed) {
+            content = deflate(content);
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .put((byte) (compressed ? 1 : 0))
+                .putInt(contentSize)
+                .flip();
+
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer[] buffers = {header, content};
+            while (header.hasRemaining() || content.hasRemaining()) {
+                channel.write(buffers);
+            }
+        }
+        Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static CheckpointInput read(Path path) throws IOException {
+        ByteBuffer file;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE || channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("%s is not a simulation checkpoint".formatted(path));
+            }
+            file = ByteBuffer.allocate((int) channel.size());
+            while (file.hasRemaining() && channel.read(file) >= 0) {
+            }
+        }
+        file.flip().order(ByteOrder.LITTLE_ENDIAN);
+
+        if (file.getInt() != MAGIC) {
+            throw new IOException("%s is not a simulation checkpoint".formatted(path));
+        }
+        int version = file.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported checkpoint version %d".formatted(version));
+        }
+        boolean compressed = file.get() != 0;
+        int contentSize = file.getInt();
+
+        return new CheckpointInput(compressed ? inflate(file, contentSize, path) : file.slice());
+    }
+
+    private static ByteBuffer deflate(ByteBuffer content) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        deflater.setInput(content);
+        deflater.finish();
+
+        ByteBuffer compressedContent = ByteBuffer.allocate(Math.max(1024, content.remaining() / 2));
+        while (!deflater.finished()) {
+            if (!compressedContent.hasRemaining()) {
+                compressedContent = ByteBuffer.allocate(compressedContent.capacity() * 2).put(compressedContent.flip());
+            }
+            deflater.deflate(compressedContent);
+        }
+        deflater.end();
+        return compressedContent.flip();
+    }
+
+    private static ByteBuffer inflate(ByteBuffer compressedContent, int contentSize, Path path) throws IOException {
+        Inflater inflater = new Inflater();
+        inflater.setInput(compressedContent);
+
+        ByteBuffer content = ByteBuffer.allocate(contentSize);
+        try {
+            while (content.hasRemaining() && !inflater.finished()) {
+                if (inflater.inflate(content) == 0 && inflater.needsInput()) {
+                    throw new IOException("Checkpoint %s is truncated".formatted(path));
+                }
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Checkpoint %s is corrupted: %s".formatted(path, e.getMessage()));
+        } finally {
+            inflater.end();
+        }
+        return content.flip();
+    }
+}
@@ -0,0 +1,53 @@
+package project.checkpoint;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+public class CheckpointInput {
+    private final ByteBuffer buffer;
+
+    CheckpointInput(ByteBuffer buffer) {
+        this.buffer = buffer.order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    public byte getByte() {
+        return buffer.get();
+    }
+
+    public boolean getBoolean() {
+        return buffer.get() != 0;
+    }
+
+    public int getInt() {
+        return buffer.getInt();
+    }
+
+    public long getLong() {
+        return buffer.getLong();
+    }
+
+    public String getString() {
+        byte[] encodedValue = new byte[buffer.getInt()];
+        buffer.get(encodedValue);
+        return new String(encodedValue, StandardCharsets.UTF_8);
+    }
+
+    public void getBytes(byte[] values, int offset, int length) {
+        buffer.get(values, offset, length);
+    }
+
+    public void getInts(int[] values, int offset, int length) {
+        buffer.asIntBuffer().get(values, offset, length);
+        buffer.position(buffer.position() + length * Integer.BYTES);
+    }
+
+    public void getLongs(long[] values, int offset, int length) {
+        buffer.asLongBuffer().get(values, offset, length);
+        buffer.position(buffer.position() + length * Long.BYTES);
+    }
+
+    public boolean hasRemaining() {
+        return buffer.hasRemaining();
+    }
+}
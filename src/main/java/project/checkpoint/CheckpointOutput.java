@@ -0,0 +1,68 @@
+package project.checkpoint;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+public class CheckpointOutput {
+    private static final int INITIAL_CAPACITY = 64 * 1024;
+
+    private ByteBuffer buffer = ByteBuffer.allocate(INITIAL_CAPACITY).order(ByteOrder.LITTLE_ENDIAN);
+
+    public CheckpointOutput putByte(byte value) {
+        ensureRemaining(Byte.BYTES).put(value);
+        return this;
+    }
+
+    public CheckpointOutput putBoolean(boolean value) {
+        return putByte((byte) (value ? 1 : 0));
+    }
+
+    public CheckpointOutput putInt(int value) {
+        ensureRemaining(Integer.BYTES).putInt(value);
+        return this;
+    }
+
+    public CheckpointOutput putLong(long value) {
+        ensureRemaining(Long.BYTES).putLong(value);
+        return this;
+    }
+
+    public CheckpointOutput putString(String value) {
+        byte[] encodedValue = value.getBytes(StandardCharsets.UTF_8);
+        putInt(encodedValue.length);
+        return putBytes(encodedValue, 0, encodedValue.length);
+    }
+
+    public CheckpointOutput putBytes(byte[] values, int offset, int length) {
+        ensureRemaining(length).put(values, offset, length);
+        return this;
+    }
+
+    public CheckpointOutput putInts(int[] values, int offset, int length) {
+        ensureRemaining(length * Integer.BYTES).asIntBuffer().put(values, offset, length);
+        buffer.position(buffer.position() + length * Integer.BYTES);
+        return this;
+    }
+
+    public CheckpointOutput putLongs(long[] values, int offset, int length) {
+        ensureRemaining(length * Long.BYTES).asLongBuffer().put(values, offset, length);
+        buffer.position(buffer.position() + length * Long.BYTES);
+        return this;
+    }
+
+    ByteBuffer toByteBuffer() {
+        return buffer.duplicate().flip();
+    }
+
+    private ByteBuffer ensureRemaining(int length) {
+        if (buffer.remaining() < length) {
+            int capacity = buffer.capacity();
+            while (capacity - buffer.position() < length) {
+                capacity *= 2;
+            }
+            buffer = ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN).put(buffer.flip());
+        }
+        return buffer;
+    }
+}
@@ -0,0 +1,9 @@
+package project.listener;
+
+import project.model.worldElements.Animal;
+
+@FunctionalInterface
+public interface AnimalBirthListener {
+
+    void handleAnimalBirth(Animal firstParent, Animal secondParent, Animal kid);
+}
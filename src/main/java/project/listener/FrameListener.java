@@ -0,0 +1,7 @@
+package project.listener;
+
+@FunctionalInterface
+public interface FrameListener {
+
+    void handleFrame(FrameSnapshot frame);
+}
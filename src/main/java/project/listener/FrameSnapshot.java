@@ -0,0 +1,111 @@
+package project.listener;
+
+import project.model.Vector2d;
+import project.model.worldElements.MapDirection;
+import project.statistics.AnimalStatisticsRecord;
+import project.statistics.GenotypeCount;
+import project.statistics.StatisticsRecord;
+
+import java.util.List;
+
+public class FrameSnapshot {
+    public static final byte GRASS = 1;
+    public static final byte FREE_PREFERRED_FIELD = 2;
+    public static final byte TOP_GENOTYPE_ANIMAL = 4;
+    public static final byte TRACKED_ANIMAL = 8;
+    public static final byte ANIMAL = 16;
+
+    private final long version;
+    private final int day;
+    private final SimulationEventType eventType;
+    private final int mapWidth;
+    private final int mapHeight;
+
+    private final byte[] cellsOrientations;
+    private final int[] cellsEnergies;
+    private final byte[] cellsFlags;
+
+    private final StatisticsRecord statisticsRecord;
+    private final List<GenotypeCount> topGenotypes;
+    private final AnimalStatisticsRecord trackedAnimalStatistics;
+
+    public FrameSnapshot(long version, int day, SimulationEventType eventType, int mapWidth, int mapHeight,
+                  byte[] cellsOrientations, int[] cellsEnergies, byte[] cellsFlags,
+                  StatisticsRecord statisticsRecord, List<GenotypeCount> topGenotypes, AnimalStatisticsRecord trackedAnimalStatistics) {
+        this.version = version;
+        this.day = day;
+        this.eventType = eventType;
+        this.mapWidth = mapWidth;
+        this.mapHeight = mapHeight;
+        this.cellsOrientations = cellsOrientations;
+        this.cellsEnergies = cellsEnergies;
+        this.cellsFlags = cellsFlags;
+        this.statisticsRecord = statisticsRecord;
+        this.topGenotypes = topGenotypes;
+        this.trackedAnimalStatistics = trackedAnimalStatistics;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int getDay() {
+        return day;
+    }
+
+    public SimulationEventType getEventType() {
+        return eventType;
+    }
+
+    public int getMapWidth() {
+        return mapWidth;
+    }
+
+    public int getMapHeight() {
+        return mapHeight;
+    }
+
+    public int getNumberOfCells() {
+        return mapWidth * mapHeight;
+    }
+
+    public int getCell(Vector2d position) {
+        return position.y() * mapWidth + position.x();
+    }
+
+    public Vector2d getPosition(int cell) {
+        return new Vector2d(cell % mapWidth, cell / mapWidth);
+    }
+
+    public boolean hasAnimal(int cell) {
+        return hasFlag(cell, ANIMAL);
+    }
+
+    public MapDirection getOrientation(int cell) {
+        return MapDirection.fromOrdinal(cellsOrientations[cell]);
+    }
+
+    public int getEnergy(int cell) {
+        return cellsEnergies[cell];
+    }
+
+    public boolean hasFlag(int cell, byte flag) {
+        return (cellsFlags[cell] & flag) != 0;
+    }
+
+    public byte getFlags(int cell) {
+        return cellsFlags[cell];
+    }
+
+    public StatisticsRecord getStatisticsRecord() {
+        return statisticsRecord;
+    }
+
+    public List<GenotypeCount> getTopGenotypes() {
+        return topGenotypes;
+    }
+
+    public AnimalStatisticsRecord getTrackedAnimalStatistics() {
+        return trackedAnimalStatistics;
+    }
+}
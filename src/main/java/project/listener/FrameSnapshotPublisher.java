@@ -0,0 +1,221 @@
+package project.listener;
+
+import project.Simulation;
+import project.model.Vector2d;
+import project.model.maps.WorldMap;
+import project.model.worldElements.Animal;
+import project.statistics.AnimalStatistics;
+import project.statistics.AnimalStatisticsRecord;
+import project.statistics.GenotypeCount;
+import project.statistics.StatisticsRecord;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class FrameSnapshotPublisher implements SimulationChangeListener, FrameSource, AutoCloseable {
+    public static final int TOP_GENOTYPES_LIMIT = 5;
+
+    private final Simulation simulation;
+    private final Object framesLock = new Object();
+    private final List<FrameBuffers> framesBuffers = new ArrayList<>();
+    private FrameSnapshot latestFrame;
+    private FrameSnapshot takenFrame;
+    private FrameSnapshot listenersFrame;
+    private final AtomicBoolean frameRequested = new AtomicBoolean(true);
+    private final List<FrameListener> frameListeners = new ArrayList<>();
+    private boolean framePending = false;
+    private long version = 0;
+
+    private WorldMap worldMap;
+    private SimulationEventType eventType;
+    private StatisticsRecord statisticsRecord;
+    private List<GenotypeCount> topGenotypes = List.of();
+    private final Set<Long> topGenotypesIds = new HashSet<>();
+
+    private Animal trackedAnimal;
+    private AnimalStatistics trackedAnimalStatistics;
+
+    public FrameSnapshotPublisher(Simulation simulation) {
+        this.simulation = simulation;
+    }
+
+    @Override
+    public FrameSnapshot getLatestFrame() {
+        frameRequested.set(true);
+        synchronized (framesLock) {
+            takenFrame = latestFrame;
+            return latestFrame;
+        }
+    }
+
+    public void addFrameListener(FrameListener frameListener) {
+        frameListeners.add(frameListener);
+    }
+
+    @Override
+    public void close() {
+        for (FrameListener frameListener : frameListeners) {
+            if (frameListener instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    System.err.printf("Error while closing frame listener: %s%n", e.getMessage());
+                }
+            }
+        }
+    }
+
+    public void publishPendingFrame() {
+        if (framePending) {
+            frameRequested.set(false);
+            publishFrame();
+        }
+    }
+
+    public void trackAnimalAt(int cell) {
+        if (worldMap == null) {
+            return;
+        }
+
+        Vector2d position = new Vector2d(cell % worldMap.getMapWidth(), cell / worldMap.getMapWidth());
+        worldMap.animalsAt(position)
+                .map(simulation::resolveStrongestAnimal)
+                .ifPresent(this::trackAnimal);
+    }
+
+    public void trackAnimal(Animal animal) {
+        if (trackedAnimalStatistics != null) {
+            trackedAnimalStatistics.stopTracking();
+        }
+        trackedAnimal = animal;
+        trackedAnimalStatistics = new AnimalStatistics(animal, simulation);
+
+        if (worldMap != null) {
+            publishFrame();
+        }
+    }
+
+    @Override
+    public void handleChangeEvent(WorldMap worldMap, SimulationEventType eventType, StatisticsRecord statisticsRecord) {
+        this.worldMap = worldMap;
+        this.eventType = eventType;
+
+        if (statisticsRecord != this.statisticsRecord) {
+            this.statisticsRecord = statisticsRecord;
+            topGenotypes = statisticsRecord.topGenotypes(TOP_GENOTYPES_LIMIT);
+
+            topGenotypesIds.clear();
+            for (GenotypeCount genotypeCount : topGenotypes) {
+                topGenotypesIds.add(genotypeCount.genotypeId());
+            }
+        }
+
+        framePending = true;
+        if (frameRequested.getAndSet(false) || !frameListeners.isEmpty()) {
+            FrameSnapshot frame = publishFrame();
+            listenersFrame = frameListeners.isEmpty() ? null : frame;
+            for (FrameListener frameListener : frameListeners) {
+                frameListener.handleFrame(frame);
+            }
+        }
+    }
+
+    private FrameSnapshot publishFrame() {
+        int mapWidth = worldMap.getMapWidth();
+        int mapHeight = worldMap.getMapHeight();
+        framePending = false;
+
+        FrameBuffers buffers = acquireBuffers(mapWidth * mapHeight);
+        byte[] cellsOrientations = buffers.cellsOrientations;
+        int[] cellsEnergies = buffers.cellsEnergies;
+        byte[] cellsFlags = buffers.cellsFlags;
+
+        worldMap.forEachFreeGrassPreferredCell(cell -> cellsFlags[cell] |= FrameSnapshot.FREE_PREFERRED_FIELD);
+        worldMap.forEachGrassCell(cell -> cellsFlags[cell] |= FrameSnapshot.GRASS);
+
+        for (Vector2d position : worldMap.getAllAnimalsPositions()) {
+            int cell = position.y() * mapWidth + position.x();
+            List<Animal> animals = worldMap.animalsAt(position).orElseThrow();
+
+            writeAnimal(cell, simulation.resolveStrongestAnimal(animals), cellsOrientations, cellsEnergies, cellsFlags);
+            if (isAnyOfTopGenotypes(animals)) {
+                cellsFlags[cell] |= FrameSnapshot.TOP_GENOTYPE_ANIMAL;
+            }
+        }
+
+        AnimalStatisticsRecord trackedAnimalRecord = null;
+        if (trackedAnimal != null) {
+            trackedAnimalStatistics.updateStatistics();
+            trackedAnimalRecord = trackedAnimalStatistics.getRecord();
+
+            if (trackedAnimal.isAnimalAlive()) {
+                int cell = trackedAnimal.getPositionY() * mapWidth + trackedAnimal.getPositionX();
+                writeAnimal(cell, trackedAnimal, cellsOrientations, cellsEnergies, cellsFlags);
+                cellsFlags[cell] |= FrameSnapshot.TRACKED_ANIMAL;
+            }
+        }
+
+        FrameSnapshot frame = new FrameSnapshot(++version, simulation.getCurrentDay(), eventType, mapWidth, mapHeight,
+                cellsOrientations, cellsEnergies, cellsFlags, statisticsRecord, topGenotypes, trackedAnimalRecord);
+        buffers.frame = frame;
+        synchronized (framesLock) {
+            latestFrame = frame;
+        }
+        return frame;
+    }
+
+    // Buffers are reused once their frame is neither the latest one, nor taken by the view, nor kept by the frame
+    // listeners, so at most four sets are ever allocated.
+    private FrameBuffers acquireBuffers(int numberOfCells) {
+        synchronized (framesLock) {
+            for (FrameBuffers buffers : framesBuffers) {
+                FrameSnapshot frame = buffers.frame;
+                if (frame != latestFrame && frame != takenFrame && frame != listenersFrame && buffers.cellsFlags.length == numberOfCells) {
+                    buffers.frame = null;
+                    Arrays.fill(buffers.cellsFlags, (byte) 0);
+                    return buffers;
+                }
+            }
+        }
+
+        FrameBuffers buffers = new FrameBuffers(numberOfCells);
+        framesBuffers.add(buffers);
+        return buffers;
+    }
+
+    private void writeAnimal(int cell, Animal animal, byte[] cellsOrientations, int[] cellsEnergies, byte[] cellsFlags) {
+        cellsOrientations[cell] = (byte) animal.getCurrentOrientation().ordinal();
+        cellsEnergies[cell] = animal.getCurrentEnergy();
+        cellsFlags[cell] |= FrameSnapshot.ANIMAL;
+    }
+
+    private boolean isAnyOfTopGenotypes(List<Animal> animals) {
+        if (topGenotypesIds.isEmpty()) {
+            return false;
+        }
+
+        for (Animal animal : animals) {
+            if (topGenotypesIds.contains(animal.getGenotypeId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class FrameBuffers {
+        private final byte[] cellsOrientations;
+        private final int[] cellsEnergies;
+        private final byte[] cellsFlags;
+        private FrameSnapshot frame;
+
+        private FrameBuffers(int numberOfCells) {
+            cellsOrientations = new byte[numberOfCells];
+            cellsEnergies = new int[numberOfCells];
+            cellsFlags = new byte[numberOfCells];
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package project.listener;
+
+@FunctionalInterface
+public interface FrameSource {
+
+    FrameSnapshot getLatestFrame();
+}
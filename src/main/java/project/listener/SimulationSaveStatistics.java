@@ -1,80 +1,184 @@
 package project.listener;
 
 import project.model.maps.WorldMap;
+import project.statistics.GenotypeCount;
 import project.statistics.StatisticsRecord;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 public class SimulationSaveStatistics implements SimulationChangeListener, AutoCloseable {
-    private static final String HEADER = "day,animals_count,grass_count,average_energy,average_lifetime,average_kids_number,most_popular_genotype";
+    private static final String HEADER = "day,animals_count,grass_count,average_energy,average_lifetime,average_kids_number,most_popular_genotype\n";
     private static final String STATS_DIR = "simulationStatistics";
 
-    private final List<String> buffer = new ArrayList<>();
-    private final Path filePath;
+    private static final int QUEUE_CAPACITY = 4096;
+    private static final int FLUSH_SIZE = 16 * 1024;
+    private static final long FLUSH_INTERVAL_MILLIS = 1000;
+    private static final int NO_DAY = Integer.MIN_VALUE;
+
+    private final BlockingQueue<StatisticsRecord> records;
+    private final FileChannel channel;
+    private final Thread writerThread;
+    private volatile boolean closed = false;
+    private volatile int numberOfDroppedRecords = 0;
+    private volatile int lastEndedDay = NO_DAY;
+    private int lastSavedDay = NO_DAY;
+
+    private final StringBuilder line = new StringBuilder();
+    private ByteBuffer buffer = ByteBuffer.allocate(FLUSH_SIZE * 2);
 
     public SimulationSaveStatistics(WorldMap worldMap) throws IOException {
-        Path directoryPath = Paths.get(STATS_DIR);
-        Files.createDirectories(directoryPath);
+        this(Paths.get(STATS_DIR).resolve(String.format("%s.csv", worldMap.getId())));
+    }
 
-        filePath = directoryPath.resolve(String.format("%s.csv", worldMap.getId()));
+    SimulationSaveStatistics(Path filePath) throws IOException {
+        this(filePath, QUEUE_CAPACITY);
+    }
+
+    SimulationSaveStatistics(Path filePath, int queueCapacity) throws IOException {
+        records = new ArrayBlockingQueue<>(queueCapacity);
+        Path directoryPath = filePath.toAbsolutePath().getParent();
+        if (directoryPath != null) {
+            Files.createDirectories(directoryPath);
+        }
 
-        if (!Files.exists(filePath)) {
-            Files.write(filePath, List.of(HEADER), StandardOpenOption.CREATE);
+        channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        if (channel.size() == 0) {
+            appendAscii(HEADER);
         }
+
+        writerThread = new Thread(this::writeRecords, "statistics-writer-" + filePath.getFileName());
+        writerThread.setDaemon(true);
+        writerThread.start();
     }
 
     @Override
     public void handleChangeEvent(WorldMap worldMap, SimulationEventType eventType, StatisticsRecord statisticsRecord) {
-        if (eventType != SimulationEventType.DAY_ENDED) {
+        if (eventType != SimulationEventType.DAY_ENDED || closed) {
             return;
         }
 
-        Optional<Map.Entry<String, Integer>> maxGenotype = statisticsRecord.genotypesCount().entrySet()
-                .stream()
-                .max(Map.Entry.comparingByValue());
-
-        String csvLine = String.format("%d,%d,%d,%.2f,%.2f,%.2f,%s",
-                statisticsRecord.day(),
-                statisticsRecord.animalsCount(),
-                statisticsRecord.plantsCount(),
-                statisticsRecord.averageEnergy(),
-                statisticsRecord.averageLifeLength(),
-                statisticsRecord.averageChildrenCount(),
-                maxGenotype.map(Map.Entry::getKey).orElse("")
-        );
-
-        buffer.add(csvLine);
-
-        if (buffer.size() >= 20) {
-            flushBuffer();
+        lastEndedDay = statisticsRecord.day();
+        if (!records.offer(statisticsRecord)) {
+            numberOfDroppedRecords++;
         }
     }
 
+    public int getNumberOfDroppedRecords() {
+        return numberOfDroppedRecords;
+    }
+
     @Override
     public void close() {
-        flushBuffer();
-    }
+        if (closed) {
+            return;
+        }
+        closed = true;
 
-    private void flushBuffer() {
-        if (buffer.isEmpty()) return;
         try {
-            Files.write(
-                    filePath,
-                    buffer,
-                    StandardOpenOption.APPEND,
-                    StandardOpenOption.CREATE
-            );
-            buffer.clear();
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (numberOfDroppedRecords > 0) {
+            System.err.printf("Statistics writer was too slow, %d days were not saved%n", numberOfDroppedRecords);
+        }
+    }
+
+    private void writeRecords() {
+        try (channel) {
+            long lastFlushTime = System.currentTimeMillis();
+
+            while (!closed || !records.isEmpty()) {
+                StatisticsRecord statisticsRecord = records.poll(FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (statisticsRecord != null) {
+                    if (lastSavedDay != NO_DAY && statisticsRecord.day() > lastSavedDay + 1) {
+                        encodeGap(lastSavedDay + 1, statisticsRecord.day() - 1);
+                    }
+                    encode(statisticsRecord);
+                    lastSavedDay = statisticsRecord.day();
+                }
+
+                long now = System.currentTimeMillis();
+                if (buffer.position() >= FLUSH_SIZE || (buffer.position() > 0 && now - lastFlushTime >= FLUSH_INTERVAL_MILLIS)) {
+                    flushBuffer();
+                    lastFlushTime = now;
+                }
+            }
+            if (lastSavedDay != NO_DAY && lastEndedDay > lastSavedDay) {
+                encodeGap(lastSavedDay + 1, lastEndedDay);
+            }
+            flushBuffer();
         } catch (IOException e) {
             System.err.println("Error writing to statistics file: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void encode(StatisticsRecord statisticsRecord) throws IOException {
+        line.setLength(0);
+        line.append(statisticsRecord.day()).append(',')
+                .append(statisticsRecord.animalsCount()).append(',')
+                .append(statisticsRecord.plantsCount()).append(',');
+        appendFixed(statisticsRecord.averageEnergy());
+        line.append(',');
+        appendFixed(statisticsRecord.averageLifeLength());
+        line.append(',');
+        appendFixed(statisticsRecord.averageChildrenCount());
+        line.append(',')
+                .append(statisticsRecord.mostPopularGenotype().map(GenotypeCount::genotype).orElse(""))
+                .append('\n');
+
+        appendAscii(line);
+    }
+
+    private void encodeGap(int firstDay, int lastDay) throws IOException {
+        line.setLength(0);
+        line.append("# days ").append(firstDay).append("..").append(lastDay).append(" were not saved, the statistics writer was too slow\n");
+
+        appendAscii(line);
+    }
+
+    private void appendFixed(double value) {
+        long hundredths = Math.round(Math.abs(value) * 100);
+        if (value < 0 && hundredths != 0) {
+            line.append('-');
+        }
+        line.append(hundredths / 100).append('.');
+        long fraction = hundredths % 100;
+        if (fraction < 10) {
+            line.append('0');
+        }
+        line.append(fraction);
+    }
+
+    private void appendAscii(CharSequence text) throws IOException {
+        if (buffer.remaining() < text.length()) {
+            flushBuffer();
+            if (buffer.capacity() < text.length()) {
+                buffer = ByteBuffer.allocate(text.length());
+            }
+        }
+
+        for (int i = 0; i < text.length(); i++) {
+            buffer.put((byte) text.charAt(i));
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
         }
+        buffer.clear();
     }
-}
\ No newline at end of file
+}
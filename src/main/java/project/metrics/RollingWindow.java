@@ -0,0 +1,47 @@
+package project.metrics;
+
+import java.util.Arrays;
+
+class RollingWindow {
+    private final long[] samples;
+    private int numberOfSamples = 0;
+    private int nextSample = 0;
+
+    RollingWindow(int size) {
+        samples = new long[size];
+    }
+
+    synchronized void add(long sample) {
+        samples[nextSample] = sample;
+        nextSample = (nextSample + 1) % samples.length;
+        numberOfSamples = Math.min(numberOfSamples + 1, samples.length);
+    }
+
+    synchronized void clear() {
+        numberOfSamples = 0;
+        nextSample = 0;
+    }
+
+    synchronized long[] toArray() {
+        long[] orderedSamples = new long[numberOfSamples];
+        int firstSample = (nextSample - numberOfSamples + samples.length) % samples.length;
+        for (int i = 0; i < numberOfSamples; i++) {
+            orderedSamples[i] = samples[(firstSample + i) % samples.length];
+        }
+        return orderedSamples;
+    }
+
+    double mean() {
+        return Arrays.stream(toArray()).average().orElse(0.0);
+    }
+
+    long percentile(double percentile) {
+        long[] sortedSamples = toArray();
+        if (sortedSamples.length == 0) {
+            return 0;
+        }
+        Arrays.sort(sortedSamples);
+        int index = (int) Math.ceil(percentile / 100 * sortedSamples.length) - 1;
+        return sortedSamples[Math.max(index, 0)];
+    }
+}
@@ -0,0 +1,261 @@
+package project.metrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+public class SimulationMetrics implements SimulationMetricsMBean {
+    public static final int DEFAULT_WINDOW_SIZE = 1024;
+
+    private static final SimulationPhase[] PHASES = SimulationPhase.values();
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final com.sun.management.ThreadMXBean threadMXBean;
+    private final int windowSize;
+    private final RollingWindow[] phasesWallTimes = new RollingWindow[PHASES.length];
+    private final RollingWindow[] phasesAllocatedBytes = new RollingWindow[PHASES.length];
+    private final RollingWindow daysWallTimes;
+    private final RollingWindow daysAnimals;
+
+    private final long[] dayPhasesWallTimes = new long[PHASES.length];
+    private final long[] dayPhasesAllocatedBytes = new long[PHASES.length];
+    private long dayStartNanos;
+    private long phaseStartNanos;
+    private long phaseStartBytes;
+
+    private volatile int currentDay;
+    private volatile int numberOfAnimals;
+    private volatile long numberOfSimulatedDays = 0;
+    private ObjectName objectName;
+
+    public SimulationMetrics() {
+        this(DEFAULT_WINDOW_SIZE);
+    }
+
+    public SimulationMetrics(int windowSize) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("Window size must be greater than 0");
+        }
+
+        this.windowSize = windowSize;
+        for (SimulationPhase phase : PHASES) {
+            phasesWallTimes[phase.ordinal()] = new RollingWindow(windowSize);
+            phasesAllocatedBytes[phase.ordinal()] = new RollingWindow(windowSize);
+        }
+        daysWallTimes = new RollingWindow(windowSize);
+        daysAnimals = new RollingWindow(windowSize);
+
+        ThreadMXBean platformThreadMXBean = ManagementFactory.getThreadMXBean();
+        if (platformThreadMXBean instanceof com.sun.management.ThreadMXBean allocationThreadMXBean
+                && allocationThreadMXBean.isThreadAllocatedMemorySupported()) {
+            if (!allocationThreadMXBean.isThreadAllocatedMemoryEnabled()) {
+                allocationThreadMXBean.setThreadAllocatedMemoryEnabled(true);
+            }
+            threadMXBean = allocationThreadMXBean;
+        } else {
+            threadMXBean = null;
+        }
+    }
+
+    public void startDay(int day, int numberOfAnimals) {
+        this.currentDay = day;
+        this.numberOfAnimals = numberOfAnimals;
+
+        dayStartNanos = System.nanoTime();
+        phaseStartNanos = dayStartNanos;
+        phaseStartBytes = allocatedBytes();
+    }
+
+    public void endPhase(SimulationPhase phase) {
+        long nanos = System.nanoTime();
+        long bytes = allocatedBytes();
+
+        dayPhasesWallTimes[phase.ordinal()] += nanos - phaseStartNanos;
+        dayPhasesAllocatedBytes[phase.ordinal()] += bytes - phaseStartBytes;
+        phaseStartNanos = nanos;
+        phaseStartBytes = bytes;
+    }
+
+    public void endDay() {
+        for (int phase = 0; phase < PHASES.length; phase++) {
+            phasesWallTimes[phase].add(dayPhasesWallTimes[phase]);
+            phasesAllocatedBytes[phase].add(dayPhasesAllocatedBytes[phase]);
+            dayPhasesWallTimes[phase] = 0;
+            dayPhasesAllocatedBytes[phase] = 0;
+        }
+
+        daysWallTimes.add(phaseStartNanos - dayStartNanos);
+        daysAnimals.add(numberOfAnimals);
+        numberOfSimulatedDays++;
+    }
+
+    public void registerMBean(String name) {
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            objectName = new ObjectName("project:type=SimulationMetrics,name=" + ObjectName.quote(name));
+            mBeanServer.registerMBean(this, objectName);
+        } catch (JMException e) {
+            System.err.printf("Error while registering simulation metrics: %s%n", e.getMessage());
+            objectName = null;
+        }
+    }
+
+    public void unregisterMBean() {
+        if (objectName == null) {
+            return;
+        }
+
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        } catch (JMException e) {
+            System.err.printf("Error while unregistering simulation metrics: %s%n", e.getMessage());
+        }
+        objectName = null;
+    }
+
+    public ObjectName getObjectName() {
+        return objectName;
+    }
+
+    public long getPhaseWallTimePercentileNanos(SimulationPhase phase, double percentile) {
+        return phasesWallTimes[phase.ordinal()].percentile(percentile);
+    }
+
+    @Override
+    public int getCurrentDay() {
+        return currentDay;
+    }
+
+    @Override
+    public long getNumberOfSimulatedDays() {
+        return numberOfSimulatedDays;
+    }
+
+    @Override
+    public int getNumberOfAnimals() {
+        return numberOfAnimals;
+    }
+
+    @Override
+    public double getDaysPerSecond() {
+        long[] wallTimes = daysWallTimes.toArray();
+        long totalNanos = sum(wallTimes);
+        return (totalNanos > 0) ? wallTimes.length * NANOS_PER_SECOND / totalNanos : 0.0;
+    }
+
+    @Override
+    public double getAnimalsPerSecond() {
+        long[] animals = daysAnimals.toArray();
+        long[] wallTimes = daysWallTimes.toArray();
+        int numberOfDays = Math.min(animals.length, wallTimes.length);
+
+        long totalAnimals = 0;
+        long totalNanos = 0;
+        for (int i = 1; i <= numberOfDays; i++) {
+            totalAnimals += animals[animals.length - i];
+            totalNanos += wallTimes[wallTimes.length - i];
+        }
+        return (totalNanos > 0) ? totalAnimals * NANOS_PER_SECOND / totalNanos : 0.0;
+    }
+
+    @Override
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    @Override
+    public boolean isAllocationTrackingEnabled() {
+        return threadMXBean != null;
+    }
+
+    @Override
+    public String[] getPhaseNames() {
+        String[] phaseNames = new String[PHASES.length];
+        for (SimulationPhase phase : PHASES) {
+            phaseNames[phase.ordinal()] = phase.toString();
+        }
+        return phaseNames;
+    }
+
+    @Override
+    public double[] getPhaseWallTimeMeanMillis() {
+        double[] means = new double[PHASES.length];
+        for (int phase = 0; phase < PHASES.length; phase++) {
+            means[phase] = phasesWallTimes[phase].mean() / NANOS_PER_MILLI;
+        }
+        return means;
+    }
+
+    @Override
+    public double[] getPhaseWallTimeP50Millis() {
+        return phaseWallTimePercentileMillis(50);
+    }
+
+    @Override
+    public double[] getPhaseWallTimeP90Millis() {
+        return phaseWallTimePercentileMillis(90);
+    }
+
+    @Override
+    public double[] getPhaseWallTimeP99Millis() {
+        return phaseWallTimePercentileMillis(99);
+    }
+
+    @Override
+    public long[] getPhaseAllocatedBytesMean() {
+        long[] means = new long[PHASES.length];
+        for (int phase = 0; phase < PHASES.length; phase++) {
+            means[phase] = Math.round(phasesAllocatedBytes[phase].mean());
+        }
+        return means;
+    }
+
+    @Override
+    public String[] getPhaseSummary() {
+        String[] summary = new String[PHASES.length];
+        for (SimulationPhase phase : PHASES) {
+            RollingWindow wallTimes = phasesWallTimes[phase.ordinal()];
+            summary[phase.ordinal()] = "%s: p50 %.3f ms, p90 %.3f ms, p99 %.3f ms, %d B allocated per day".formatted(
+                    phase,
+                    wallTimes.percentile(50) / NANOS_PER_MILLI,
+                    wallTimes.percentile(90) / NANOS_PER_MILLI,
+                    wallTimes.percentile(99) / NANOS_PER_MILLI,
+                    Math.round(phasesAllocatedBytes[phase.ordinal()].mean())
+            );
+        }
+        return summary;
+    }
+
+    @Override
+    public void reset() {
+        for (int phase = 0; phase < PHASES.length; phase++) {
+            phasesWallTimes[phase].clear();
+            phasesAllocatedBytes[phase].clear();
+        }
+        daysWallTimes.clear();
+        daysAnimals.clear();
+    }
+
+    private double[] phaseWallTimePercentileMillis(double percentile) {
+        double[] percentiles = new double[PHASES.length];
+        for (int phase = 0; phase < PHASES.length; phase++) {
+            percentiles[phase] = phasesWallTimes[phase].percentile(percentile) / NANOS_PER_MILLI;
+        }
+        return percentiles;
+    }
+
+    private long allocatedBytes() {
+        return (threadMXBean != null) ? threadMXBean.getCurrentThreadAllocatedBytes() : 0;
+    }
+
+    private static long sum(long[] values) {
+        long sum = 0;
+        for (long value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,34 @@
+package project.metrics;
+
+public interface SimulationMetricsMBean {
+
+    int getCurrentDay();
+
+    long getNumberOfSimulatedDays();
+
+    int getNumberOfAnimals();
+
+    double getDaysPerSecond();
+
+    double getAnimalsPerSecond();
+
+    int getWindowSize();
+
+    boolean isAllocationTrackingEnabled();
+
+    String[] getPhaseNames();
+
+    double[] getPhaseWallTimeMeanMillis();
+
+    double[] getPhaseWallTimeP50Millis();
+
+    double[] getPhaseWallTimeP90Millis();
+
+    double[] getPhaseWallTimeP99Millis();
+
+    long[] getPhaseAllocatedBytesMean();
+
+    String[] getPhaseSummary();
+
+    void reset();
+}
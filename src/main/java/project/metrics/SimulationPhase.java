@@ -0,0 +1,23 @@
+package project.metrics;
+
+public enum SimulationPhase {
+    REMOVE_DEAD("Remove dead"),
+    ROTATE("Rotate"),
+    MOVE("Move"),
+    EAT_AND_REPRODUCE("Eat and reproduce"),
+    SPAWN_GRASS("Spawn grass"),
+    STATISTICS("Statistics"),
+    LISTENERS("Listeners"),
+    WAIT("Wait");
+
+    private final String displayName;
+
+    SimulationPhase(String displayName) {
+        this.displayName = displayName;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -1,11 +1,16 @@
 package project.model.maps;
 
+import project.checkpoint.CheckpointInput;
+import project.checkpoint.CheckpointOutput;
 import project.model.Vector2d;
 import project.model.worldElements.Animal;
 import project.model.worldElements.Grass;
 import project.model.worldElements.WorldElement;
 
 import java.util.*;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.random.RandomGenerator;
 import java.util.stream.Stream;
 
 public abstract class AbstractWorldMap implements WorldMap {
@@ -15,23 +20,64 @@ public abstract class AbstractWorldMap implements WorldMap {
 
     protected final Boundary mapBoundary;
 
-    protected final List<Vector2d> freeGrassPreferredPositions = new ArrayList<>();
-    protected final List<Vector2d> freeGrassNotPreferredPositions = new ArrayList<>();
+    protected final MapStorageVariant mapStorageVariant;
 
-    protected final Map<Vector2d, LinkedList<Animal>> animalsOnMap = new HashMap<>();
+    protected CellSet freeGrassPreferredCells;
+    protected CellSet freeGrassNotPreferredCells;
+
+    protected final Vector2d[] cellPositions;
+    protected final AnimalStorage animalStorage;
     protected final Map<Vector2d, Grass> grassOnMap = new HashMap<>();
+    private int numberOfGrassFieldsWithAnimals = 0;
 
     private final UUID uuid = UUID.randomUUID();
 
     public AbstractWorldMap(int height, int width) {
+        this(height, width, MapStorageVariant.HASH_MAP);
+    }
+
+    public AbstractWorldMap(int height, int width, MapStorageVariant mapStorageVariant) {
         if (height <= 0 || width <= 0) {
             throw new IllegalArgumentException("Height and width must be greater than 0");
         }
 
         this.height = height;
         this.width = width;
+        this.mapStorageVariant = mapStorageVariant;
 
         mapBoundary = new Boundary(new Vector2d(0, 0), new Vector2d(width - 1, height - 1));
+
+        if (mapStorageVariant == MapStorageVariant.CHUNKED) {
+            cellPositions = null;
+        } else {
+            cellPositions = new Vector2d[height * width];
+            for (int i = 0; i < height; i++) {
+                for (int j = 0; j < width; j++) {
+                    cellPositions[i * width + j] = new Vector2d(j, i);
+                }
+            }
+        }
+
+        animalStorage = switch (mapStorageVariant) {
+            case HASH_MAP, CHUNKED -> new HashMapAnimalStorageVariant();
+            case ARRAY_GRID -> new ArrayGridAnimalStorageVariant(height, width, cellPositions);
+        };
+    }
+
+    protected CellSet createFreeCells(IntPredicate isFreeRow) {
+        if (mapStorageVariant == MapStorageVariant.CHUNKED) {
+            return new ChunkedCellSet(height, width, isFreeRow);
+        }
+
+        IndexedCellSet freeCells = new IndexedCellSet(height * width);
+        for (int i = 0; i < height; i++) {
+            if (isFreeRow.test(i)) {
+                for (int j = 0; j < width; j++) {
+                    freeCells.add(i * width + j);
+                }
+            }
+        }
+        return freeCells;
     }
 
     public UUID getId() {
@@ -42,7 +88,7 @@ public abstract class AbstractWorldMap implements WorldMap {
     public Collection<WorldElement> getElements() {
         return new ArrayList<>(
                 Stream.concat(
-                        animalsOnMap.values().stream().flatMap(Collection::stream),
+                        animalStorage.getAnimals().stream(),
                         grassOnMap.values().stream()
                 ).toList()
         );
@@ -50,19 +96,17 @@ public abstract class AbstractWorldMap implements WorldMap {
 
     @Override
     public Collection<Animal> getOrderedAnimals() {
-        Comparator<Animal> animalComparator = Comparator.comparing(animal ->
-                "%s %s".formatted(animal.getPosition().x(), animal.getPosition().y())
-        );
-
-        return animalsOnMap.values().stream()
-                .flatMap(Collection::stream)
-                .sorted(animalComparator)
-                .toList();
+        return animalStorage.getOrderedAnimals();
     }
 
     @Override
     public Collection<Vector2d> getAllAnimalsPositions() {
-        return animalsOnMap.keySet();
+        return animalStorage.getOccupiedPositions();
+    }
+
+    @Override
+    public List<Vector2d> getOrderedAnimalsPositions() {
+        return animalStorage.getOrderedOccupiedPositions();
     }
 
     @Override
@@ -72,17 +116,35 @@ public abstract class AbstractWorldMap implements WorldMap {
 
     @Override
     public List<Vector2d> getFreeGrassPreferredPositions() {
-        return new ArrayList<>(freeGrassPreferredPositions);
+        return toPositions(freeGrassPreferredCells);
     }
 
     @Override
     public List<Vector2d> getFreeGrassNotPreferredPositions() {
-        return new ArrayList<>(freeGrassNotPreferredPositions);
+        return toPositions(freeGrassNotPreferredCells);
+    }
+
+    @Override
+    public void forEachFreeGrassPreferredCell(IntConsumer action) {
+        freeGrassPreferredCells.forEach(action);
+    }
+
+    @Override
+    public void forEachGrassCell(IntConsumer action) {
+        for (Vector2d position : grassOnMap.keySet()) {
+            action.accept(cellOf(position));
+        }
+    }
+
+    private List<Vector2d> toPositions(CellSet cells) {
+        List<Vector2d> positions = new ArrayList<>(cells.size());
+        cells.forEach(cell -> positions.add(positionOf(cell)));
+        return positions;
     }
 
     @Override
     public int getNumberOfAnimals() {
-        return animalsOnMap.size();
+        return animalStorage.getNumberOfOccupiedPositions();
     }
 
     @Override
@@ -90,6 +152,12 @@ public abstract class AbstractWorldMap implements WorldMap {
         return grassOnMap.size();
     }
 
+    @Override
+    public int getNumberOfEmptyFields() {
+        int numberOfOccupiedFields = animalStorage.getNumberOfOccupiedPositions() + grassOnMap.size() - numberOfGrassFieldsWithAnimals;
+        return height * width - numberOfOccupiedFields;
+    }
+
     @Override
     public int getMapHeight() {
         return height;
@@ -107,7 +175,7 @@ public abstract class AbstractWorldMap implements WorldMap {
 
     @Override
     public Optional<List<Animal>> animalsAt(Vector2d position) {
-        return Optional.ofNullable(animalsOnMap.get(position));
+        return animalStorage.animalsAt(position);
     }
 
     @Override
@@ -118,117 +186,263 @@ public abstract class AbstractWorldMap implements WorldMap {
             throw new IncorrectPositionException(position);
         }
 
-        if (element instanceof Animal) {
+        if (element instanceof Animal animal) {
+            Vector2d cellPosition = positionOf(cellOf(position));
+            boolean wasFieldOccupied = animalStorage.animalsAt(cellPosition).isPresent();
+            animalStorage.add(animal, cellPosition);
+            updateGrassFieldsWithAnimals(cellPosition, wasFieldOccupied);
+        } else {
+            placeGrass((Grass) element);
+        }
+    }
+
+    @Override
+    public boolean move(Animal animal) {
+        Vector2d currentPosition = positionOf(animal);
+        Vector2d nextPosition = nextPosition(animal, currentPosition);
+
+        if (nextPosition == null) {
+            return false;
+        }
+
+        boolean wasNextFieldOccupied = animalStorage.animalsAt(nextPosition).isPresent();
+        animalStorage.move(animal, currentPosition, nextPosition);
+        animal.move(nextPosition);
 
-            LinkedList<Animal> animalsAtPosition = animalsOnMap.computeIfAbsent(position, currentPosition -> new LinkedList<>());
+        updateGrassFieldsWithAnimals(currentPosition, true);
+        updateGrassFieldsWithAnimals(nextPosition, wasNextFieldOccupied);
+        return true;
+    }
 
-            if (animalsAtPosition.contains(element)) {
-                throw new IllegalArgumentException("The animal is already present on the map.");
+    @Override
+    public int moveAnimalsInRowBands(int numberOfRowBands) {
+        if (!(animalStorage instanceof ArrayGridAnimalStorageVariant gridStorage) || Math.min(numberOfRowBands, height) < 2) {
+            int numberOfMovedAnimals = 0;
+            for (Animal animal : animalStorage.getAnimals()) {
+                if (move(animal)) {
+                    numberOfMovedAnimals++;
+                }
             }
+            return numberOfMovedAnimals;
+        }
 
-            animalsOnMap.computeIfAbsent(position, currentPosition -> new LinkedList<>()).add((Animal) element);
-        } else {
-            placeGrass((Grass) element);
+        int numberOfBands = Math.min(numberOfRowBands, height);
+        List<RowBand> rowBands = new ArrayList<>(numberOfBands);
+        for (int band = 0; band < numberOfBands; band++) {
+            rowBands.add(new RowBand(band * height / numberOfBands, (band + 1) * height / numberOfBands));
+        }
+
+        rowBands.parallelStream().forEach(rowBand -> moveAnimalsInRowBand(gridStorage, rowBand));
+
+        for (RowBand rowBand : rowBands) {
+            for (int i = 0; i < rowBand.getAnimalsCrossingBorder().size(); i++) {
+                int cell = rowBand.getCellsBehindBorder().get(i);
+                if (gridStorage.moveIntoCell(rowBand.getAnimalsCrossingBorder().get(i), cell)) {
+                    rowBand.getCellsWithChangedOccupancy().add(cell);
+                }
+            }
+        }
+
+        int numberOfMovedAnimals = 0;
+        for (RowBand rowBand : rowBands) {
+            for (int cell : rowBand.getCellsWithChangedOccupancy()) {
+                if (gridStorage.updateOccupiedCell(cell)) {
+                    Vector2d position = positionOf(cell);
+                    updateGrassFieldsWithAnimals(position, animalStorage.animalsAt(position).isEmpty());
+                }
+            }
+            numberOfMovedAnimals += rowBand.getNumberOfMovedAnimals();
         }
+        return numberOfMovedAnimals;
     }
 
-    @Override
-    public void move(Animal animal) {
-        Vector2d nextPosition = animal.getNextPosition();
+    private void moveAnimalsInRowBand(ArrayGridAnimalStorageVariant gridStorage, RowBand rowBand) {
+        for (Animal animal : gridStorage.getAnimalsInCells(rowBand.getFromRow() * width, rowBand.getToRow() * width)) {
+            Vector2d currentPosition = positionOf(animal);
+            Vector2d nextPosition = nextPosition(animal, currentPosition);
 
-        if (isPositionCorrect(nextPosition)) {
-            removeAnimal(animal);
-            animalsOnMap.computeIfAbsent(nextPosition, k -> new LinkedList<>()).add(animal);
-            animal.move();
-            return;
+            if (nextPosition == null) {
+                continue;
+            }
+
+            int currentCell = cellOf(currentPosition);
+            int nextCell = cellOf(nextPosition);
+
+            if (gridStorage.moveOutOfCell(animal, currentCell)) {
+                rowBand.getCellsWithChangedOccupancy().add(currentCell);
+            }
+
+            if (rowBand.containsRow(nextPosition.y())) {
+                if (gridStorage.moveIntoCell(animal, nextCell)) {
+                    rowBand.getCellsWithChangedOccupancy().add(nextCell);
+                }
+            } else {
+                rowBand.getAnimalsCrossingBorder().add(animal);
+                rowBand.getCellsBehindBorder().add(nextCell);
+            }
+
+            animal.move(nextPosition);
+            rowBand.addMovedAnimal();
+        }
+    }
+
+    private Vector2d nextPosition(Animal animal, Vector2d currentPosition) {
+        Vector2d unitVector = animal.getCurrentOrientation().toUnitVector();
+        int nextX = currentPosition.x() + unitVector.x();
+        int nextY = currentPosition.y() + unitVector.y();
+
+        if (isPositionCorrect(nextX, nextY)) {
+            return positionOf(nextY * width + nextX);
         }
 
-        if (mapBoundary.lowerLeft().y() > nextPosition.y() || mapBoundary.upperRight().y() < nextPosition.y()) {
+        if (mapBoundary.lowerLeft().y() > nextY || mapBoundary.upperRight().y() < nextY) {
             animal.rotate(4);
-            nextPosition = new Vector2d(nextPosition.x(), animal.getPosition().y());
+            nextY = currentPosition.y();
         }
 
-        if (mapBoundary.lowerLeft().x() > nextPosition.x() || mapBoundary.upperRight().x() < nextPosition.x()) {
-            nextPosition = new Vector2d((nextPosition.x() + width) % width, nextPosition.y());
-            removeAnimal(animal);
-            animalsOnMap.computeIfAbsent(nextPosition, k -> new LinkedList<>()).add(animal);
-            animal.move(nextPosition);
+        if (mapBoundary.lowerLeft().x() > nextX || mapBoundary.upperRight().x() < nextX) {
+            return positionOf(nextY * width + (nextX + width) % width);
         }
+        return null;
     }
 
     @Override
     public void removeAnimal(Animal animal) {
-        Vector2d position = animal.getPosition();
+        Vector2d position = positionOf(animal);
+        animalStorage.remove(animal, position);
+        updateGrassFieldsWithAnimals(position, true);
+    }
 
-        LinkedList<Animal> list = animalsOnMap.get(position);
+    protected void grassPlaced(Vector2d position) {
+        if (animalStorage.animalsAt(position).isPresent()) {
+            numberOfGrassFieldsWithAnimals++;
+        }
+    }
 
-        if (list == null || !list.remove(animal)) {
-            throw new NoSuchElementException("Cannot remove animal: this animal not found at this location.");
+    protected void grassRemoved(Vector2d position) {
+        if (animalStorage.animalsAt(position).isPresent()) {
+            numberOfGrassFieldsWithAnimals--;
         }
+    }
+
+    private void updateGrassFieldsWithAnimals(Vector2d position, boolean wasFieldOccupied) {
+        boolean isFieldOccupied = animalStorage.animalsAt(position).isPresent();
 
-        if (list.isEmpty()) {
-            animalsOnMap.remove(position);
+        if (wasFieldOccupied != isFieldOccupied && grassOnMap.containsKey(position)) {
+            numberOfGrassFieldsWithAnimals += isFieldOccupied ? 1 : -1;
         }
     }
 
     protected boolean isPositionCorrect(Vector2d position) {
-        return (position.follows(mapBoundary.lowerLeft()) &&
-                position.precedes(mapBoundary.upperRight()));
+        return isPositionCorrect(position.x(), position.y());
+    }
+
+    protected boolean isPositionCorrect(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    protected int cellOf(Vector2d position) {
+        return position.y() * width + position.x();
+    }
+
+    protected Vector2d positionOf(int cell) {
+        return (cellPositions != null) ? cellPositions[cell] : new Vector2d(cell % width, cell / width);
+    }
+
+    private Vector2d positionOf(Animal animal) {
+        return positionOf(animal.getPositionY() * width + animal.getPositionX());
     }
 
     abstract protected void placeGrass(Grass grass);
 
     @Override
-    public void spawnGrass(int numberOfGrassToSpawn) {
-        int grassLeft = numberOfGrassToSpawn;
-        int numberOfGrassToSpawnOnPreferredPositions = (int) Math.round(numberOfGrassToSpawn * 0.8);
-        int numberOfGrassToSpawnOnNotPreferredPositions = numberOfGrassToSpawn - numberOfGrassToSpawnOnPreferredPositions;
-        Random random = new Random();
-
-        while (numberOfGrassToSpawnOnPreferredPositions > 0) {
-            List<Vector2d> preferredPositions = this.getFreeGrassPreferredPositions();
+    public void writeCheckpoint(CheckpointOutput output) {
+        output.putInt(grassOnMap.size());
+        for (Vector2d position : grassOnMap.keySet()) {
+            output.putInt(cellOf(position));
+        }
 
-            if (preferredPositions.isEmpty()) {
-                break;
-            }
+        writeFreeCells(output, freeGrassPreferredCells);
+        writeFreeCells(output, freeGrassNotPreferredCells);
+    }
 
-            Vector2d positionToSpawnGrass = preferredPositions.get(random.nextInt(preferredPositions.size()));
+    @Override
+    public void restoreCheckpoint(CheckpointInput input) {
+        if (!grassOnMap.isEmpty() || animalStorage.getNumberOfOccupiedPositions() > 0) {
+            throw new IllegalStateException("Checkpoint can only be restored into an empty map");
+        }
 
-            this.placeGrass(new Grass(positionToSpawnGrass));
-            numberOfGrassToSpawnOnPreferredPositions--;
-            grassLeft--;
+        int numberOfGrass = input.getInt();
+        for (int i = 0; i < numberOfGrass; i++) {
+            placeGrass(new Grass(positionOf(input.getInt())));
         }
 
-        while (numberOfGrassToSpawnOnNotPreferredPositions > 0) {
-            List<Vector2d> notPreferredPositions = this.getFreeGrassNotPreferredPositions();
+        freeGrassPreferredCells = readFreeCells(input, freeGrassPreferredCells);
+        freeGrassNotPreferredCells = readFreeCells(input, freeGrassNotPreferredCells);
+    }
 
-            if (notPreferredPositions.isEmpty()) {
-                break;
-            }
+    private void writeFreeCells(CheckpointOutput output, CellSet freeCells) {
+        if (freeCells instanceof ChunkedCellSet) {
+            output.putInt(-1);
+            return;
+        }
 
-            Vector2d positionToSpawnGrass = notPreferredPositions.get(random.nextInt(notPreferredPositions.size()));
+        output.putInt(freeCells.size());
+        freeCells.forEach(output::putInt);
+    }
 
-            this.placeGrass(new Grass(positionToSpawnGrass));
-            numberOfGrassToSpawnOnNotPreferredPositions--;
-            grassLeft--;
+    private CellSet readFreeCells(CheckpointInput input, CellSet freeCells) {
+        int numberOfCells = input.getInt();
+        if (numberOfCells == -1) {
+            return freeCells;
         }
 
-        while (grassLeft > 0) {
-            List<Vector2d> preferredPositions = this.getFreeGrassPreferredPositions();
-            List<Vector2d> notPreferredPositions = this.getFreeGrassNotPreferredPositions();
+        CellSet restoredCells = (freeCells instanceof SparseCellSet) ? new SparseCellSet() : new IndexedCellSet(height * width);
+        for (int i = 0; i < numberOfCells; i++) {
+            restoredCells.add(input.getInt());
+        }
+        return restoredCells;
+    }
 
-            if (preferredPositions.isEmpty() && notPreferredPositions.isEmpty()) {
-                break;
-            }
+    @Override
+    public void spawnGrass(int numberOfGrassToSpawn, RandomGenerator random) {
+        int numberOfPreferredCells = freeGrassPreferredCells.size();
+        int numberOfNotPreferredCells = freeGrassNotPreferredCells.size();
+
+        int numberOfGrassForPreferredCells = (int) Math.round(numberOfGrassToSpawn * 0.8);
+        int preferredToSpawn = Math.min(numberOfGrassForPreferredCells, numberOfPreferredCells);
+        int notPreferredToSpawn = Math.min(numberOfGrassToSpawn - numberOfGrassForPreferredCells, numberOfNotPreferredCells);
+        int leftToSpawn = Math.min(
+                numberOfGrassToSpawn - preferredToSpawn - notPreferredToSpawn,
+                numberOfPreferredCells + numberOfNotPreferredCells - preferredToSpawn - notPreferredToSpawn
+        );
+
+        int[] cellsToSpawnGrass = new int[preferredToSpawn + notPreferredToSpawn + leftToSpawn];
+        int drawnPreferred = 0;
+        int drawnNotPreferred = 0;
+        int drawnCells = 0;
 
-            List<Vector2d> availablePositions = new ArrayList<>();
-            availablePositions.addAll(preferredPositions);
-            availablePositions.addAll(notPreferredPositions);
+        while (drawnPreferred < preferredToSpawn) {
+            cellsToSpawnGrass[drawnCells++] = freeGrassPreferredCells.drawWithoutReplacement(random, drawnPreferred++);
+        }
+
+        while (drawnNotPreferred < notPreferredToSpawn) {
+            cellsToSpawnGrass[drawnCells++] = freeGrassNotPreferredCells.drawWithoutReplacement(random, drawnNotPreferred++);
+        }
 
-            Vector2d positionToSpawnGrass = availablePositions.get(random.nextInt(availablePositions.size()));
+        while (drawnCells < cellsToSpawnGrass.length) {
+            int preferredCellsLeft = numberOfPreferredCells - drawnPreferred;
+            int notPreferredCellsLeft = numberOfNotPreferredCells - drawnNotPreferred;
+
+            if (random.nextInt(preferredCellsLeft + notPreferredCellsLeft) < preferredCellsLeft) {
+                cellsToSpawnGrass[drawnCells++] = freeGrassPreferredCells.drawWithoutReplacement(random, drawnPreferred++);
+            } else {
+                cellsToSpawnGrass[drawnCells++] = freeGrassNotPreferredCells.drawWithoutReplacement(random, drawnNotPreferred++);
+            }
+        }
 
-            this.placeGrass(new Grass(positionToSpawnGrass));
-            grassLeft--;
+        for (int cell : cellsToSpawnGrass) {
+            placeGrass(new Grass(positionOf(cell)));
         }
     }
 }
\ No newline at end of file
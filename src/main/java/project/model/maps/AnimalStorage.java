@@ -0,0 +1,32 @@
+package project.model.maps;
+
+import project.model.Vector2d;
+import project.model.worldElements.Animal;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface AnimalStorage {
+
+    void add(Animal animal, Vector2d position);
+
+    void remove(Animal animal, Vector2d position);
+
+    default void move(Animal animal, Vector2d from, Vector2d to) {
+        remove(animal, from);
+        add(animal, to);
+    }
+
+    Optional<List<Animal>> animalsAt(Vector2d position);
+
+    Collection<Vector2d> getOccupiedPositions();
+
+    List<Vector2d> getOrderedOccupiedPositions();
+
+    Collection<Animal> getAnimals();
+
+    Collection<Animal> getOrderedAnimals();
+
+    int getNumberOfOccupiedPositions();
+}
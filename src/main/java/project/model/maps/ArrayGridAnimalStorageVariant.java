@@ -0,0 +1,246 @@
+package project.model.maps;
+
+import project.model.Vector2d;
+import project.model.worldElements.Animal;
+
+import java.util.*;
+
+public class ArrayGridAnimalStorageVariant implements AnimalStorage {
+    private static final int INITIAL_CELL_CAPACITY = 2;
+
+    private final int width;
+    private final int height;
+    private final Vector2d[] cellPositions;
+
+    private final Animal[][] animalsInCells;
+    private final int[] numberOfAnimalsInCells;
+    private final IndexedCellSet occupiedCells;
+    private int numberOfAnimals = 0;
+
+    public ArrayGridAnimalStorageVariant(int height, int width, Vector2d[] cellPositions) {
+        if (cellPositions.length != height * width) {
+            throw new IllegalArgumentException("Number of cell positions must match the map size");
+        }
+
+        this.width = width;
+        this.height = height;
+        this.cellPositions = cellPositions;
+
+        animalsInCells = new Animal[height * width][];
+        numberOfAnimalsInCells = new int[height * width];
+        occupiedCells = new IndexedCellSet(height * width);
+    }
+
+    @Override
+    public void add(Animal animal, Vector2d position) {
+        int cell = cellOf(position);
+
+        if (indexInCell(animal, cell) != -1) {
+            throw new IllegalArgumentException("The animal is already present on the map.");
+        }
+
+        if (insertIntoCell(animal, cell)) {
+            occupiedCells.add(cell);
+        }
+        numberOfAnimals++;
+    }
+
+    @Override
+    public void remove(Animal animal, Vector2d position) {
+        int cell = isInside(position) ? cellOf(position) : -1;
+        int index = (cell == -1) ? -1 : indexInCell(animal, cell);
+
+        if (index == -1) {
+            throw new NoSuchElementException("Cannot remove animal: this animal not found at this location.");
+        }
+
+        if (deleteFromCell(cell, index)) {
+            occupiedCells.remove(cell);
+        }
+        numberOfAnimals--;
+    }
+
+    @Override
+    public void move(Animal animal, Vector2d from, Vector2d to) {
+        remove(animal, from);
+        add(animal, to);
+    }
+
+    @Override
+    public Optional<List<Animal>> animalsAt(Vector2d position) {
+        if (!isInside(position)) {
+            return Optional.empty();
+        }
+
+        int cell = cellOf(position);
+        if (numberOfAnimalsInCells[cell] == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(new CellAnimals(cell));
+    }
+
+    @Override
+    public Collection<Vector2d> getOccupiedPositions() {
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<Vector2d> iterator() {
+                return new Iterator<>() {
+                    private int slot = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return slot < occupiedCells.size();
+                    }
+
+                    @Override
+                    public Vector2d next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        return cellPositions[occupiedCells.get(slot++)];
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return occupiedCells.size();
+            }
+        };
+    }
+
+    @Override
+    public List<Vector2d> getOrderedOccupiedPositions() {
+        int[] cells = occupiedCells.toSortedArray();
+        List<Vector2d> positions = new ArrayList<>(cells.length);
+
+        for (int cell : cells) {
+            positions.add(cellPositions[cell]);
+        }
+        return positions;
+    }
+
+    @Override
+    public Collection<Animal> getAnimals() {
+        List<Animal> animals = new ArrayList<>(numberOfAnimals);
+
+        for (int slot = 0; slot < occupiedCells.size(); slot++) {
+            int cell = occupiedCells.get(slot);
+            animals.addAll(Arrays.asList(animalsInCells[cell]).subList(0, numberOfAnimalsInCells[cell]));
+        }
+        return animals;
+    }
+
+    @Override
+    public Collection<Animal> getOrderedAnimals() {
+        List<Animal> animals = new ArrayList<>(numberOfAnimals);
+
+        for (int cell : occupiedCells.toSortedArray()) {
+            animals.addAll(Arrays.asList(animalsInCells[cell]).subList(0, numberOfAnimalsInCells[cell]));
+        }
+        return animals;
+    }
+
+    @Override
+    public int getNumberOfOccupiedPositions() {
+        return occupiedCells.size();
+    }
+
+    List<Animal> getAnimalsInCells(int fromCell, int toCell) {
+        List<Animal> animals = new ArrayList<>();
+
+        for (int cell = fromCell; cell < toCell; cell++) {
+            if (numberOfAnimalsInCells[cell] == 0) {
+                continue;
+            }
+            animals.addAll(Arrays.asList(animalsInCells[cell]).subList(0, numberOfAnimalsInCells[cell]));
+        }
+        return animals;
+    }
+
+    boolean moveOutOfCell(Animal animal, int cell) {
+        int index = indexInCell(animal, cell);
+
+        if (index == -1) {
+            throw new NoSuchElementException("Cannot remove animal: this animal not found at this location.");
+        }
+        return deleteFromCell(cell, index);
+    }
+
+    boolean moveIntoCell(Animal animal, int cell) {
+        return insertIntoCell(animal, cell);
+    }
+
+    boolean updateOccupiedCell(int cell) {
+        if (numberOfAnimalsInCells[cell] == 0) {
+            return occupiedCells.remove(cell);
+        }
+        return occupiedCells.add(cell);
+    }
+
+    private boolean insertIntoCell(Animal animal, int cell) {
+        Animal[] animalsInCell = animalsInCells[cell];
+        int numberOfAnimalsInCell = numberOfAnimalsInCells[cell];
+
+        if (animalsInCell == null) {
+            animalsInCell = new Animal[INITIAL_CELL_CAPACITY];
+            animalsInCells[cell] = animalsInCell;
+        } else if (numberOfAnimalsInCell == animalsInCell.length) {
+            animalsInCell = Arrays.copyOf(animalsInCell, animalsInCell.length * 2);
+            animalsInCells[cell] = animalsInCell;
+        }
+
+        animalsInCell[numberOfAnimalsInCell] = animal;
+        numberOfAnimalsInCells[cell]++;
+
+        return numberOfAnimalsInCell == 0;
+    }
+
+    private boolean deleteFromCell(int cell, int index) {
+        Animal[] animalsInCell = animalsInCells[cell];
+        int numberOfAnimalsInCell = --numberOfAnimalsInCells[cell];
+
+        System.arraycopy(animalsInCell, index + 1, animalsInCell, index, numberOfAnimalsInCell - index);
+        animalsInCell[numberOfAnimalsInCell] = null;
+
+        return numberOfAnimalsInCell == 0;
+    }
+
+    private int indexInCell(Animal animal, int cell) {
+        Animal[] animalsInCell = animalsInCells[cell];
+
+        for (int i = 0; i < numberOfAnimalsInCells[cell]; i++) {
+            if (animalsInCell[i] == animal) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isInside(Vector2d position) {
+        return position.x() >= 0 && position.x() < width && position.y() >= 0 && position.y() < height;
+    }
+
+    private int cellOf(Vector2d position) {
+        return position.y() * width + position.x();
+    }
+
+    private class CellAnimals extends AbstractList<Animal> implements RandomAccess {
+        private final int cell;
+
+        private CellAnimals(int cell) {
+            this.cell = cell;
+        }
+
+        @Override
+        public Animal get(int index) {
+            Objects.checkIndex(index, numberOfAnimalsInCells[cell]);
+            return animalsInCells[cell][index];
+        }
+
+        @Override
+        public int size() {
+            return numberOfAnimalsInCells[cell];
+        }
+    }
+}
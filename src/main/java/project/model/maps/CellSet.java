@@ -0,0 +1,23 @@
+package project.model.maps;
+
+import java.util.function.IntConsumer;
+import java.util.random.RandomGenerator;
+
+public interface CellSet {
+
+    boolean add(int cell);
+
+    boolean remove(int cell);
+
+    boolean contains(int cell);
+
+    int drawWithoutReplacement(RandomGenerator random, int numberOfDrawnCells);
+
+    void forEach(IntConsumer action);
+
+    int size();
+
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+}
@@ -0,0 +1,301 @@
+package project.model.maps;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.random.RandomGenerator;
+
+public class ChunkedCellSet implements CellSet {
+    static final int CHUNK_SIZE = Long.SIZE;
+
+    private final int height;
+    private final int width;
+    private final int chunkColumns;
+    private final int numberOfChunks;
+
+    private final long[] memberRows;
+    private final int[] memberRowsInChunkRows;
+
+    private final Chunk[] chunks;
+    private final int[] availableCellsTree;
+    private int[] chunksWithDrawnCells = new int[16];
+    private int numberOfChunksWithDrawnCells = 0;
+
+    private int size = 0;
+    private int numberOfDrawnCells = 0;
+
+    public ChunkedCellSet(int height, int width, IntPredicate isMemberRow) {
+        this.height = height;
+        this.width = width;
+
+        int chunkRows = (height + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        chunkColumns = (width + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        numberOfChunks = chunkRows * chunkColumns;
+
+        memberRows = new long[chunkRows];
+        memberRowsInChunkRows = new int[chunkRows];
+        for (int y = 0; y < height; y++) {
+            if (isMemberRow.test(y)) {
+                memberRows[y / CHUNK_SIZE] |= 1L << (y % CHUNK_SIZE);
+                memberRowsInChunkRows[y / CHUNK_SIZE]++;
+                size += width;
+            }
+        }
+
+        chunks = new Chunk[numberOfChunks];
+        availableCellsTree = new int[numberOfChunks + 1];
+        for (int chunk = 0; chunk < numberOfChunks; chunk++) {
+            int node = chunk + 1;
+            availableCellsTree[node] += memberRowsInChunkRows[chunk / chunkColumns] * chunkWidth(chunk % chunkColumns);
+
+            int parent = node + (node & -node);
+            if (parent <= numberOfChunks) {
+                availableCellsTree[parent] += availableCellsTree[node];
+            }
+        }
+    }
+
+    @Override
+    public boolean add(int cell) {
+        int y = cell / width;
+        if (!isMemberRow(y)) {
+            throw new IllegalArgumentException("Cell %d lies outside of the rows covered by this set".formatted(cell));
+        }
+
+        int chunkIndex = chunkOf(cell);
+        Chunk chunk = chunks[chunkIndex];
+        long columnBit = columnBitOf(cell);
+        int chunkRow = y % CHUNK_SIZE;
+
+        if (chunk == null || (chunk.excludedRows[chunkRow] & columnBit) == 0) {
+            return false;
+        }
+
+        chunk.excludedRows[chunkRow] &= ~columnBit;
+        chunk.numberOfExcludedCells--;
+        releaseIfEmpty(chunkIndex);
+
+        updateAvailableCells(chunkIndex, 1);
+        size++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(int cell) {
+        if (!contains(cell)) {
+            return false;
+        }
+
+        int chunkIndex = chunkOf(cell);
+        Chunk chunk = getOrCreateChunk(chunkIndex);
+        long columnBit = columnBitOf(cell);
+        int chunkRow = (cell / width) % CHUNK_SIZE;
+
+        if ((chunk.drawnRows[chunkRow] & columnBit) != 0) {
+            chunk.drawnRows[chunkRow] &= ~columnBit;
+            chunk.numberOfDrawnCells--;
+            numberOfDrawnCells--;
+        } else {
+            updateAvailableCells(chunkIndex, -1);
+        }
+
+        chunk.excludedRows[chunkRow] |= columnBit;
+        chunk.numberOfExcludedCells++;
+        size--;
+        return true;
+    }
+
+    @Override
+    public boolean contains(int cell) {
+        int y = cell / width;
+        if (!isMemberRow(y)) {
+            return false;
+        }
+
+        Chunk chunk = chunks[chunkOf(cell)];
+        return chunk == null || (chunk.excludedRows[y % CHUNK_SIZE] & columnBitOf(cell)) == 0;
+    }
+
+    @Override
+    public int drawWithoutReplacement(RandomGenerator random, int numberOfDrawnCells) {
+        if (numberOfDrawnCells == 0) {
+            returnDrawnCells();
+        }
+
+        int numberOfCellsLeft = size - this.numberOfDrawnCells;
+        if (numberOfCellsLeft <= 0) {
+            throw new NoSuchElementException("All cells have already been drawn");
+        }
+
+        int drawnIndex = random.nextInt(numberOfCellsLeft);
+        int chunkIndex = findChunk(drawnIndex);
+        int drawnCell = selectAvailableCell(chunkIndex, drawnIndex - availableCellsBefore(chunkIndex));
+
+        Chunk chunk = getOrCreateChunk(chunkIndex);
+        chunk.drawnRows[(drawnCell / width) % CHUNK_SIZE] |= columnBitOf(drawnCell);
+        if (chunk.numberOfDrawnCells++ == 0) {
+            if (numberOfChunksWithDrawnCells == chunksWithDrawnCells.length) {
+                chunksWithDrawnCells = Arrays.copyOf(chunksWithDrawnCells, chunksWithDrawnCells.length * 2);
+            }
+            chunksWithDrawnCells[numberOfChunksWithDrawnCells++] = chunkIndex;
+        }
+
+        updateAvailableCells(chunkIndex, -1);
+        this.numberOfDrawnCells++;
+        return drawnCell;
+    }
+
+    @Override
+    public void forEach(IntConsumer action) {
+        for (int chunkIndex = 0; chunkIndex < numberOfChunks; chunkIndex++) {
+            Chunk chunk = chunks[chunkIndex];
+            int firstRow = (chunkIndex / chunkColumns) * CHUNK_SIZE;
+            int firstColumn = (chunkIndex % chunkColumns) * CHUNK_SIZE;
+            long columnsMask = columnsMask(chunkIndex % chunkColumns);
+
+            for (int y = firstRow; y < Math.min(height, firstRow + CHUNK_SIZE); y++) {
+                if (!isMemberRow(y)) {
+                    continue;
+                }
+
+                long memberColumns = (chunk == null) ? columnsMask : columnsMask & ~chunk.excludedRows[y - firstRow];
+                while (memberColumns != 0) {
+                    action.accept(y * width + firstColumn + Long.numberOfTrailingZeros(memberColumns));
+                    memberColumns &= memberColumns - 1;
+                }
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    int getNumberOfAllocatedChunks() {
+        int numberOfAllocatedChunks = 0;
+        for (Chunk chunk : chunks) {
+            if (chunk != null) {
+                numberOfAllocatedChunks++;
+            }
+        }
+        return numberOfAllocatedChunks;
+    }
+
+    private void returnDrawnCells() {
+        for (int i = 0; i < numberOfChunksWithDrawnCells; i++) {
+            int chunkIndex = chunksWithDrawnCells[i];
+            Chunk chunk = chunks[chunkIndex];
+
+            if (chunk == null || chunk.numberOfDrawnCells == 0) {
+                continue;
+            }
+
+            updateAvailableCells(chunkIndex, chunk.numberOfDrawnCells);
+            Arrays.fill(chunk.drawnRows, 0L);
+            chunk.numberOfDrawnCells = 0;
+            releaseIfEmpty(chunkIndex);
+        }
+
+        numberOfChunksWithDrawnCells = 0;
+        numberOfDrawnCells = 0;
+    }
+
+    private int selectAvailableCell(int chunkIndex, int indexInChunk) {
+        Chunk chunk = chunks[chunkIndex];
+        int firstRow = (chunkIndex / chunkColumns) * CHUNK_SIZE;
+        int firstColumn = (chunkIndex % chunkColumns) * CHUNK_SIZE;
+        long columnsMask = columnsMask(chunkIndex % chunkColumns);
+
+        for (int y = firstRow; y < Math.min(height, firstRow + CHUNK_SIZE); y++) {
+            if (!isMemberRow(y)) {
+                continue;
+            }
+
+            long availableColumns = columnsMask;
+            if (chunk != null) {
+                availableColumns &= ~(chunk.excludedRows[y - firstRow] | chunk.drawnRows[y - firstRow]);
+            }
+
+            int numberOfAvailableColumns = Long.bitCount(availableColumns);
+            if (indexInChunk < numberOfAvailableColumns) {
+                for (int i = 0; i < indexInChunk; i++) {
+                    availableColumns &= availableColumns - 1;
+                }
+                return y * width + firstColumn + Long.numberOfTrailingZeros(availableColumns);
+            }
+            indexInChunk -= numberOfAvailableColumns;
+        }
+
+        throw new IllegalStateException("Number of available cells in chunk %d is out of sync".formatted(chunkIndex));
+    }
+
+    private int findChunk(int index) {
+        int node = 0;
+        for (int step = Integer.highestOneBit(numberOfChunks); step > 0; step >>= 1) {
+            int nextNode = node + step;
+            if (nextNode <= numberOfChunks && availableCellsTree[nextNode] <= index) {
+                node = nextNode;
+                index -= availableCellsTree[nextNode];
+            }
+        }
+        return node;
+    }
+
+    private int availableCellsBefore(int chunkIndex) {
+        int availableCells = 0;
+        for (int node = chunkIndex; node > 0; node -= node & -node) {
+            availableCells += availableCellsTree[node];
+        }
+        return availableCells;
+    }
+
+    private void updateAvailableCells(int chunkIndex, int delta) {
+        for (int node = chunkIndex + 1; node <= numberOfChunks; node += node & -node) {
+            availableCellsTree[node] += delta;
+        }
+    }
+
+    private Chunk getOrCreateChunk(int chunkIndex) {
+        if (chunks[chunkIndex] == null) {
+            chunks[chunkIndex] = new Chunk();
+        }
+        return chunks[chunkIndex];
+    }
+
+    private void releaseIfEmpty(int chunkIndex) {
+        Chunk chunk = chunks[chunkIndex];
+        if (chunk.numberOfExcludedCells == 0 && chunk.numberOfDrawnCells == 0) {
+            chunks[chunkIndex] = null;
+        }
+    }
+
+    private boolean isMemberRow(int y) {
+        return (memberRows[y / CHUNK_SIZE] & (1L << (y % CHUNK_SIZE))) != 0;
+    }
+
+    private int chunkOf(int cell) {
+        return (cell / width / CHUNK_SIZE) * chunkColumns + (cell % width) / CHUNK_SIZE;
+    }
+
+    private long columnBitOf(int cell) {
+        return 1L << ((cell % width) % CHUNK_SIZE);
+    }
+
+    private int chunkWidth(int chunkColumn) {
+        return Math.min(CHUNK_SIZE, width - chunkColumn * CHUNK_SIZE);
+    }
+
+    private long columnsMask(int chunkColumn) {
+        int chunkWidth = chunkWidth(chunkColumn);
+        return (chunkWidth == CHUNK_SIZE) ? -1L : (1L << chunkWidth) - 1;
+    }
+
+    private static final class Chunk {
+        private final long[] excludedRows = new long[CHUNK_SIZE];
+        private final long[] drawnRows = new long[CHUNK_SIZE];
+        private int numberOfExcludedCells = 0;
+        private int numberOfDrawnCells = 0;
+    }
+}
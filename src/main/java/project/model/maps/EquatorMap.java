@@ -3,7 +3,6 @@ package project.model.maps;
 import project.model.Vector2d;
 import project.model.worldElements.Grass;
 
-import java.util.ArrayList;
 import java.util.NoSuchElementException;
 
 public class EquatorMap extends AbstractWorldMap {
@@ -11,28 +10,19 @@ public class EquatorMap extends AbstractWorldMap {
     private final Boundary equatorBoundary;
 
     public EquatorMap(int height, int width) {
-        super(height, width);
+        this(height, width, MapStorageVariant.HASH_MAP);
+    }
+
+    public EquatorMap(int height, int width, MapStorageVariant mapStorageVariant) {
+        super(height, width, mapStorageVariant);
 
         int equatorHeight = (int) Math.round(height * 0.2);
         int equatorStartHeight = height / 2 - equatorHeight / 2;
         int equatorEndHeight = equatorStartHeight + equatorHeight - 1;
         equatorBoundary = new Boundary(new Vector2d(0, equatorStartHeight), new Vector2d(width - 1, equatorEndHeight));
 
-        ArrayList<Vector2d> positions;
-
-        for (int i = 0; i < height; i++) {
-            positions = new ArrayList<>();
-
-            for (int j = 0; j < width; j++) {
-                positions.add(new Vector2d(j, i));
-            }
-
-            if (isPositionPreferredByGrass(positions.getFirst())) {
-                freeGrassPreferredPositions.addAll(positions);
-            } else {
-                freeGrassNotPreferredPositions.addAll(positions);
-            }
-        }
+        freeGrassPreferredCells = createFreeCells(this::isRowPreferredByGrass);
+        freeGrassNotPreferredCells = createFreeCells(y -> !isRowPreferredByGrass(y));
     }
 
     public Boundary getEquatorBounds() {
@@ -41,16 +31,15 @@ public class EquatorMap extends AbstractWorldMap {
 
     @Override
     public void removeGrass(Vector2d position) {
-        if (!grassOnMap.containsKey(position)) {
+        if (grassOnMap.remove(position) == null) {
             throw new NoSuchElementException("Cannot remove grass: no grass found at this location.");
         }
+        grassRemoved(position);
 
-        grassOnMap.remove(position);
-
-        if (isPositionPreferredByGrass(position)) {
-            freeGrassPreferredPositions.add(position);
+        if (isRowPreferredByGrass(position.y())) {
+            freeGrassPreferredCells.add(cellOf(position));
         } else {
-            freeGrassNotPreferredPositions.add(position);
+            freeGrassNotPreferredCells.add(cellOf(position));
         }
     }
 
@@ -62,16 +51,16 @@ public class EquatorMap extends AbstractWorldMap {
             throw new PositionOccupiedException(grass);
         }
         grassOnMap.put(position, grass);
+        grassPlaced(position);
 
-        if (isPositionPreferredByGrass(position)) {
-            freeGrassPreferredPositions.remove(position);
+        if (isRowPreferredByGrass(position.y())) {
+            freeGrassPreferredCells.remove(cellOf(position));
         } else {
-            freeGrassNotPreferredPositions.remove(position);
+            freeGrassNotPreferredCells.remove(cellOf(position));
         }
     }
 
-    private boolean isPositionPreferredByGrass(Vector2d position) {
-        return (position.follows(equatorBoundary.lowerLeft()) &&
-                position.precedes(equatorBoundary.upperRight()));
+    private boolean isRowPreferredByGrass(int y) {
+        return y >= equatorBoundary.lowerLeft().y() && y <= equatorBoundary.upperRight().y();
     }
-}
\ No newline at end of file
+}
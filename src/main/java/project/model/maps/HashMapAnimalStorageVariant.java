@@ -0,0 +1,82 @@
+package project.model.maps;
+
+import project.model.Vector2d;
+import project.model.worldElements.Animal;
+
+import java.util.*;
+
+public class HashMapAnimalStorageVariant implements AnimalStorage {
+
+    private final Map<Vector2d, LinkedList<Animal>> animalsOnMap = new HashMap<>();
+
+    @Override
+    public void add(Animal animal, Vector2d position) {
+        LinkedList<Animal> animalsAtPosition = animalsOnMap.computeIfAbsent(position, currentPosition -> new LinkedList<>());
+
+        if (animalsAtPosition.contains(animal)) {
+            throw new IllegalArgumentException("The animal is already present on the map.");
+        }
+
+        animalsAtPosition.add(animal);
+    }
+
+    @Override
+    public void remove(Animal animal, Vector2d position) {
+        LinkedList<Animal> list = animalsOnMap.get(position);
+
+        if (list == null || !list.remove(animal)) {
+            throw new NoSuchElementException("Cannot remove animal: this animal not found at this location.");
+        }
+
+        if (list.isEmpty()) {
+            animalsOnMap.remove(position);
+        }
+    }
+
+    @Override
+    public void move(Animal animal, Vector2d from, Vector2d to) {
+        remove(animal, from);
+        animalsOnMap.computeIfAbsent(to, k -> new LinkedList<>()).add(animal);
+    }
+
+    @Override
+    public Optional<List<Animal>> animalsAt(Vector2d position) {
+        return Optional.ofNullable(animalsOnMap.get(position));
+    }
+
+    @Override
+    public Collection<Vector2d> getOccupiedPositions() {
+        return animalsOnMap.keySet();
+    }
+
+    @Override
+    public List<Vector2d> getOrderedOccupiedPositions() {
+        return animalsOnMap.keySet().stream()
+                .sorted(Comparator.comparingInt(Vector2d::y).thenComparingInt(Vector2d::x))
+                .toList();
+    }
+
+    @Override
+    public Collection<Animal> getAnimals() {
+        return animalsOnMap.values().stream()
+                .flatMap(Collection::stream)
+                .toList();
+    }
+
+    @Override
+    public Collection<Animal> getOrderedAnimals() {
+        Comparator<Animal> animalComparator = Comparator.comparing(animal ->
+                "%s %s".formatted(animal.getPosition().x(), animal.getPosition().y())
+        );
+
+        return animalsOnMap.values().stream()
+                .flatMap(Collection::stream)
+                .sorted(animalComparator)
+                .toList();
+    }
+
+    @Override
+    public int getNumberOfOccupiedPositions() {
+        return animalsOnMap.size();
+    }
+}
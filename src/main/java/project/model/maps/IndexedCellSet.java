@@ -0,0 +1,108 @@
+package project.model.maps;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+import java.util.random.RandomGenerator;
+
+public class IndexedCellSet implements CellSet {
+    private static final int ABSENT = -1;
+
+    private final int[] cells;
+    private final int[] slotOfCell;
+    private int size = 0;
+
+    public IndexedCellSet(int numberOfCells) {
+        cells = new int[numberOfCells];
+        slotOfCell = new int[numberOfCells];
+        Arrays.fill(slotOfCell, ABSENT);
+    }
+
+    @Override
+    public boolean add(int cell) {
+        if (slotOfCell[cell] != ABSENT) {
+            return false;
+        }
+
+        cells[size] = cell;
+        slotOfCell[cell] = size;
+        size++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(int cell) {
+        int slot = slotOfCell[cell];
+        if (slot == ABSENT) {
+            return false;
+        }
+
+        int lastCell = cells[size - 1];
+        cells[slot] = lastCell;
+        slotOfCell[lastCell] = slot;
+        slotOfCell[cell] = ABSENT;
+        size--;
+        return true;
+    }
+
+    @Override
+    public boolean contains(int cell) {
+        return slotOfCell[cell] != ABSENT;
+    }
+
+    public int get(int slot) {
+        if (slot < 0 || slot >= size) {
+            throw new NoSuchElementException("Slot %d is out of range".formatted(slot));
+        }
+        return cells[slot];
+    }
+
+    public int getRandom(RandomGenerator random) {
+        if (size == 0) {
+            throw new NoSuchElementException("Cannot pick a cell from an empty set");
+        }
+        return cells[random.nextInt(size)];
+    }
+
+    @Override
+    public int drawWithoutReplacement(RandomGenerator random, int numberOfDrawnCells) {
+        int numberOfCellsLeft = size - numberOfDrawnCells;
+        if (numberOfCellsLeft <= 0) {
+            throw new NoSuchElementException("All cells have already been drawn");
+        }
+
+        int lastSlotLeft = numberOfCellsLeft - 1;
+        int drawnSlot = random.nextInt(numberOfCellsLeft);
+        int drawnCell = cells[drawnSlot];
+
+        cells[drawnSlot] = cells[lastSlotLeft];
+        slotOfCell[cells[drawnSlot]] = drawnSlot;
+        cells[lastSlotLeft] = drawnCell;
+        slotOfCell[drawnCell] = lastSlotLeft;
+
+        return drawnCell;
+    }
+
+    @Override
+    public void forEach(IntConsumer action) {
+        for (int slot = 0; slot < size; slot++) {
+            action.accept(cells[slot]);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int[] toSortedArray() {
+        int[] sortedCells = Arrays.copyOf(cells, size);
+        Arrays.sort(sortedCells);
+        return sortedCells;
+    }
+}
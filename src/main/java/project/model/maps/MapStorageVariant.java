@@ -0,0 +1,28 @@
+package project.model.maps;
+
+public enum MapStorageVariant {
+    HASH_MAP("Hash map"),
+    ARRAY_GRID("Array grid"),
+    CHUNKED("Chunked", true);
+
+    private final String displayName;
+    private final boolean headlessOnly;
+
+    MapStorageVariant(String displayName) {
+        this(displayName, false);
+    }
+
+    MapStorageVariant(String displayName, boolean headlessOnly) {
+        this.displayName = displayName;
+        this.headlessOnly = headlessOnly;
+    }
+
+    public boolean isHeadlessOnly() {
+        return headlessOnly;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -4,25 +4,19 @@ import project.model.Vector2d;
 import project.model.worldElements.Grass;
 import project.model.worldElements.MapDirection;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.NoSuchElementException;
 
 public class MovingJungleMap extends AbstractWorldMap {
 
     public MovingJungleMap(int height, int width) {
-        super(height, width);
-
-        ArrayList<Vector2d> positions;
-        for (int i = 0; i < height; i++) {
-            positions = new ArrayList<>();
+        this(height, width, MapStorageVariant.HASH_MAP);
+    }
 
-            for (int j = 0; j < width; j++) {
-                positions.add(new Vector2d(j, i));
-            }
+    public MovingJungleMap(int height, int width, MapStorageVariant mapStorageVariant) {
+        super(height, width, mapStorageVariant);
 
-            freeGrassNotPreferredPositions.addAll(positions);
-        }
+        freeGrassPreferredCells = (mapStorageVariant == MapStorageVariant.CHUNKED) ? new SparseCellSet() : createFreeCells(y -> false);
+        freeGrassNotPreferredCells = createFreeCells(y -> true);
     }
 
     @Override
@@ -33,54 +27,63 @@ public class MovingJungleMap extends AbstractWorldMap {
             throw new PositionOccupiedException(grass);
         }
         grassOnMap.put(position, grass);
+        grassPlaced(position);
 
-        for (Vector2d freePosition : getFreePositionsAroundPosition(position)) {
-            if (!freeGrassPreferredPositions.contains(freePosition)) {
-                freeGrassPreferredPositions.add(freePosition);
-                freeGrassNotPreferredPositions.remove(freePosition);
+        for (MapDirection direction : MapDirection.values()) {
+            int neighbourCell = getFreeNeighbourCell(position, direction);
+            if (neighbourCell != -1 && freeGrassPreferredCells.add(neighbourCell)) {
+                freeGrassNotPreferredCells.remove(neighbourCell);
             }
         }
 
-        freeGrassPreferredPositions.remove(position);
-        freeGrassNotPreferredPositions.remove(position);
+        freeGrassPreferredCells.remove(cellOf(position));
+        freeGrassNotPreferredCells.remove(cellOf(position));
     }
 
     @Override
     public void removeGrass(Vector2d position) {
-        if (!grassOnMap.containsKey(position)) {
+        if (grassOnMap.remove(position) == null) {
             throw new NoSuchElementException("Cannot remove grass: no grass found at this location.");
         }
-        grassOnMap.remove(position);
+        grassRemoved(position);
 
-        for (Vector2d freePosition : getFreePositionsAroundPosition(position)) {
-            if (!checkIfPositionIsPreferred(freePosition)) {
-                freeGrassPreferredPositions.remove(freePosition);
-                freeGrassNotPreferredPositions.add(freePosition);
+        for (MapDirection direction : MapDirection.values()) {
+            int neighbourCell = getFreeNeighbourCell(position, direction);
+            if (neighbourCell != -1 && !checkIfCellIsPreferred(neighbourCell)) {
+                freeGrassPreferredCells.remove(neighbourCell);
+                freeGrassNotPreferredCells.add(neighbourCell);
             }
         }
 
-        if (checkIfPositionIsPreferred(position)) {
-            freeGrassPreferredPositions.add(position);
+        if (checkIfCellIsPreferred(cellOf(position))) {
+            freeGrassPreferredCells.add(cellOf(position));
         } else {
-            freeGrassNotPreferredPositions.add(position);
+            freeGrassNotPreferredCells.add(cellOf(position));
         }
     }
 
-    private List<Vector2d> getFreePositionsAroundPosition(Vector2d position) {
-        List<Vector2d> freePositions = new ArrayList<>();
-        for (MapDirection direction : MapDirection.values()) {
-            Vector2d positionToCheck = position.add(direction.toUnitVector());
-            if (!grassOnMap.containsKey(positionToCheck) && isPositionCorrect(positionToCheck)) {
-                freePositions.add(positionToCheck);
-            }
+    private int getFreeNeighbourCell(Vector2d position, MapDirection direction) {
+        Vector2d unitVector = direction.toUnitVector();
+        int x = position.x() + unitVector.x();
+        int y = position.y() + unitVector.y();
+
+        if (!isPositionCorrect(x, y)) {
+            return -1;
         }
-        return freePositions;
+
+        int cell = y * width + x;
+        return grassOnMap.containsKey(positionOf(cell)) ? -1 : cell;
     }
 
-    private boolean checkIfPositionIsPreferred(Vector2d position) {
+    private boolean checkIfCellIsPreferred(int cell) {
+        Vector2d position = positionOf(cell);
+
         for (MapDirection direction : MapDirection.values()) {
-            Vector2d positionToCheck = position.add(direction.toUnitVector());
-            if (grassOnMap.containsKey(positionToCheck)) {
+            Vector2d unitVector = direction.toUnitVector();
+            int x = position.x() + unitVector.x();
+            int y = position.y() + unitVector.y();
+
+            if (isPositionCorrect(x, y) && grassOnMap.containsKey(positionOf(y * width + x))) {
                 return true;
             }
         }
@@ -0,0 +1,53 @@
+package project.model.maps;
+
+import project.model.worldElements.Animal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class RowBand {
+    private final int fromRow;
+    private final int toRow;
+
+    private final List<Animal> animalsCrossingBorder = new ArrayList<>();
+    private final List<Integer> cellsBehindBorder = new ArrayList<>();
+    private final List<Integer> cellsWithChangedOccupancy = new ArrayList<>();
+    private int numberOfMovedAnimals = 0;
+
+    RowBand(int fromRow, int toRow) {
+        this.fromRow = fromRow;
+        this.toRow = toRow;
+    }
+
+    int getFromRow() {
+        return fromRow;
+    }
+
+    int getToRow() {
+        return toRow;
+    }
+
+    boolean containsRow(int row) {
+        return row >= fromRow && row < toRow;
+    }
+
+    List<Animal> getAnimalsCrossingBorder() {
+        return animalsCrossingBorder;
+    }
+
+    List<Integer> getCellsBehindBorder() {
+        return cellsBehindBorder;
+    }
+
+    List<Integer> getCellsWithChangedOccupancy() {
+        return cellsWithChangedOccupancy;
+    }
+
+    int getNumberOfMovedAnimals() {
+        return numberOfMovedAnimals;
+    }
+
+    void addMovedAnimal() {
+        numberOfMovedAnimals++;
+    }
+}
@@ -0,0 +1,141 @@
+package project.model.maps;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+import java.util.random.RandomGenerator;
+
+public class SparseCellSet implements CellSet {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int EMPTY = -1;
+
+    private int[] cells = new int[INITIAL_CAPACITY];
+    private int size = 0;
+
+    private int[] indexCells = new int[INITIAL_CAPACITY * 2];
+    private int[] indexSlots = new int[INITIAL_CAPACITY * 2];
+
+    public SparseCellSet() {
+        Arrays.fill(indexCells, EMPTY);
+    }
+
+    @Override
+    public boolean add(int cell) {
+        if (findIndexPosition(cell) != EMPTY) {
+            return false;
+        }
+
+        if (size == cells.length) {
+            cells = Arrays.copyOf(cells, cells.length * 2);
+            rebuildIndex(indexCells.length * 2);
+        }
+        cells[size] = cell;
+        putSlot(cell, size);
+        size++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(int cell) {
+        int indexPosition = findIndexPosition(cell);
+        if (indexPosition == EMPTY) {
+            return false;
+        }
+
+        int slot = indexSlots[indexPosition];
+        deleteIndexPosition(indexPosition);
+
+        int lastCell = cells[--size];
+        if (lastCell != cell) {
+            cells[slot] = lastCell;
+            putSlot(lastCell, slot);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean contains(int cell) {
+        return findIndexPosition(cell) != EMPTY;
+    }
+
+    @Override
+    public int drawWithoutReplacement(RandomGenerator random, int numberOfDrawnCells) {
+        int numberOfCellsLeft = size - numberOfDrawnCells;
+        if (numberOfCellsLeft <= 0) {
+            throw new NoSuchElementException("All cells have already been drawn");
+        }
+
+        int lastSlotLeft = numberOfCellsLeft - 1;
+        int drawnSlot = random.nextInt(numberOfCellsLeft);
+        int drawnCell = cells[drawnSlot];
+
+        cells[drawnSlot] = cells[lastSlotLeft];
+        putSlot(cells[drawnSlot], drawnSlot);
+        cells[lastSlotLeft] = drawnCell;
+        putSlot(drawnCell, lastSlotLeft);
+
+        return drawnCell;
+    }
+
+    @Override
+    public void forEach(IntConsumer action) {
+        for (int slot = 0; slot < size; slot++) {
+            action.accept(cells[slot]);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private int findIndexPosition(int cell) {
+        int mask = indexCells.length - 1;
+        for (int position = hash(cell) & mask; indexCells[position] != EMPTY; position = (position + 1) & mask) {
+            if (indexCells[position] == cell) {
+                return position;
+            }
+        }
+        return EMPTY;
+    }
+
+    private void putSlot(int cell, int slot) {
+        int mask = indexCells.length - 1;
+        int position = hash(cell) & mask;
+        while (indexCells[position] != EMPTY && indexCells[position] != cell) {
+            position = (position + 1) & mask;
+        }
+        indexCells[position] = cell;
+        indexSlots[position] = slot;
+    }
+
+    private void deleteIndexPosition(int position) {
+        int mask = indexCells.length - 1;
+        int emptyPosition = position;
+
+        for (int next = (position + 1) & mask; indexCells[next] != EMPTY; next = (next + 1) & mask) {
+            int home = hash(indexCells[next]) & mask;
+            if (((next - home) & mask) >= ((next - emptyPosition) & mask)) {
+                indexCells[emptyPosition] = indexCells[next];
+                indexSlots[emptyPosition] = indexSlots[next];
+                emptyPosition = next;
+            }
+        }
+        indexCells[emptyPosition] = EMPTY;
+    }
+
+    private void rebuildIndex(int capacity) {
+        indexCells = new int[capacity];
+        indexSlots = new int[capacity];
+        Arrays.fill(indexCells, EMPTY);
+
+        for (int slot = 0; slot < size; slot++) {
+            putSlot(cells[slot], slot);
+        }
+    }
+
+    private static int hash(int cell) {
+        int hash = cell * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -1,5 +1,7 @@
 package project.model.maps;
 
+import project.checkpoint.CheckpointInput;
+import project.checkpoint.CheckpointOutput;
 import project.model.Vector2d;
 import project.model.worldElements.Animal;
 import project.model.worldElements.WorldElement;
@@ -8,12 +10,17 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntConsumer;
+import java.util.random.RandomGenerator;
 
 public interface WorldMap {
 
     void place(WorldElement element) throws IncorrectPositionException;
 
-    void move(Animal animal);
+    boolean move(Animal animal);
+
+    int moveAnimalsInRowBands(int numberOfRowBands);
 
     Optional<List<Animal>> animalsAt(Vector2d position);
 
@@ -27,10 +34,16 @@ public interface WorldMap {
 
     Collection<Vector2d> getAllAnimalsPositions();
 
+    List<Vector2d> getOrderedAnimalsPositions();
+
     List<Vector2d> getFreeGrassPreferredPositions();
 
     List<Vector2d> getFreeGrassNotPreferredPositions();
 
+    void forEachFreeGrassPreferredCell(IntConsumer action);
+
+    void forEachGrassCell(IntConsumer action);
+
     void removeAnimal(Animal animal);
 
     void removeGrass(Vector2d position);
@@ -41,9 +54,19 @@ public interface WorldMap {
 
     int getNumberOfGrass();
 
+    int getNumberOfEmptyFields();
+
     int getMapHeight();
 
     int getMapWidth();
 
-    void spawnGrass(int numberOfGrass);
+    void spawnGrass(int numberOfGrass, RandomGenerator random);
+
+    void writeCheckpoint(CheckpointOutput output);
+
+    void restoreCheckpoint(CheckpointInput input);
+
+    default void spawnGrass(int numberOfGrass) {
+        spawnGrass(numberOfGrass, ThreadLocalRandom.current());
+    }
 }
\ No newline at end of file
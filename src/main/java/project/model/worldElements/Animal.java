@@ -7,92 +7,121 @@ import java.util.LinkedList;
 import java.util.Random;
 
 public class Animal implements WorldElement {
-    private MapDirection currentOrientation;
-    private Vector2d currentPosition;
-    private int currentEnergy;
-    private AnimalGenes animalGenes;
-    private final int energyOfWellFedAnimal;
-    private final MutationStrategy mutationStrategy;
-    private final int energyUsedToReproduce;
-    private final LinkedList<Animal> animalsKids = new LinkedList<>();
-    private int lengthOfLife = 0;
-    private int numberOfEatenPlants = 0;
+    private Population population;
+    private int slot;
+    private AnimalFinalState finalState;
 
     public Animal(Vector2d position, ArrayList<Integer> genes, int initialEnergy, int energyOfWellFedAnimal, int energyUsedToReproduce, MutationStrategy mutationStrategy) {
-        this(position, initialEnergy, energyOfWellFedAnimal, energyUsedToReproduce, mutationStrategy);
-        animalGenes = new AnimalGenes(genes, mutationStrategy);
+        Population ownPopulation = new Population(genes.size(), energyOfWellFedAnimal, energyUsedToReproduce, mutationStrategy, new Random(), 1);
+        ownPopulation.addAnimal(this, position, initialEnergy, genes);
     }
 
     public Animal(Vector2d position, int numberOfGenes, int initialEnergy, int energyOfWellFedAnimal, int energyUsedToReproduce, MutationStrategy mutationStrategy) {
-        this(position, initialEnergy, energyOfWellFedAnimal, energyUsedToReproduce, mutationStrategy);
-        animalGenes = new AnimalGenes(numberOfGenes, mutationStrategy);
+        Population ownPopulation = new Population(numberOfGenes, energyOfWellFedAnimal, energyUsedToReproduce, mutationStrategy, new Random(), 1);
+        ownPopulation.addAnimal(this, position, initialEnergy);
     }
 
-    private Animal(Vector2d position, int initialEnergy, int energyOfWellFedAnimal, int energyUsedToReproduce, MutationStrategy mutationStrategy) {
-        this.mutationStrategy = mutationStrategy;
-        if (initialEnergy <= 0 || energyOfWellFedAnimal <= 0 || energyUsedToReproduce <= 0) {
-            throw new IllegalArgumentException("InitialEnergy, energyOfWellFedAnimal, energyUsedToReproduce must all be greater than zero");
-        }
+    Animal() {
+    }
 
-        currentPosition = position;
-        currentEnergy = initialEnergy;
-        this.energyOfWellFedAnimal = energyOfWellFedAnimal;
-        this.energyUsedToReproduce = energyUsedToReproduce;
+    void attachTo(Population population, int slot) {
+        this.population = population;
+        this.slot = slot;
+    }
 
-        Random random = new Random();
-        currentOrientation = MapDirection.values()[random.nextInt(0, 8)];
+    void detach(AnimalFinalState finalState) {
+        this.finalState = finalState;
+        this.population = null;
+    }
+
+    public long getId() {
+        return finalState == null ? population.getId(slot) : finalState.id();
     }
 
     public int getCurrentEnergy() {
-        return currentEnergy;
+        return finalState == null ? population.getEnergy(slot) : finalState.energy();
     }
 
     public int getActivePartOfGenome() {
-        return animalGenes.getIndexOfActiveGene();
+        return finalState == null ? population.getActiveGene(slot) : finalState.activeGene();
     }
 
     public int getNumberOfEatenPlants() {
-        return numberOfEatenPlants;
+        return finalState == null ? population.getNumberOfEatenPlants(slot) : finalState.numberOfEatenPlants();
     }
 
     public MapDirection getCurrentOrientation() {
-        return currentOrientation;
+        return finalState == null ? population.getOrientation(slot) : finalState.orientation();
     }
 
     public Vector2d getPosition() {
-        return currentPosition;
+        return new Vector2d(getPositionX(), getPositionY());
+    }
+
+    public int getPositionX() {
+        return finalState == null ? population.getPositionX(slot) : finalState.positionX();
+    }
+
+    public int getPositionY() {
+        return finalState == null ? population.getPositionY(slot) : finalState.positionY();
     }
 
     public ArrayList<Integer> getAnimalGenesList() {
-        return new ArrayList<>(animalGenes.getAnimalGenes());
+        return finalState == null ? population.getGenesList(slot) : finalState.genome().toGenesList();
     }
 
-    AnimalGenes getAnimalGenes() {
-        return animalGenes;
+    public long getGenotypeId() {
+        return finalState == null ? population.getGenotypeId(slot) : finalState.genome().getGenotypeId();
     }
 
     public String getAnimalGenesString() {
-        return animalGenes.getAnimalGenesString();
+        return finalState == null ? population.getGenesString(slot) : finalState.genome().toString();
     }
 
     public Vector2d getNextPosition() {
-        return currentPosition.add(currentOrientation.toUnitVector());
+        Vector2d unitVector = getCurrentOrientation().toUnitVector();
+        return new Vector2d(getPositionX() + unitVector.x(), getPositionY() + unitVector.y());
     }
 
     public MapDirection getNextOrientation() {
-        return MapDirection.values()[(currentOrientation.ordinal() + animalGenes.getCurrentActiveGeneValue()) % 8];
+        int activeGeneValue = finalState == null ? population.getActiveGeneValue(slot) : finalState.genome().getGene(finalState.activeGene());
+        return getCurrentOrientation().rotate(activeGeneValue);
     }
 
     public int getLengthOfLife() {
-        return lengthOfLife;
+        return finalState == null ? population.getLengthOfLife(slot) : finalState.lengthOfLife();
+    }
+
+    public int getNumberOfKids() {
+        return getGenealogy().getNumberOfKids(getGenealogyId());
+    }
+
+    public Genealogy getGenealogy() {
+        return finalState == null ? population.getGenealogy() : finalState.genealogy();
+    }
+
+    public int getGenealogyId() {
+        return finalState == null ? population.getGenealogyId(slot) : finalState.genealogyId();
     }
 
     public LinkedList<Animal> getAnimalsKids() {
-        return new LinkedList<>(animalsKids);
+        Genealogy genealogy = getGenealogy();
+        LinkedList<Animal> livingKids = new LinkedList<>();
+        genealogy.forEachKid(getGenealogyId(), kidId -> {
+            Animal kid = genealogy.getLivingAnimal(kidId);
+            if (kid != null) {
+                livingKids.addFirst(kid);
+            }
+        });
+        return livingKids;
     }
 
     public String getResourceFileName() {
-        return switch (currentOrientation) {
+        return getResourceFileName(getCurrentOrientation());
+    }
+
+    public static String getResourceFileName(MapDirection orientation) {
+        return switch (orientation) {
             case NORTH -> "images/north.png";
             case SOUTH -> "images/south.png";
             case EAST -> "images/east.png";
@@ -106,7 +135,7 @@ public class Animal implements WorldElement {
 
     @Override
     public String toString() {
-        return switch (currentOrientation) {
+        return switch (getCurrentOrientation()) {
             case NORTH -> "N";
             case NORTHEAST -> "NE";
             case EAST -> "E";
@@ -119,60 +148,42 @@ public class Animal implements WorldElement {
     }
 
     public boolean isAnimalAlive() {
-        return currentEnergy > 0;
+        return getCurrentEnergy() > 0;
     }
 
     public void eat(int energyFromGrass) {
-        currentEnergy += energyFromGrass;
-        numberOfEatenPlants++;
+        checkInPopulation("eat");
+        population.eat(slot, energyFromGrass);
     }
 
     public void rotate(int rotateAngle) {
-        if (!this.isAnimalAlive()) {
-            throw new AnimalDeadException("Animal can't rotate, because it is dead");
-        }
-
-        currentOrientation = currentOrientation.rotate(rotateAngle);
-        animalGenes.nextActiveGeneIndex();
-        lengthOfLife++;
+        checkInPopulation("rotate");
+        population.rotate(slot, rotateAngle);
     }
 
     public void rotate() {
-        this.rotate(animalGenes.getCurrentActiveGeneValue());
+        checkInPopulation("rotate");
+        population.rotate(slot);
     }
 
     public void move(Vector2d position) {
-        if (!this.isAnimalAlive()) {
-            throw new AnimalDeadException("Animal can't move, because it is dead");
-        }
-
-        currentPosition = position;
-        currentEnergy--;
+        checkInPopulation("move");
+        population.move(slot, position.x(), position.y());
     }
 
     public void move() {
         move(getNextPosition());
     }
 
-
     public static Animal reproduce(Animal firstParent, Animal secondParent) {
+        firstParent.checkInPopulation("reproduce");
+        secondParent.checkInPopulation("reproduce");
+        return firstParent.population.reproduce(firstParent.slot, secondParent.population, secondParent.slot);
+    }
 
-        if (firstParent.currentEnergy < firstParent.energyOfWellFedAnimal || secondParent.getCurrentEnergy() < firstParent.energyOfWellFedAnimal) {
-            throw new IllegalArgumentException("At least one animal has not enough energy to reproduce");
+    private void checkInPopulation(String action) {
+        if (finalState != null) {
+            throw new AnimalDeadException("Animal can't %s, because it is dead".formatted(action));
         }
-        if (!firstParent.currentPosition.equals(secondParent.currentPosition)) {
-            throw new IllegalArgumentException("Animals cannot reproduce because they have different positions");
-        }
-
-        firstParent.currentEnergy = firstParent.currentEnergy - firstParent.energyUsedToReproduce;
-        secondParent.currentEnergy -= firstParent.energyUsedToReproduce;
-
-        ArrayList<Integer> genesFromBothParents = AnimalGenes.kidsGenes(firstParent, secondParent);
-
-        Animal babyAnimal = new Animal(firstParent.currentPosition, genesFromBothParents, firstParent.energyUsedToReproduce * 2, firstParent.energyOfWellFedAnimal, firstParent.energyUsedToReproduce, firstParent.mutationStrategy);
-        firstParent.animalsKids.add(babyAnimal);
-        secondParent.animalsKids.add(babyAnimal);
-
-        return babyAnimal;
     }
 }
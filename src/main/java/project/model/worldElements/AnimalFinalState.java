@@ -0,0 +1,16 @@
+package project.model.worldElements;
+
+record AnimalFinalState(
+        long id,
+        int positionX,
+        int positionY,
+        MapDirection orientation,
+        int energy,
+        int activeGene,
+        int lengthOfLife,
+        int numberOfEatenPlants,
+        int genealogyId,
+        Genome genome,
+        Genealogy genealogy
+) {
+}
\ No newline at end of file
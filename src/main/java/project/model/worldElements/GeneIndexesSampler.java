@@ -0,0 +1,36 @@
+package project.model.worldElements;
+
+import project.checkpoint.CheckpointInput;
+import project.checkpoint.CheckpointOutput;
+
+import java.util.random.RandomGenerator;
+
+final class GeneIndexesSampler {
+    private int[] geneIndexes = new int[0];
+
+    int[] sample(RandomGenerator random, int numberOfGenes, int numberOfSampledGenes) {
+        if (geneIndexes.length != numberOfGenes) {
+            geneIndexes = new int[numberOfGenes];
+            for (int i = 0; i < numberOfGenes; i++) {
+                geneIndexes[i] = i;
+            }
+        }
+
+        for (int i = 0; i < numberOfSampledGenes; i++) {
+            int drawnIndex = random.nextInt(i, numberOfGenes);
+            int geneIndex = geneIndexes[drawnIndex];
+            geneIndexes[drawnIndex] = geneIndexes[i];
+            geneIndexes[i] = geneIndex;
+        }
+        return geneIndexes;
+    }
+
+    void writeCheckpoint(CheckpointOutput output) {
+        output.putInt(geneIndexes.length).putInts(geneIndexes, 0, geneIndexes.length);
+    }
+
+    void restoreCheckpoint(CheckpointInput input) {
+        geneIndexes = new int[input.getInt()];
+        input.getInts(geneIndexes, 0, geneIndexes.length);
+    }
+}
@@ -0,0 +1,259 @@
+package project.model.worldElements;
+
+import project.checkpoint.CheckpointInput;
+import project.checkpoint.CheckpointOutput;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+public class Genealogy {
+    public static final int NO_ANIMAL = -1;
+    public static final int NO_DAY = -1;
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int FREE_ROW = -2;
+
+    private int currentDay = 0;
+    private int numberOfRows = 0;
+    private int numberOfRetainedAnimals = 0;
+    private int firstFreeRow = NO_ANIMAL;
+    private final Map<Integer, Integer> pinCounts = new HashMap<>();
+
+    private int[] firstParentIds = new int[INITIAL_CAPACITY];
+    private int[] secondParentIds = new int[INITIAL_CAPACITY];
+    private int[] birthDays = new int[INITIAL_CAPACITY];
+    private int[] deathDays = new int[INITIAL_CAPACITY];
+    private int[] numbersOfKids = new int[INITIAL_CAPACITY];
+    private int[] lastKidIds = new int[INITIAL_CAPACITY];
+    private int[] nextKidOfFirstParentIds = new int[INITIAL_CAPACITY];
+    private int[] nextKidOfSecondParentIds = new int[INITIAL_CAPACITY];
+    private Animal[] livingAnimals = new Animal[INITIAL_CAPACITY];
+
+    public void setCurrentDay(int currentDay) {
+        this.currentDay = currentDay;
+    }
+
+    public int size() {
+        return numberOfRetainedAnimals;
+    }
+
+    public int getBirthDay(int id) {
+        return birthDays[id];
+    }
+
+    public int getDeathDay(int id) {
+        return deathDays[id];
+    }
+
+    public int getNumberOfKids(int id) {
+        return numbersOfKids[id];
+    }
+
+    public int getFirstParentId(int id) {
+        return firstParentIds[id];
+    }
+
+    public int getSecondParentId(int id) {
+        return secondParentIds[id];
+    }
+
+    public void forEachKid(int id, IntConsumer action) {
+        for (int kidId = lastKidIds[id]; kidId != NO_ANIMAL; kidId = nextKidId(kidId, id)) {
+            action.accept(kidId);
+        }
+    }
+
+    public void pin(int id) {
+        pinCounts.merge(id, 1, Integer::sum);
+    }
+
+    public void unpin(int id) {
+        pinCounts.computeIfPresent(id, (pinnedId, count) -> (count > 1) ? count - 1 : null);
+    }
+
+    Animal getLivingAnimal(int id) {
+        return livingAnimals[id];
+    }
+
+    int addAnimal(Animal animal, int firstParentId, int secondParentId) {
+        int id = allocateRow();
+
+        firstParentIds[id] = firstParentId;
+        secondParentIds[id] = secondParentId;
+        birthDays[id] = currentDay;
+        deathDays[id] = NO_DAY;
+        numbersOfKids[id] = 0;
+        lastKidIds[id] = NO_ANIMAL;
+        livingAnimals[id] = animal;
+
+        nextKidOfFirstParentIds[id] = NO_ANIMAL;
+        if (firstParentId != NO_ANIMAL) {
+            nextKidOfFirstParentIds[id] = lastKidIds[firstParentId];
+            lastKidIds[firstParentId] = id;
+            numbersOfKids[firstParentId]++;
+        }
+        nextKidOfSecondParentIds[id] = NO_ANIMAL;
+        if (secondParentId != NO_ANIMAL) {
+            nextKidOfSecondParentIds[id] = lastKidIds[secondParentId];
+            lastKidIds[secondParentId] = id;
+            numbersOfKids[secondParentId]++;
+        }
+        return id;
+    }
+
+    void setLivingAnimal(int id, Animal animal) {
+        livingAnimals[id] = animal;
+    }
+
+    void registerKidBornElsewhere(int id) {
+        numbersOfKids[id]++;
+    }
+
+    void registerDeath(int id) {
+        deathDays[id] = currentDay;
+        livingAnimals[id] = null;
+    }
+
+    void prune() {
+        BitSet retainedIds = new BitSet(numberOfRows);
+        int[] idsToVisit = new int[INITIAL_CAPACITY];
+        int numberOfIdsToVisit = 0;
+
+        for (int id = 0; id < numberOfRows; id++) {
+            if (birthDays[id] != FREE_ROW && (deathDays[id] == NO_DAY || pinCounts.containsKey(id))) {
+                retainedIds.set(id);
+                if (numberOfIdsToVisit == idsToVisit.length) {
+                    idsToVisit = Arrays.copyOf(idsToVisit, idsToVisit.length * 2);
+                }
+                idsToVisit[numberOfIdsToVisit++] = id;
+            }
+        }
+
+        while (numberOfIdsToVisit > 0) {
+            int id = idsToVisit[--numberOfIdsToVisit];
+            for (int kidId = lastKidIds[id]; kidId != NO_ANIMAL; kidId = nextKidId(kidId, id)) {
+                if (!retainedIds.get(kidId)) {
+                    retainedIds.set(kidId);
+                    if (numberOfIdsToVisit == idsToVisit.length) {
+                        idsToVisit = Arrays.copyOf(idsToVisit, idsToVisit.length * 2);
+                    }
+                    idsToVisit[numberOfIdsToVisit++] = kidId;
+                }
+            }
+        }
+
+        for (int id = 0; id < numberOfRows; id++) {
+            if (birthDays[id] != FREE_ROW && !retainedIds.get(id)) {
+                unlinkKids(id);
+            }
+        }
+        for (int id = numberOfRows - 1; id >= 0; id--) {
+            if (birthDays[id] != FREE_ROW && !retainedIds.get(id)) {
+                freeRow(id);
+            }
+        }
+    }
+
+    void writeCheckpoint(CheckpointOutput output) {
+        output.putInt(birthDays.length)
+                .putInt(numberOfRows)
+                .putInt(numberOfRetainedAnimals)
+                .putInt(firstFreeRow)
+                .putInt(currentDay)
+                .putInts(firstParentIds, 0, numberOfRows)
+                .putInts(secondParentIds, 0, numberOfRows)
+                .putInts(birthDays, 0, numberOfRows)
+                .putInts(deathDays, 0, numberOfRows)
+                .putInts(numbersOfKids, 0, numberOfRows)
+                .putInts(lastKidIds, 0, numberOfRows)
+                .putInts(nextKidOfFirstParentIds, 0, numberOfRows)
+                .putInts(nextKidOfSecondParentIds, 0, numberOfRows);
+    }
+
+    void restoreCheckpoint(CheckpointInput input) {
+        int capacity = input.getInt();
+        numberOfRows = input.getInt();
+        numberOfRetainedAnimals = input.getInt();
+        firstFreeRow = input.getInt();
+        currentDay = input.getInt();
+        pinCounts.clear();
+
+        firstParentIds = readColumn(input, capacity);
+        secondParentIds = readColumn(input, capacity);
+        birthDays = readColumn(input, capacity);
+        deathDays = readColumn(input, capacity);
+        numbersOfKids = readColumn(input, capacity);
+        lastKidIds = readColumn(input, capacity);
+        nextKidOfFirstParentIds = readColumn(input, capacity);
+        nextKidOfSecondParentIds = readColumn(input, capacity);
+        livingAnimals = new Animal[capacity];
+    }
+
+    private int[] readColumn(CheckpointInput input, int capacity) {
+        int[] column = new int[capacity];
+        input.getInts(column, 0, numberOfRows);
+        return column;
+    }
+
+    private int nextKidId(int kidId, int parentId) {
+        return (firstParentIds[kidId] == parentId) ? nextKidOfFirstParentIds[kidId] : nextKidOfSecondParentIds[kidId];
+    }
+
+    private void unlinkKids(int id) {
+        int kidId = lastKidIds[id];
+        while (kidId != NO_ANIMAL) {
+            int nextKidId = nextKidId(kidId, id);
+            if (firstParentIds[kidId] == id) {
+                firstParentIds[kidId] = NO_ANIMAL;
+                nextKidOfFirstParentIds[kidId] = NO_ANIMAL;
+            } else {
+                secondParentIds[kidId] = NO_ANIMAL;
+                nextKidOfSecondParentIds[kidId] = NO_ANIMAL;
+            }
+            kidId = nextKidId;
+        }
+        lastKidIds[id] = NO_ANIMAL;
+    }
+
+    private void freeRow(int id) {
+        birthDays[id] = FREE_ROW;
+        livingAnimals[id] = null;
+        nextKidOfFirstParentIds[id] = firstFreeRow;
+        firstFreeRow = id;
+        numberOfRetainedAnimals--;
+    }
+
+    private int allocateRow() {
+        if (firstFreeRow == NO_ANIMAL && numberOfRows == birthDays.length) {
+            prune();
+            if (numberOfRetainedAnimals > birthDays.length / 2) {
+                grow();
+            }
+        }
+
+        numberOfRetainedAnimals++;
+        if (firstFreeRow != NO_ANIMAL) {
+            int id = firstFreeRow;
+            firstFreeRow = nextKidOfFirstParentIds[id];
+            return id;
+        }
+        return numberOfRows++;
+    }
+
+    private void grow() {
+        int capacity = birthDays.length * 2;
+
+        firstParentIds = Arrays.copyOf(firstParentIds, capacity);
+        secondParentIds = Arrays.copyOf(secondParentIds, capacity);
+        birthDays = Arrays.copyOf(birthDays, capacity);
+        deathDays = Arrays.copyOf(deathDays, capacity);
+        numbersOfKids = Arrays.copyOf(numbersOfKids, capacity);
+        lastKidIds = Arrays.copyOf(lastKidIds, capacity);
+        nextKidOfFirstParentIds = Arrays.copyOf(nextKidOfFirstParentIds, capacity);
+        nextKidOfSecondParentIds = Arrays.copyOf(nextKidOfSecondParentIds, capacity);
+        livingAnimals = Arrays.copyOf(livingAnimals, capacity);
+    }
+}
@@ -0,0 +1,79 @@
+package project.model.worldElements;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+final class Genome {
+    private static final int BITS_PER_GENE = 3;
+    private static final int MAX_NUMBER_OF_PACKED_GENES = Long.SIZE / BITS_PER_GENE;
+
+    private final byte[] genes;
+    private final long genotypeId;
+    private String genesString;
+
+    int numberOfReferences = 0;
+    Genome nextWithSameId;
+
+    Genome(byte[] genes, long genotypeId) {
+        this.genes = genes;
+        this.genotypeId = genotypeId;
+    }
+
+    static long computeGenotypeId(byte[] genes) {
+        if (genes.length <= MAX_NUMBER_OF_PACKED_GENES) {
+            long packedGenes = 0;
+            for (byte gene : genes) {
+                packedGenes = (packedGenes << BITS_PER_GENE) | gene;
+            }
+            return packedGenes;
+        }
+
+        long hash = 0xcbf29ce484222325L;
+        for (byte gene : genes) {
+            hash = (hash ^ gene) * 0x100000001b3L;
+        }
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    int getGene(int index) {
+        return genes[index];
+    }
+
+    ArrayList<Integer> toGenesList() {
+        ArrayList<Integer> genesList = new ArrayList<>(genes.length);
+        for (byte gene : genes) {
+            genesList.add((int) gene);
+        }
+        return genesList;
+    }
+
+    int size() {
+        return genes.length;
+    }
+
+    long getGenotypeId() {
+        return genotypeId;
+    }
+
+    boolean hasGenes(byte[] otherGenes) {
+        return Arrays.equals(genes, otherGenes);
+    }
+
+    void copyGenes(int from, byte[] target, int targetOffset, int length) {
+        System.arraycopy(genes, from, target, targetOffset, length);
+    }
+
+    @Override
+    public String toString() {
+        if (genesString == null) {
+            char[] genesCharacters = new char[genes.length];
+            for (int i = 0; i < genes.length; i++) {
+                genesCharacters[i] = (char) ('0' + genes[i]);
+            }
+            genesString = new String(genesCharacters);
+        }
+        return genesString;
+    }
+}
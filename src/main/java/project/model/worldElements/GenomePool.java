@@ -0,0 +1,57 @@
+package project.model.worldElements;
+
+import java.util.HashMap;
+import java.util.Map;
+
+final class GenomePool {
+    private final Map<Long, Genome> genomes = new HashMap<>();
+    private int numberOfGenomes = 0;
+
+    Genome acquire(byte[] genes) {
+        long genotypeId = Genome.computeGenotypeId(genes);
+        Genome firstGenome = genomes.get(genotypeId);
+
+        for (Genome genome = firstGenome; genome != null; genome = genome.nextWithSameId) {
+            if (genome.hasGenes(genes)) {
+                genome.numberOfReferences++;
+                return genome;
+            }
+        }
+
+        Genome genome = new Genome(genes.clone(), genotypeId);
+        genome.numberOfReferences = 1;
+        genome.nextWithSameId = firstGenome;
+        genomes.put(genotypeId, genome);
+        numberOfGenomes++;
+        return genome;
+    }
+
+    void release(Genome genome) {
+        if (--genome.numberOfReferences > 0) {
+            return;
+        }
+
+        Genome firstGenome = genomes.get(genome.getGenotypeId());
+        if (firstGenome == genome) {
+            if (genome.nextWithSameId == null) {
+                genomes.remove(genome.getGenotypeId());
+            } else {
+                genomes.put(genome.getGenotypeId(), genome.nextWithSameId);
+            }
+        } else {
+            Genome previousGenome = firstGenome;
+            while (previousGenome != null && previousGenome.nextWithSameId != genome) {
+                previousGenome = previousGenome.nextWithSameId;
+            }
+            if (previousGenome != null) {
+                previousGenome.nextWithSameId = genome.nextWithSameId;
+            }
+        }
+        genome.nextWithSameId = null;
+        numberOfGenomes--;
+    }
+
+    int size() {
+        return numberOfGenomes;
+    }
+}
@@ -3,6 +3,7 @@ package project.model.worldElements;
 import project.model.Vector2d;
 
 public class Grass implements WorldElement {
+    public static final String RESOURCE_FILE_NAME = "images/grass.png";
 
     private final Vector2d position;
 
@@ -16,7 +17,7 @@ public class Grass implements WorldElement {
 
     @Override
     public String getResourceFileName() {
-        return "images/grass.png";
+        return RESOURCE_FILE_NAME;
     }
 
     @Override
@@ -1,40 +1,47 @@
 package project.model.worldElements;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import project.checkpoint.CheckpointInput;
+import project.checkpoint.CheckpointOutput;
+
 import java.util.Random;
+import java.util.random.RandomGenerator;
 
 public class IncrementDecrementMutationStrategyVariant implements MutationStrategy {
-    private final Random random = new Random();
+    private final RandomGenerator random;
     private final int minNumberOfMutations;
     private final int maxNumberOfMutations;
+    private final GeneIndexesSampler geneIndexesSampler = new GeneIndexesSampler();
 
     public IncrementDecrementMutationStrategyVariant(int minNumberOfMutations, int maxNumberOfMutations) {
+        this(minNumberOfMutations, maxNumberOfMutations, new Random());
+    }
+
+    public IncrementDecrementMutationStrategyVariant(int minNumberOfMutations, int maxNumberOfMutations, RandomGenerator random) {
         this.minNumberOfMutations = minNumberOfMutations;
         this.maxNumberOfMutations = maxNumberOfMutations;
+        this.random = random;
     }
 
     @Override
-    public void mutateGenes(ArrayList<Integer> genes) {
+    public void mutateGenes(byte[] genes, int offset, int numberOfGenes) {
         int numberOfMutations = random.nextInt(minNumberOfMutations, maxNumberOfMutations + 1);
-        ArrayList<Integer> indexes = new ArrayList<>();
-
-        for (int i = 0; i < genes.size(); i++) {
-            indexes.add(i);
-        }
-
-        Collections.shuffle(indexes);
+        int[] geneIndexes = geneIndexesSampler.sample(random, numberOfGenes, numberOfMutations);
 
         for (int i = 0; i < numberOfMutations; i++) {
-
-            int geneIndex = indexes.get(i);
-            int geneValue = genes.get(geneIndex);
+            int geneIndex = offset + geneIndexes[i];
 
             int change = random.nextBoolean() ? 1 : -1;
-            geneValue = (geneValue + change + 8) % 8;
-
-            genes.remove(geneIndex);
-            genes.add(geneIndex, geneValue);
+            genes[geneIndex] = (byte) ((genes[geneIndex] + change + 8) % 8);
         }
     }
+
+    @Override
+    public void writeCheckpoint(CheckpointOutput output) {
+        geneIndexesSampler.writeCheckpoint(output);
+    }
+
+    @Override
+    public void restoreCheckpoint(CheckpointInput input) {
+        geneIndexesSampler.restoreCheckpoint(input);
+    }
 }
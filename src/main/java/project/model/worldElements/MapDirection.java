@@ -23,6 +23,8 @@ public enum MapDirection {
             new Vector2d(-1, 1)
     };
 
+    private static final MapDirection[] mapDirections = values();
+
     private static final String[] names = {"Polnoc", "PolnocnyWschod", "Wschod", "PoludniowyWschod", "Poludnie", "PoludniowyZachod", "Zachod", "PolnocnyZachod"};
 
     @Override
@@ -35,6 +37,10 @@ public enum MapDirection {
     }
 
     public MapDirection rotate(int numberOfRotations) {
-        return MapDirection.values()[((this.ordinal() + numberOfRotations) % 8)];
+        return mapDirections[((this.ordinal() + numberOfRotations) % 8)];
+    }
+
+    public static MapDirection fromOrdinal(int ordinal) {
+        return mapDirections[ordinal];
     }
 }
@@ -1,7 +1,29 @@
 package project.model.worldElements;
 
+import project.checkpoint.CheckpointInput;
+import project.checkpoint.CheckpointOutput;
+
 import java.util.ArrayList;
 
 public interface MutationStrategy {
-    void mutateGenes(ArrayList<Integer> genes);
+    void mutateGenes(byte[] genes, int offset, int numberOfGenes);
+
+    default void mutateGenes(ArrayList<Integer> genes) {
+        byte[] packedGenes = new byte[genes.size()];
+        for (int i = 0; i < packedGenes.length; i++) {
+            packedGenes[i] = genes.get(i).byteValue();
+        }
+
+        mutateGenes(packedGenes, 0, packedGenes.length);
+
+        for (int i = 0; i < packedGenes.length; i++) {
+            genes.set(i, (int) packedGenes[i]);
+        }
+    }
+
+    default void writeCheckpoint(CheckpointOutput output) {
+    }
+
+    default void restoreCheckpoint(CheckpointInput input) {
+    }
 }
@@ -0,0 +1,420 @@
+package project.model.worldElements;
+
+import project.checkpoint.CheckpointInput;
+import project.checkpoint.CheckpointOutput;
+import project.model.Vector2d;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+public class Population {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int NUMBER_OF_DIRECTIONS = 8;
+
+    private final int numberOfGenes;
+    private final int energyOfWellFedAnimal;
+    private final int energyUsedToReproduce;
+    private final MutationStrategy mutationStrategy;
+    private final RandomGenerator random;
+    private final GenomePool genomePool = new GenomePool();
+    private final byte[] kidsGenes;
+    private final Genealogy genealogy = new Genealogy();
+
+    private int size = 0;
+    private long nextId = 0;
+    private Animal[] animals;
+    private long[] ids;
+    private int[] positionsX;
+    private int[] positionsY;
+    private byte[] orientations;
+    private int[] energies;
+    private int[] activeGenes;
+    private int[] lengthsOfLife;
+    private int[] numbersOfEatenPlants;
+    private int[] genealogyIds;
+    private Genome[] genomes;
+
+    public Population(int numberOfGenes, int energyOfWellFedAnimal, int energyUsedToReproduce, MutationStrategy mutationStrategy, RandomGenerator random) {
+        this(numberOfGenes, energyOfWellFedAnimal, energyUsedToReproduce, mutationStrategy, random, INITIAL_CAPACITY);
+    }
+
+    Population(int numberOfGenes, int energyOfWellFedAnimal, int energyUsedToReproduce, MutationStrategy mutationStrategy, RandomGenerator random, int capacity) {
+        if (energyOfWellFedAnimal <= 0 || energyUsedToReproduce <= 0) {
+            throw new IllegalArgumentException("InitialEnergy, energyOfWellFedAnimal, energyUsedToReproduce must all be greater than zero");
+        }
+        if (numberOfGenes <= 0) {
+            throw new IllegalArgumentException("Number of genes must be greater than zero");
+        }
+
+        this.numberOfGenes = numberOfGenes;
+        this.energyOfWellFedAnimal = energyOfWellFedAnimal;
+        this.energyUsedToReproduce = energyUsedToReproduce;
+        this.mutationStrategy = mutationStrategy;
+        this.random = random;
+
+        animals = new Animal[capacity];
+        ids = new long[capacity];
+        positionsX = new int[capacity];
+        positionsY = new int[capacity];
+        orientations = new byte[capacity];
+        energies = new int[capacity];
+        activeGenes = new int[capacity];
+        lengthsOfLife = new int[capacity];
+        numbersOfEatenPlants = new int[capacity];
+        genealogyIds = new int[capacity];
+        genomes = new Genome[capacity];
+        kidsGenes = new byte[numberOfGenes];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getNumberOfGenes() {
+        return numberOfGenes;
+    }
+
+    public Genealogy getGenealogy() {
+        return genealogy;
+    }
+
+    public void setCurrentDay(int currentDay) {
+        genealogy.setCurrentDay(currentDay);
+    }
+
+    public Animal getAnimal(int slot) {
+        Objects.checkIndex(slot, size);
+        return animals[slot];
+    }
+
+    public Animal spawnAnimal(Vector2d position, int initialEnergy) {
+        Animal animal = new Animal();
+        addAnimal(animal, position, initialEnergy);
+        return animal;
+    }
+
+    void addAnimal(Animal animal, Vector2d position, int initialEnergy) {
+        checkInitialEnergy(initialEnergy);
+
+        int slot = addSlot(animal, position, initialEnergy);
+        genealogyIds[slot] = genealogy.addAnimal(animal, Genealogy.NO_ANIMAL, Genealogy.NO_ANIMAL);
+        for (int i = 0; i < numberOfGenes; i++) {
+            kidsGenes[i] = (byte) random.nextInt(0, 8);
+        }
+        genomes[slot] = genomePool.acquire(kidsGenes);
+        activeGenes[slot] = random.nextInt(0, numberOfGenes);
+    }
+
+    void addAnimal(Animal animal, Vector2d position, int initialEnergy, List<Integer> animalGenes) {
+        checkInitialEnergy(initialEnergy);
+        for (int gene : animalGenes) {
+            if (gene < 0 || gene >= 8) {
+                throw new IllegalArgumentException("Invalid gene value: " + gene);
+            }
+        }
+        if (animalGenes.size() != numberOfGenes) {
+            throw new IllegalArgumentException("Number of genes must be equal to %d".formatted(numberOfGenes));
+        }
+
+        int slot = addSlot(animal, position, initialEnergy);
+        genealogyIds[slot] = genealogy.addAnimal(animal, Genealogy.NO_ANIMAL, Genealogy.NO_ANIMAL);
+        for (int i = 0; i < numberOfGenes; i++) {
+            kidsGenes[i] = animalGenes.get(i).byteValue();
+        }
+        genomes[slot] = genomePool.acquire(kidsGenes);
+        activeGenes[slot] = random.nextInt(0, numberOfGenes);
+    }
+
+    public long getId(int slot) {
+        return ids[slot];
+    }
+
+    public boolean isAlive(int slot) {
+        return energies[slot] > 0;
+    }
+
+    public int getEnergy(int slot) {
+        return energies[slot];
+    }
+
+    public int getLengthOfLife(int slot) {
+        return lengthsOfLife[slot];
+    }
+
+    public int getNumberOfKids(int slot) {
+        return genealogy.getNumberOfKids(genealogyIds[slot]);
+    }
+
+    int getGenealogyId(int slot) {
+        return genealogyIds[slot];
+    }
+
+    int getPositionX(int slot) {
+        return positionsX[slot];
+    }
+
+    int getPositionY(int slot) {
+        return positionsY[slot];
+    }
+
+    MapDirection getOrientation(int slot) {
+        return MapDirection.fromOrdinal(orientations[slot]);
+    }
+
+    int getActiveGene(int slot) {
+        return activeGenes[slot];
+    }
+
+    int getActiveGeneValue(int slot) {
+        return genomes[slot].getGene(activeGenes[slot]);
+    }
+
+    int getNumberOfEatenPlants(int slot) {
+        return numbersOfEatenPlants[slot];
+    }
+
+    ArrayList<Integer> getGenesList(int slot) {
+        return genomes[slot].toGenesList();
+    }
+
+    long getGenotypeId(int slot) {
+        return genomes[slot].getGenotypeId();
+    }
+
+    String getGenesString(int slot) {
+        return genomes[slot].toString();
+    }
+
+    int getNumberOfDistinctGenomes() {
+        return genomePool.size();
+    }
+
+    public void rotate(int slot) {
+        rotate(slot, getActiveGeneValue(slot));
+    }
+
+    void rotate(int slot, int rotateAngle) {
+        if (energies[slot] <= 0) {
+            throw new AnimalDeadException("Animal can't rotate, because it is dead");
+        }
+
+        orientations[slot] = (byte) ((orientations[slot] + rotateAngle) % NUMBER_OF_DIRECTIONS);
+        activeGenes[slot] = (activeGenes[slot] + 1) % numberOfGenes;
+        lengthsOfLife[slot]++;
+    }
+
+    void move(int slot, int x, int y) {
+        if (energies[slot] <= 0) {
+            throw new AnimalDeadException("Animal can't move, because it is dead");
+        }
+
+        positionsX[slot] = x;
+        positionsY[slot] = y;
+        energies[slot]--;
+    }
+
+    public void eat(int slot, int energyFromGrass) {
+        energies[slot] += energyFromGrass;
+        numbersOfEatenPlants[slot]++;
+    }
+
+    Animal reproduce(int firstSlot, Population secondParentPopulation, int secondSlot) {
+        if (energies[firstSlot] < energyOfWellFedAnimal || secondParentPopulation.energies[secondSlot] < energyOfWellFedAnimal) {
+            throw new IllegalArgumentException("At least one animal has not enough energy to reproduce");
+        }
+        if (positionsX[firstSlot] != secondParentPopulation.positionsX[secondSlot] || positionsY[firstSlot] != secondParentPopulation.positionsY[secondSlot]) {
+            throw new IllegalArgumentException("Animals cannot reproduce because they have different positions");
+        }
+        if (numberOfGenes != secondParentPopulation.numberOfGenes) {
+            throw new IllegalArgumentException("Animals cannot reproduce because they have different number of genes");
+        }
+
+        energies[firstSlot] -= energyUsedToReproduce;
+        secondParentPopulation.energies[secondSlot] -= energyUsedToReproduce;
+
+        Animal babyAnimal = new Animal();
+        int babySlot = addSlot(babyAnimal, null, energyUsedToReproduce * 2);
+        positionsX[babySlot] = positionsX[firstSlot];
+        positionsY[babySlot] = positionsY[firstSlot];
+
+        copyKidsGenes(firstSlot, secondParentPopulation, secondSlot, babySlot);
+        activeGenes[babySlot] = random.nextInt(0, numberOfGenes);
+
+        if (secondParentPopulation.genealogy == genealogy) {
+            genealogyIds[babySlot] = genealogy.addAnimal(babyAnimal, genealogyIds[firstSlot], secondParentPopulation.genealogyIds[secondSlot]);
+        } else {
+            genealogyIds[babySlot] = genealogy.addAnimal(babyAnimal, genealogyIds[firstSlot], Genealogy.NO_ANIMAL);
+            secondParentPopulation.genealogy.registerKidBornElsewhere(secondParentPopulation.genealogyIds[secondSlot]);
+        }
+
+        return babyAnimal;
+    }
+
+    public void remove(int slot) {
+        Objects.checkIndex(slot, size);
+
+        animals[slot].detach(new AnimalFinalState(ids[slot], positionsX[slot], positionsY[slot], getOrientation(slot), energies[slot],
+                activeGenes[slot], lengthsOfLife[slot], numbersOfEatenPlants[slot], genealogyIds[slot], genomes[slot], genealogy));
+
+        genomePool.release(genomes[slot]);
+        genealogy.registerDeath(genealogyIds[slot]);
+
+        int lastSlot = --size;
+        if (slot != lastSlot) {
+            copySlot(this, lastSlot, slot);
+        }
+        animals[lastSlot] = null;
+        genomes[lastSlot] = null;
+    }
+
+    public void writeCheckpoint(CheckpointOutput output) {
+        output.putInt(size)
+                .putLong(nextId)
+                .putLongs(ids, 0, size)
+                .putInts(positionsX, 0, size)
+                .putInts(positionsY, 0, size)
+                .putBytes(orientations, 0, size)
+                .putInts(energies, 0, size)
+                .putInts(activeGenes, 0, size)
+                .putInts(lengthsOfLife, 0, size)
+                .putInts(numbersOfEatenPlants, 0, size)
+                .putInts(genealogyIds, 0, size);
+
+        byte[] genes = new byte[numberOfGenes];
+        for (int slot = 0; slot < size; slot++) {
+            genomes[slot].copyGenes(0, genes, 0, numberOfGenes);
+            output.putBytes(genes, 0, numberOfGenes);
+        }
+
+        genealogy.writeCheckpoint(output);
+        mutationStrategy.writeCheckpoint(output);
+    }
+
+    public void restoreCheckpoint(CheckpointInput input) {
+        if (size != 0) {
+            throw new IllegalStateException("Checkpoint can only be restored into an empty population");
+        }
+
+        int restoredSize = input.getInt();
+        nextId = input.getLong();
+        while (animals.length < restoredSize) {
+            grow();
+        }
+
+        input.getLongs(ids, 0, restoredSize);
+        input.getInts(positionsX, 0, restoredSize);
+        input.getInts(positionsY, 0, restoredSize);
+        input.getBytes(orientations, 0, restoredSize);
+        input.getInts(energies, 0, restoredSize);
+        input.getInts(activeGenes, 0, restoredSize);
+        input.getInts(lengthsOfLife, 0, restoredSize);
+        input.getInts(numbersOfEatenPlants, 0, restoredSize);
+        input.getInts(genealogyIds, 0, restoredSize);
+
+        byte[] genes = new byte[numberOfGenes];
+        for (int slot = 0; slot < restoredSize; slot++) {
+            input.getBytes(genes, 0, numberOfGenes);
+            genomes[slot] = genomePool.acquire(genes);
+            animals[slot] = new Animal();
+            animals[slot].attachTo(this, slot);
+        }
+        size = restoredSize;
+
+        genealogy.restoreCheckpoint(input);
+        for (int slot = 0; slot < size; slot++) {
+            genealogy.setLivingAnimal(genealogyIds[slot], animals[slot]);
+        }
+        mutationStrategy.restoreCheckpoint(input);
+    }
+
+    private void copyKidsGenes(int firstSlot, Population secondParentPopulation, int secondSlot, int babySlot) {
+        int firstEnergy = energies[firstSlot];
+        int secondEnergy = secondParentPopulation.energies[secondSlot];
+        boolean isFirstParentStronger = firstEnergy > secondEnergy;
+
+        Genome strongerGenome = isFirstParentStronger ? genomes[firstSlot] : secondParentPopulation.genomes[secondSlot];
+        Genome weakerGenome = isFirstParentStronger ? secondParentPopulation.genomes[secondSlot] : genomes[firstSlot];
+
+        int strongerEnergy = isFirstParentStronger ? firstEnergy : secondEnergy;
+        int numberOfGenesFromStrongerAnimal = (int) Math.round((double) strongerEnergy / (firstEnergy + secondEnergy) * numberOfGenes);
+        int numberOfGenesFromWeakerAnimal = numberOfGenes - numberOfGenesFromStrongerAnimal;
+
+        boolean strongerParentSide = random.nextBoolean();
+
+        if (strongerParentSide) {
+            strongerGenome.copyGenes(0, kidsGenes, 0, numberOfGenesFromStrongerAnimal);
+            weakerGenome.copyGenes(numberOfGenesFromStrongerAnimal, kidsGenes, numberOfGenesFromStrongerAnimal, numberOfGenesFromWeakerAnimal);
+        } else {
+            weakerGenome.copyGenes(0, kidsGenes, 0, numberOfGenesFromWeakerAnimal);
+            strongerGenome.copyGenes(numberOfGenesFromWeakerAnimal, kidsGenes, numberOfGenesFromWeakerAnimal, numberOfGenesFromStrongerAnimal);
+        }
+
+        mutationStrategy.mutateGenes(kidsGenes, 0, numberOfGenes);
+        genomes[babySlot] = genomePool.acquire(kidsGenes);
+    }
+
+    private int addSlot(Animal animal, Vector2d position, int initialEnergy) {
+        if (size == animals.length) {
+            grow();
+        }
+
+        int slot = size++;
+        animals[slot] = animal;
+        ids[slot] = nextId++;
+        if (position != null) {
+            positionsX[slot] = position.x();
+            positionsY[slot] = position.y();
+        }
+        orientations[slot] = (byte) random.nextInt(0, NUMBER_OF_DIRECTIONS);
+        energies[slot] = initialEnergy;
+        activeGenes[slot] = 0;
+        lengthsOfLife[slot] = 0;
+        numbersOfEatenPlants[slot] = 0;
+        genealogyIds[slot] = Genealogy.NO_ANIMAL;
+        genomes[slot] = null;
+
+        animal.attachTo(this, slot);
+        return slot;
+    }
+
+    private void copySlot(Population source, int sourceSlot, int targetSlot) {
+        animals[targetSlot] = source.animals[sourceSlot];
+        ids[targetSlot] = source.ids[sourceSlot];
+        positionsX[targetSlot] = source.positionsX[sourceSlot];
+        positionsY[targetSlot] = source.positionsY[sourceSlot];
+        orientations[targetSlot] = source.orientations[sourceSlot];
+        energies[targetSlot] = source.energies[sourceSlot];
+        activeGenes[targetSlot] = source.activeGenes[sourceSlot];
+        lengthsOfLife[targetSlot] = source.lengthsOfLife[sourceSlot];
+        numbersOfEatenPlants[targetSlot] = source.numbersOfEatenPlants[sourceSlot];
+        genealogyIds[targetSlot] = source.genealogyIds[sourceSlot];
+        genomes[targetSlot] = source.genomes[sourceSlot];
+
+        animals[targetSlot].attachTo(this, targetSlot);
+    }
+
+    private void checkInitialEnergy(int initialEnergy) {
+        if (initialEnergy <= 0) {
+            throw new IllegalArgumentException("InitialEnergy, energyOfWellFedAnimal, energyUsedToReproduce must all be greater than zero");
+        }
+    }
+
+    private void grow() {
+        int capacity = Math.max(INITIAL_CAPACITY, animals.length * 2);
+
+        animals = Arrays.copyOf(animals, capacity);
+        ids = Arrays.copyOf(ids, capacity);
+        positionsX = Arrays.copyOf(positionsX, capacity);
+        positionsY = Arrays.copyOf(positionsY, capacity);
+        orientations = Arrays.copyOf(orientations, capacity);
+        energies = Arrays.copyOf(energies, capacity);
+        activeGenes = Arrays.copyOf(activeGenes, capacity);
+        lengthsOfLife = Arrays.copyOf(lengthsOfLife, capacity);
+        numbersOfEatenPlants = Arrays.copyOf(numbersOfEatenPlants, capacity);
+        genealogyIds = Arrays.copyOf(genealogyIds, capacity);
+        genomes = Arrays.copyOf(genomes, capacity);
+    }
+}
@@ -0,0 +1,17 @@
+package project.presenter;
+
+public enum ExecutionVariant {
+    SEQUENTIAL("Sequential"),
+    PARALLEL("Parallel");
+
+    private final String displayName;
+
+    ExecutionVariant(String displayName) {
+        this.displayName = displayName;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -0,0 +1,229 @@
+package project.presenter;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.paint.Color;
+import project.listener.FrameSnapshot;
+import project.model.worldElements.Animal;
+import project.model.worldElements.Grass;
+import project.model.worldElements.MapDirection;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+public class MapCanvasRenderer {
+    private static final String PREFERRED_FIELD_MARKER = "images/greenstar.png";
+    private static final String TOP_GENOTYPE_MARKER = "images/yellowstar.png";
+
+    private static final double MAX_CELL_SIZE = 64;
+    private static final double ZOOM_FACTOR = 1.2;
+    private static final double MIN_SPRITE_CELL_SIZE = 6;
+    private static final double MIN_GRID_LINES_CELL_SIZE = 12;
+    private static final double DRAG_THRESHOLD = 3;
+
+    private static final Color BACKGROUND_COLOR = Color.web("#44d15f");
+    private static final Color GRID_LINES_COLOR = Color.web("#000000", 0.2);
+    private static final Color GRASS_COLOR = Color.web("#1e7d32");
+    private static final Color ANIMAL_COLOR = Color.web("#1261a1");
+    private static final Color SELECTED_ANIMAL_COLOR = Color.web("#f9d71c");
+    private static final Color ENERGY_BAR_COLOR = Color.web("#F99090");
+
+    private final Canvas canvas;
+    private final GraphicsContext graphicsContext;
+    private final int mapWidth;
+    private final int mapHeight;
+    private final int initialAnimalEnergy;
+    private final MapViewport viewport;
+    private SpriteAtlas spriteAtlas;
+
+    private FrameSnapshot frame;
+    private boolean showMarkers;
+    private IntConsumer onCellClicked = cell -> {};
+
+    private double pressX;
+    private double pressY;
+    private double lastDragX;
+    private double lastDragY;
+    private boolean dragged;
+
+    public MapCanvasRenderer(Canvas canvas, int mapWidth, int mapHeight, int initialAnimalEnergy) {
+        this.canvas = canvas;
+        this.graphicsContext = canvas.getGraphicsContext2D();
+        this.mapWidth = mapWidth;
+        this.mapHeight = mapHeight;
+        this.initialAnimalEnergy = initialAnimalEnergy;
+        this.viewport = new MapViewport(mapWidth, mapHeight, canvas.getWidth(), canvas.getHeight(), MAX_CELL_SIZE);
+
+        canvas.setOnScroll(this::handleScroll);
+        canvas.setOnMousePressed(this::handleMousePressed);
+        canvas.setOnMouseDragged(this::handleMouseDragged);
+        canvas.setOnMouseReleased(this::handleMouseReleased);
+    }
+
+    public static String getMarkerResourceFileName(FrameSnapshot frame, int cell) {
+        if (frame.hasFlag(cell, FrameSnapshot.TOP_GENOTYPE_ANIMAL)) {
+            return TOP_GENOTYPE_MARKER;
+        }
+        if (frame.hasFlag(cell, FrameSnapshot.FREE_PREFERRED_FIELD)) {
+            return PREFERRED_FIELD_MARKER;
+        }
+        return null;
+    }
+
+    public void setOnCellClicked(IntConsumer onCellClicked) {
+        this.onCellClicked = onCellClicked;
+    }
+
+    public void draw(FrameSnapshot frame, boolean showMarkers) {
+        this.frame = frame;
+        this.showMarkers = showMarkers;
+        redraw();
+    }
+
+    private void redraw() {
+        graphicsContext.setFill(BACKGROUND_COLOR);
+        graphicsContext.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+
+        if (frame == null) {
+            return;
+        }
+
+        double cellSize = viewport.getCellSize();
+        double offsetX = viewport.getOffsetX();
+        double offsetY = viewport.getOffsetY();
+        int firstColumn = viewport.getFirstVisibleColumn();
+        int lastColumn = viewport.getLastVisibleColumn();
+        int firstRow = viewport.getFirstVisibleRow();
+        int lastRow = viewport.getLastVisibleRow();
+
+        boolean drawSprites = cellSize >= MIN_SPRITE_CELL_SIZE;
+        if (drawSprites) {
+            updateSpriteAtlas();
+        }
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            int y = mapHeight - 1 - row;
+            double cellY = row * cellSize - offsetY;
+
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                int cell = y * mapWidth + column;
+                double cellX = column * cellSize - offsetX;
+
+                if (drawSprites) {
+                    drawCellSprites(cell, cellX, cellY, cellSize);
+                } else {
+                    drawCellColors(cell, cellX, cellY, cellSize);
+                }
+            }
+        }
+
+        if (cellSize >= MIN_GRID_LINES_CELL_SIZE) {
+            drawGridLines(firstColumn, lastColumn, firstRow, lastRow, cellSize, offsetX, offsetY);
+        }
+    }
+
+    private void drawCellSprites(int cell, double cellX, double cellY, double cellSize) {
+        String marker = showMarkers ? getMarkerResourceFileName(frame, cell) : null;
+        if (marker != null) {
+            spriteAtlas.drawCentered(graphicsContext, marker, cellX, cellY, cellSize);
+        }
+
+        if (frame.hasFlag(cell, FrameSnapshot.GRASS)) {
+            spriteAtlas.drawCentered(graphicsContext, Grass.RESOURCE_FILE_NAME, cellX, cellY, cellSize);
+        }
+
+        if (frame.hasAnimal(cell)) {
+            String resourceFileName = Animal.getResourceFileName(frame.getOrientation(cell));
+            if (frame.hasFlag(cell, FrameSnapshot.TRACKED_ANIMAL)) {
+                resourceFileName = resourceFileName.replace(".png", "_selected.png");
+            }
+            spriteAtlas.drawCentered(graphicsContext, resourceFileName, cellX, cellY, cellSize);
+
+            double energyBarWidth = Math.min(cellSize, ((double) frame.getEnergy(cell) / (2 * (double) initialAnimalEnergy)) * cellSize);
+            graphicsContext.setFill(ENERGY_BAR_COLOR);
+            graphicsContext.fillRect(cellX, cellY + 0.9 * cellSize, Math.max(energyBarWidth, 0), 0.1 * cellSize);
+        }
+    }
+
+    private void drawCellColors(int cell, double cellX, double cellY, double cellSize) {
+        if (frame.hasAnimal(cell)) {
+            graphicsContext.setFill(frame.hasFlag(cell, FrameSnapshot.TRACKED_ANIMAL) ? SELECTED_ANIMAL_COLOR : ANIMAL_COLOR);
+        } else if (frame.hasFlag(cell, FrameSnapshot.GRASS)) {
+            graphicsContext.setFill(GRASS_COLOR);
+        } else {
+            return;
+        }
+        graphicsContext.fillRect(cellX, cellY, Math.max(cellSize, 1), Math.max(cellSize, 1));
+    }
+
+    private void drawGridLines(int firstColumn, int lastColumn, int firstRow, int lastRow, double cellSize, double offsetX, double offsetY) {
+        graphicsContext.setStroke(GRID_LINES_COLOR);
+        graphicsContext.setLineWidth(1);
+
+        for (int column = firstColumn; column <= lastColumn + 1; column++) {
+            double x = column * cellSize - offsetX;
+            graphicsContext.strokeLine(x, firstRow * cellSize - offsetY, x, (lastRow + 1) * cellSize - offsetY);
+        }
+        for (int row = firstRow; row <= lastRow + 1; row++) {
+            double y = row * cellSize - offsetY;
+            graphicsContext.strokeLine(firstColumn * cellSize - offsetX, y, (lastColumn + 1) * cellSize - offsetX, y);
+        }
+    }
+
+    private void updateSpriteAtlas() {
+        int slotSize = (int) Math.ceil(viewport.getCellSize());
+        if (spriteAtlas != null && spriteAtlas.getSlotSize() == slotSize) {
+            return;
+        }
+
+        Map<String, Double> spritesScales = new LinkedHashMap<>();
+        spritesScales.put(PREFERRED_FIELD_MARKER, 1.0);
+        spritesScales.put(TOP_GENOTYPE_MARKER, 1.0);
+        spritesScales.put(Grass.RESOURCE_FILE_NAME, 1.0);
+        for (MapDirection orientation : MapDirection.values()) {
+            String resourceFileName = Animal.getResourceFileName(orientation);
+            spritesScales.put(resourceFileName, 0.8);
+            spritesScales.put(resourceFileName.replace(".png", "_selected.png"), 0.8);
+        }
+
+        spriteAtlas = new SpriteAtlas(spritesScales, slotSize);
+    }
+
+    private void handleScroll(ScrollEvent event) {
+        double zoom = (event.getDeltaY() > 0) ? ZOOM_FACTOR : 1 / ZOOM_FACTOR;
+        viewport.zoomAt(event.getX(), event.getY(), zoom);
+        redraw();
+        event.consume();
+    }
+
+    private void handleMousePressed(MouseEvent event) {
+        pressX = lastDragX = event.getX();
+        pressY = lastDragY = event.getY();
+        dragged = false;
+    }
+
+    private void handleMouseDragged(MouseEvent event) {
+        if (Math.abs(event.getX() - pressX) > DRAG_THRESHOLD || Math.abs(event.getY() - pressY) > DRAG_THRESHOLD) {
+            dragged = true;
+        }
+
+        viewport.panBy(event.getX() - lastDragX, event.getY() - lastDragY);
+        lastDragX = event.getX();
+        lastDragY = event.getY();
+        redraw();
+    }
+
+    private void handleMouseReleased(MouseEvent event) {
+        if (dragged || frame == null) {
+            return;
+        }
+
+        int cell = viewport.getCellAt(event.getX(), event.getY());
+        if (cell >= 0) {
+            onCellClicked.accept(cell);
+        }
+    }
+}
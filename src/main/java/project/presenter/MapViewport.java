@@ -0,0 +1,86 @@
+package project.presenter;
+
+class MapViewport {
+    private final int mapWidth;
+    private final int mapHeight;
+    private final double viewWidth;
+    private final double viewHeight;
+    private final double minCellSize;
+    private final double maxCellSize;
+
+    private double cellSize;
+    private double offsetX = 0;
+    private double offsetY = 0;
+
+    MapViewport(int mapWidth, int mapHeight, double viewWidth, double viewHeight, double maxCellSize) {
+        this.mapWidth = mapWidth;
+        this.mapHeight = mapHeight;
+        this.viewWidth = viewWidth;
+        this.viewHeight = viewHeight;
+        this.minCellSize = Math.min(viewWidth / mapWidth, viewHeight / mapHeight);
+        this.maxCellSize = Math.max(maxCellSize, minCellSize);
+        this.cellSize = minCellSize;
+    }
+
+    double getCellSize() {
+        return cellSize;
+    }
+
+    double getOffsetX() {
+        return offsetX;
+    }
+
+    double getOffsetY() {
+        return offsetY;
+    }
+
+    int getFirstVisibleColumn() {
+        return Math.max(0, (int) Math.floor(offsetX / cellSize));
+    }
+
+    int getLastVisibleColumn() {
+        return Math.min(mapWidth - 1, (int) Math.floor((offsetX + viewWidth) / cellSize));
+    }
+
+    int getFirstVisibleRow() {
+        return Math.max(0, (int) Math.floor(offsetY / cellSize));
+    }
+
+    int getLastVisibleRow() {
+        return Math.min(mapHeight - 1, (int) Math.floor((offsetY + viewHeight) / cellSize));
+    }
+
+    void zoomAt(double viewX, double viewY, double zoom) {
+        double worldX = (viewX + offsetX) / cellSize;
+        double worldY = (viewY + offsetY) / cellSize;
+
+        cellSize = Math.clamp(cellSize * zoom, minCellSize, maxCellSize);
+        offsetX = worldX * cellSize - viewX;
+        offsetY = worldY * cellSize - viewY;
+        clampOffsets();
+    }
+
+    void panBy(double deltaX, double deltaY) {
+        offsetX -= deltaX;
+        offsetY -= deltaY;
+        clampOffsets();
+    }
+
+    int getCellAt(double viewX, double viewY) {
+        int column = (int) Math.floor((viewX + offsetX) / cellSize);
+        int row = (int) Math.floor((viewY + offsetY) / cellSize);
+
+        if (column < 0 || column >= mapWidth || row < 0 || row >= mapHeight) {
+            return -1;
+        }
+        return (mapHeight - 1 - row) * mapWidth + column;
+    }
+
+    private void clampOffsets() {
+        double maxOffsetX = Math.max(0, mapWidth * cellSize - viewWidth);
+        double maxOffsetY = Math.max(0, mapHeight * cellSize - viewHeight);
+
+        offsetX = Math.clamp(offsetX, 0, maxOffsetX);
+        offsetY = Math.clamp(offsetY, 0, maxOffsetY);
+    }
+}
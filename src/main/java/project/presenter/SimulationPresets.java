@@ -1,11 +1,13 @@
 package project.presenter;
 
 import project.SimulationParameters;
+import project.model.maps.MapStorageVariant;
 
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -59,23 +61,7 @@ public class SimulationPresets {
         }
 
         File file = new File(folder, fileName + ".csv");
-        String data = "%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s".formatted(
-                simulationParameters.mapHeight(),
-                simulationParameters.mapWidth(),
-                simulationParameters.growthGrassVariant().name(),
-                simulationParameters.numberOfGrassOnMap(),
-                simulationParameters.energyFromGrass(),
-                simulationParameters.numberOfGrassGrowingEveryDay(),
-                simulationParameters.startNumberOfAnimals(),
-                simulationParameters.initialAnimalsEnergy(),
-                simulationParameters.energyNeedToReproduce(),
-                simulationParameters.energyUsedToReproduce(),
-                simulationParameters.minimalNumberOfMutation(),
-                simulationParameters.maximumNumberOfMutation(),
-                simulationParameters.mutationVariant().name(),
-                simulationParameters.numberOfGenes(),
-                simulationParameters.collectStatistics()
-        );
+        String data = toCsvLine(simulationParameters);
 
         try (FileWriter writer = new FileWriter(file)) {
             writer.write(data);
@@ -84,14 +70,72 @@ public class SimulationPresets {
         }
     }
 
+    public static String toCsvLine(SimulationParameters parameters) {
+        return "%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s".formatted(
+                parameters.mapHeight(),
+                parameters.mapWidth(),
+                parameters.growthGrassVariant().name(),
+                parameters.numberOfGrassOnMap(),
+                parameters.energyFromGrass(),
+                parameters.numberOfGrassGrowingEveryDay(),
+                parameters.startNumberOfAnimals(),
+                parameters.initialAnimalsEnergy(),
+                parameters.energyNeedToReproduce(),
+                parameters.energyUsedToReproduce(),
+                parameters.minimalNumberOfMutation(),
+                parameters.maximumNumberOfMutation(),
+                parameters.mutationVariant().name(),
+                parameters.numberOfGenes(),
+                parameters.collectStatistics(),
+                parameters.mapStorageVariant().name(),
+                parameters.executionVariant().name(),
+                parameters.parallelPopulationThreshold(),
+                (parameters.seed() != null) ? parameters.seed() : ""
+        );
+    }
+
+    public static SimulationParameters loadParametersFromFile(Path path) throws IOException {
+        List<String> lines = Files.readAllLines(path);
+        if (lines.isEmpty()) {
+            throw new IOException("Pusty plik " + path);
+        }
+
+        String[] params = lines.getFirst().split(",");
+        if (!hasCorrectNumberOfParameters(params)) {
+            throw new IOException("Niepoprawna liczba parametrów w pliku " + path);
+        }
+
+        return parseParameters(params);
+    }
+
+    public static SimulationParameters parseParameters(String csvLine) {
+        String[] params = csvLine.split(",");
+        if (!hasCorrectNumberOfParameters(params)) {
+            throw new IllegalArgumentException("Niepoprawna liczba parametrów: " + csvLine);
+        }
+
+        return parseParameters(params);
+    }
+
+    private static SimulationParameters parseParameters(String[] params) {
+        MapStorageVariant mapStorageVariant = (params.length > 15) ? MapStorageVariant.valueOf(params[15]) : MapStorageVariant.HASH_MAP;
+        ExecutionVariant executionVariant = (params.length > 16) ? ExecutionVariant.valueOf(params[16]) : ExecutionVariant.SEQUENTIAL;
+        String parallelPopulationThreshold = (params.length > 17) ? params[17] : String.valueOf(SimulationParameters.DEFAULT_PARALLEL_POPULATION_THRESHOLD);
+        String seed = (params.length > 18) ? params[18] : "";
+
+        return new SimulationParameters(params[0], params[1], GrowthGrassVariant.valueOf(params[2]), params[3], params[4], params[5], params[6], params[7], params[8], params[9], params[10], params[11], MutationVariant.valueOf(params[12]), params[13], Boolean.parseBoolean(params[14]), mapStorageVariant, executionVariant, parallelPopulationThreshold, seed);
+    }
+
+    private static boolean hasCorrectNumberOfParameters(String[] params) {
+        return params.length >= 15 && params.length <= 19;
+    }
+
     private static void validateFileParameters(File file) throws IOException {
         List<String> lines = Files.readAllLines(file.toPath());
-        String[] params = lines.getFirst().split(",");
-        if (params.length != 15) {
+        if (lines.isEmpty() || !hasCorrectNumberOfParameters(lines.getFirst().split(","))) {
             return;
         }
 
-        SimulationParameters parameters = new SimulationParameters(params[0], params[1], GrowthGrassVariant.valueOf(params[2]), params[3], params[4], params[5], params[6], params[7], params[8], params[9], params[10], params[11], MutationVariant.valueOf(params[12]), params[13], Boolean.parseBoolean(params[14]));
-        fileNameWithFileContent.put(file.getName(), parameters);
+        fileNameWithFileContent.put(file.getName(), loadParametersFromFile(file.toPath()));
     }
 }
\ No newline at end of file
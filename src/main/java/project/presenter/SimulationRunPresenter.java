@@ -1,65 +1,76 @@
 package project.presenter;
 
-import javafx.application.Platform;
+import javafx.animation.AnimationTimer;
 import javafx.fxml.FXML;
 import javafx.geometry.HPos;
-import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
 import javafx.scene.chart.LineChart;
 import javafx.scene.chart.NumberAxis;
 import javafx.scene.chart.XYChart;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.Slider;
+import javafx.scene.control.TextField;
 import javafx.scene.layout.*;
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
 import project.Simulation;
-import project.listener.SimulationChangeListener;
-import project.listener.SimulationEventType;
+import project.listener.FrameSnapshot;
+import project.listener.FrameSnapshotPublisher;
+import project.listener.FrameSource;
 import project.model.maps.Boundary;
-import project.model.maps.WorldMap;
 import project.model.worldElements.Animal;
 import project.model.Vector2d;
 import project.model.worldElements.Grass;
-import project.statistics.AnimalStatistics;
+import project.replay.ReplayPlayer;
+import project.replay.ReplayReader;
+import project.replay.ReplayRecorder;
 import project.statistics.AnimalStatisticsRecord;
+import project.statistics.GenotypeCount;
 import project.statistics.StatisticsRecord;
 
 import java.text.DecimalFormat;
 import java.util.*;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
-public class SimulationRunPresenter implements SimulationChangeListener {
+public class SimulationRunPresenter {
+    private static final int GRID_RENDERER_MAX_CELLS = 50 * 50;
 
     private int cellSize;
 
     private Simulation simulation;
-    private WorldMap worldMap;
+    private ReplayPlayer replayPlayer;
     private Boundary currentBounds;
-    private List<WorldElementBox> grassBoxes = new ArrayList<>();
-    private final HashMap<Animal, WorldElementBox> animalBoxes = new HashMap<>();
+    private FrameSource frameSource;
+    private FrameSnapshotPublisher framePublisher;
+    private FrameSnapshot renderedFrame;
+    private WorldElementBox[] cellsBoxes;
+    private MapCanvasRenderer canvasRenderer;
+    private StatisticsRecord writtenStatisticsRecord;
+    private int lastChartedDay = -1;
+
+    private final AnimationTimer frameTimer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            FrameSnapshot latestFrame = frameSource.getLatestFrame();
+            if (latestFrame != null && latestFrame != renderedFrame) {
+                renderFrame(latestFrame);
+            }
+        }
+    };
 
     private XYChart.Series<Number, Number> animalsSeries;
     private XYChart.Series<Number, Number> grassesSeries;
 
     private int initialAnimalEnergy;
-    private Animal selectedAnimal;
-    private WorldElementBox selectedAnimalBox;
-    private AnimalStatistics selectedAnimalStatistics = null;
 
     private boolean isSimulationStopped = false;
-    private List<String> topGenotypes;
-
-    private final ArrayList<ImageView> animalsTopGenotypesLabels = new ArrayList<>();
-    private final ArrayList<ImageView> grassPreferredPositionsImageView = new ArrayList<>();
 
     @FXML
     private Label moveLabel;
     @FXML
     private GridPane mapGrid;
     @FXML
+    private Canvas mapCanvas;
+    @FXML
     private LineChart<Number, Number> simulationChart;
     @FXML
     private NumberAxis xAxis;
@@ -67,6 +78,10 @@ public class SimulationRunPresenter implements SimulationChangeListener {
     private Slider simulationDelay;
     @FXML
     private Button stopRestartSimulationButton;
+    @FXML
+    private HBox seekBox;
+    @FXML
+    private TextField seekDay;
 
     @FXML
     private Label animalsCountLabel;
@@ -113,42 +128,113 @@ public class SimulationRunPresenter implements SimulationChangeListener {
         xAxis.setAutoRanging(false);
         xAxis.setUpperBound(40);
 
-        simulationDelay.valueProperty().addListener((observable, oldValue, newValue) -> simulation.setCoolDown(newValue.intValue()));
+        simulationDelay.valueProperty().addListener((observable, oldValue, newValue) -> {
+            if (replayPlayer != null) {
+                replayPlayer.setDelay(newValue.intValue());
+            } else {
+                simulation.setCoolDown(newValue.intValue());
+            }
+        });
     }
 
     public void setSimulation(Simulation simulation) {
         this.simulation = simulation;
-        this.worldMap = simulation.getWorldMap();
-        this.initialAnimalEnergy = simulation.getInitialAnimalsEnergy();
+        setUpMap(simulation.getWorldMap().getMapBounds(), simulation.getInitialAnimalsEnergy());
 
-        cellSize = Math.min(500 / (worldMap.getMapHeight() + 1), 500 / (worldMap.getMapWidth() + 1));
-        mapGrid.setMaxWidth(cellSize * worldMap.getMapWidth());
+        framePublisher = new FrameSnapshotPublisher(simulation);
+        frameSource = framePublisher;
+        simulation.addObserver(framePublisher);
+        frameTimer.start();
+    }
+
+    public void recordReplay(ReplayRecorder replayRecorder) {
+        framePublisher.addFrameListener(replayRecorder);
+    }
+
+    public void setReplay(ReplayPlayer replayPlayer) {
+        this.replayPlayer = replayPlayer;
+        ReplayReader reader = replayPlayer.getReader();
+        setUpMap(new Boundary(new Vector2d(0, 0), new Vector2d(reader.getMapWidth() - 1, reader.getMapHeight() - 1)), reader.getInitialAnimalsEnergy());
+
+        seekBox.setVisible(true);
+        seekBox.setManaged(true);
+        seekDay.setPromptText("%d - %d".formatted(reader.getFirstDay(), reader.getLastDay()));
+
+        frameSource = replayPlayer;
+        replayPlayer.setDelay((int) simulationDelay.getValue());
+        frameTimer.start();
+    }
+
+    private void setUpMap(Boundary mapBounds, int initialAnimalEnergy) {
+        this.currentBounds = mapBounds;
+        this.initialAnimalEnergy = initialAnimalEnergy;
+        int mapWidth = mapBounds.upperRight().x() + 1;
+        int mapHeight = mapBounds.upperRight().y() + 1;
+
+        cellSize = Math.min(500 / (mapHeight + 1), 500 / (mapWidth + 1));
+        mapGrid.setMaxWidth(cellSize * mapWidth);
+
+        if (mapWidth * mapHeight > GRID_RENDERER_MAX_CELLS) {
+            mapGrid.setVisible(false);
+            mapGrid.setManaged(false);
+            mapCanvas.setVisible(true);
+            mapCanvas.setManaged(true);
+
+            canvasRenderer = new MapCanvasRenderer(mapCanvas, mapWidth, mapHeight, initialAnimalEnergy);
+            canvasRenderer.setOnCellClicked(this::handleCellClick);
+        }
     }
 
     public void stopRestartSimulation() {
 
         if (!isSimulationStopped) {
             stopRestartSimulationButton.setText("RESTART SIMULATION");
-
+            if (replayPlayer != null) {
+                replayPlayer.pause();
+            } else {
+                simulation.pause();
+                simulation.execute(framePublisher::publishPendingFrame);
+            }
         } else {
             stopRestartSimulationButton.setText("STOP SIMULATION");
-            removeColoredElements();
-            simulation.countDown();
+            if (replayPlayer != null) {
+                replayPlayer.resume();
+            } else {
+                simulation.resume();
+            }
         }
 
         isSimulationStopped = !isSimulationStopped;
+        renderedFrame = null;
     }
 
     public void setSimulationState(boolean state) {
         isSimulationStopped = state;
     }
 
-    private void clearGrid() {
-        if (mapGrid.getChildren().isEmpty()) return;
+    public void stopRendering() {
+        frameTimer.stop();
+    }
 
-        mapGrid.getChildren().retainAll(mapGrid.getChildren().getFirst());
-        mapGrid.getColumnConstraints().clear();
-        mapGrid.getRowConstraints().clear();
+    public void seekReplay() {
+        try {
+            replayPlayer.seek(Integer.parseInt(seekDay.getText().trim()));
+            renderedFrame = null;
+        } catch (NumberFormatException e) {
+            seekDay.setText("");
+        }
+    }
+
+    private void renderFrame(FrameSnapshot frame) {
+        renderedFrame = frame;
+
+        drawMap(frame);
+        moveLabel.setText("%s%n Day: %s".formatted(frame.getEventType(), frame.getDay()));
+        writeStatistics(frame);
+
+        if (frame.getTrackedAnimalStatistics() != null) {
+            writeAnimalStatistics(frame.getTrackedAnimalStatistics());
+        }
     }
 
     private void addLabels(int mapHeight, int mapWidth) {
@@ -185,75 +271,48 @@ public class SimulationRunPresenter implements SimulationChangeListener {
         }
     }
 
-    private void addWorldElements() {
-
-        List<WorldElementBox> worldElementBoxes;
+    private void createCellsBoxes(FrameSnapshot frame) {
+        cellsBoxes = new WorldElementBox[frame.getNumberOfCells()];
 
-        worldElementBoxes = Stream.concat(grassBoxes.stream(), animalBoxes.values().stream()).toList();
+        for (int cell = 0; cell < frame.getNumberOfCells(); cell++) {
+            WorldElementBox cellBox = new WorldElementBox(cellSize, initialAnimalEnergy);
+            Vector2d position = frame.getPosition(cell);
+            int clickedCell = cell;
 
-        worldElementBoxes.forEach(worldElementBox -> {
-            Vector2d position = worldElementBox.getElement().getPosition();
-            mapGrid.add(worldElementBox.getGraphicBox(),
+            cellBox.getGraphicBox().setOnMouseClicked(event -> handleCellClick(clickedCell));
+            mapGrid.add(cellBox.getGraphicBox(),
                     position.x() + 1 - currentBounds.lowerLeft().x(),
                     currentBounds.upperRight().y() - position.y() + 1);
-        });
+            cellsBoxes[cell] = cellBox;
+        }
+    }
 
-        if (selectedAnimal != null && selectedAnimal.isAnimalAlive()) {
-            WorldElementBox selectAnimalBox = new WorldElementBox(selectedAnimal, cellSize, initialAnimalEnergy, true);
-            this.selectedAnimalBox = selectAnimalBox;
-            Vector2d position = selectAnimalBox.getElement().getPosition();
-            mapGrid.add(selectAnimalBox.getGraphicBox(),
-                    position.x() + 1 - currentBounds.lowerLeft().x(),
-                    currentBounds.upperRight().y() - position.y() + 1);
+    private void updateCellsBoxes(FrameSnapshot frame) {
+        for (int cell = 0; cell < frame.getNumberOfCells(); cell++) {
+            WorldElementBox cellBox = cellsBoxes[cell];
 
-            animalBoxes.put(selectedAnimal, selectAnimalBox);
-        }
+            cellBox.showMarker(isSimulationStopped ? MapCanvasRenderer.getMarkerResourceFileName(frame, cell) : null);
+            cellBox.showGrass(frame.hasFlag(cell, FrameSnapshot.GRASS) ? Grass.RESOURCE_FILE_NAME : null);
 
-        for (Node node : mapGrid.getChildren()) {
-            if (node instanceof Region) {
-                node.setOnMouseClicked(event -> handleCellClick(node));
+            if (frame.hasAnimal(cell)) {
+                cellBox.showAnimal(Animal.getResourceFileName(frame.getOrientation(cell)), frame.getEnergy(cell), frame.hasFlag(cell, FrameSnapshot.TRACKED_ANIMAL));
+            } else {
+                cellBox.hideAnimal();
             }
         }
     }
 
-    private void handleCellClick(Node node) {
-        if (!isSimulationStopped)
+    private void handleCellClick(int cell) {
+        if (!isSimulationStopped || renderedFrame == null || simulation == null)
             return;
 
-        if (selectedAnimalBox != null) {
-            selectedAnimalBox.setSelected(false);
-            selectedAnimalBox.fillContent();
-        }
-
-        int rowIndex = worldMap.getMapHeight() - GridPane.getRowIndex(node);
-        int columnIndex = GridPane.getColumnIndex(node) - 1;
-
-        Vector2d position = new Vector2d(columnIndex, rowIndex);
-
-        Optional<List<Animal>> animalsAtPosition = worldMap.animalsAt(position);
-        if (animalsAtPosition.isEmpty())
+        if (!renderedFrame.hasAnimal(cell))
             return;
 
-        Animal newSelectedAnimal = simulation.resolveAnimalsConflicts(animalsAtPosition.get()).getFirst();
-        if (selectedAnimal == newSelectedAnimal) {
-            selectedAnimalBox.setSelected(true);
-            selectedAnimalBox.fillContent();
-            return;
-        }
-
-        selectedAnimal = newSelectedAnimal;
-        selectedAnimalBox = animalBoxes.get(selectedAnimal);
-
-        selectedAnimalBox.setSelected(true);
-        selectedAnimalBox.fillContent();
-
-        selectedAnimalStatistics = new AnimalStatistics(selectedAnimal, simulation);
-        writeAnimalStatistics();
+        simulation.execute(() -> framePublisher.trackAnimalAt(cell));
     }
 
-    private void writeAnimalStatistics() {
-        AnimalStatisticsRecord record = selectedAnimalStatistics.getRecord();
-
+    private void writeAnimalStatistics(AnimalStatisticsRecord record) {
         animalStatisticGenomLabel.setText(String.format("Genom: %s", record.animalGene()));
         animalStatisticActiveGenLabel.setText(String.format("Aktywna część genomu: %s", record.activePartOfGenome()));
         animalStatisticEnergyLabel.setText(String.format("Ilość energii: %d", record.currentEnergy()));
@@ -265,11 +324,13 @@ public class SimulationRunPresenter implements SimulationChangeListener {
                 (record.whenDied() == null) ? "Jeszcze żyje" : record.whenDied().toString()));
     }
 
-    private void writeStatistics(SimulationEventType eventType, StatisticsRecord statisticsRecord) {
+    private void writeStatistics(FrameSnapshot frame) {
+        StatisticsRecord statisticsRecord = frame.getStatisticsRecord();
 
-        if (eventType != SimulationEventType.DAY_ENDED) {
+        if (statisticsRecord == writtenStatisticsRecord) {
             return;
         }
+        writtenStatisticsRecord = statisticsRecord;
 
         animalsCountLabel.setText("Liczba zwierząt: %s".formatted(statisticsRecord.animalsCount()));
         grassCountLabel.setText("Liczba traw: %s".formatted(statisticsRecord.plantsCount()));
@@ -281,31 +342,22 @@ public class SimulationRunPresenter implements SimulationChangeListener {
         averageLifeLengthLabel.setText("Średnia długość życia: %s".formatted(df.format(statisticsRecord.averageLifeLength())));
         averageChildrenCountLabel.setText("Średnia liczba dzieci: %s".formatted(df.format(statisticsRecord.averageChildrenCount())));
 
-        if (statisticsRecord.genotypesCount().isEmpty() || Collections.max(statisticsRecord.genotypesCount().values()) == 1) {
+        List<GenotypeCount> topGenotypes = frame.getTopGenotypes();
+        if (topGenotypes.isEmpty()) {
             mostPopularGenotypesLabel.setText("Najpopularniejsze Genotypy\n" + "Brak najpopularniejszego genotypu");
         } else {
-
-            topGenotypes = statisticsRecord.genotypesCount().entrySet()
-                    .stream()
-                    .collect(Collectors.groupingBy(
-                            Map.Entry::getValue,
-                            TreeMap::new,
-                            Collectors.toList()
-                    ))
-                    .descendingMap()
-                    .entrySet().stream()
-                    .findFirst()
-                    .filter(entry -> entry.getKey() > 1).stream().flatMap(entry -> entry.getValue().stream().limit(5))
-                    .map(Map.Entry::getKey)
-                    .toList();
-
             List<String> topGenotypesToDisplay = topGenotypes.stream()
-                    .map(genotpe -> "%s (%d)".formatted(genotpe, statisticsRecord.genotypesCount().get(genotpe)))
+                    .map(genotypeCount -> "%s (%d)".formatted(genotypeCount.genotype(), genotypeCount.count()))
                     .toList();
 
             mostPopularGenotypesLabel.setText("Najpopularniejsze Genotypy\n" + String.join(", ", topGenotypesToDisplay).replace(',', '\n'));
         }
 
+        if (statisticsRecord.day() <= lastChartedDay) {
+            return;
+        }
+        lastChartedDay = statisticsRecord.day();
+
         animalsSeries.getData().add(new XYChart.Data<>(statisticsRecord.day(), statisticsRecord.animalsCount()));
         grassesSeries.getData().add(new XYChart.Data<>(statisticsRecord.day(), statisticsRecord.plantsCount()));
 
@@ -324,109 +376,20 @@ public class SimulationRunPresenter implements SimulationChangeListener {
         }
     }
 
-    private void drawMap() {
-
-        ArrayList<Animal> conflictedAnimals = new ArrayList<>();
-        animalBoxes.clear();
-
-        ArrayList<Animal> animalsOnGrid = new ArrayList<>(worldMap.getOrderedAnimals());
-
-        if (selectedAnimal != null)
-            animalsOnGrid.remove(selectedAnimal);
-
-        for (Animal animal : animalsOnGrid) {
-            if (conflictedAnimals.isEmpty() || (conflictedAnimals.getFirst().getPosition().equals(animal.getPosition()))) {
-                conflictedAnimals.add(animal);
-            } else {
-                List<Animal> resolvedConflicts = simulation.resolveAnimalsConflicts(conflictedAnimals);
-                animalBoxes.put(resolvedConflicts.getFirst(), new WorldElementBox(resolvedConflicts.getFirst(), cellSize, initialAnimalEnergy));
-
-                conflictedAnimals.clear();
-                conflictedAnimals.add(animal);
-            }
-        }
-        if (!conflictedAnimals.isEmpty()) {
-            List<Animal> resolvedConflicts = simulation.resolveAnimalsConflicts(conflictedAnimals);
-            animalBoxes.put(resolvedConflicts.getFirst(), new WorldElementBox(resolvedConflicts.getFirst(), cellSize, initialAnimalEnergy));
-        }
-
-        grassBoxes = worldMap.getElements().stream()
-                .filter(worldElement -> worldElement instanceof Grass)
-                .map(element -> new WorldElementBox(element, cellSize, initialAnimalEnergy))
-                .toList();
-
-        clearGrid();
-        currentBounds = worldMap.getMapBounds();
-        int mapHeight = currentBounds.upperRight().y() - currentBounds.lowerLeft().y();
-        int mapWidth = currentBounds.upperRight().x() - currentBounds.lowerLeft().x();
-
-        addLabels(mapHeight, mapWidth);
-        addWorldElements();
-    }
-
-    private void colorPreferredGrassPositions() {
-
-        List<Vector2d> grassPositionsToColor = worldMap.getFreeGrassPreferredPositions();
-        Image image = new Image("images/greenstar.png");
-
-        for (Vector2d position : grassPositionsToColor ) {
-            ImageView imageView = new ImageView(image);
-            imageView.setFitHeight(cellSize);
-            imageView.setFitWidth(cellSize);
-            grassPreferredPositionsImageView.add(imageView);
-
-            mapGrid.add(imageView, position.x() + 1, worldMap.getMapHeight() - position.y());
-            imageView.toBack();
-        }
-    }
-
-    private void removeColoredElements() {
-        mapGrid.getChildren().removeAll(grassPreferredPositionsImageView);
-        mapGrid.getChildren().removeAll(animalsTopGenotypesLabels);
-        grassPreferredPositionsImageView.clear();
-        animalsTopGenotypesLabels.clear();
-    }
-
-    private void colorMostPopularGenotype() {
-        if (topGenotypes == null)
+    private void drawMap(FrameSnapshot frame) {
+        if (canvasRenderer != null) {
+            canvasRenderer.draw(frame, isSimulationStopped);
             return;
-
-        HashSet<Vector2d> topGenotypesAnimalsPositions = worldMap.getOrderedAnimals().stream()
-                .filter(animal -> topGenotypes.contains(animal.getAnimalGenesString()))
-                .map(Animal::getPosition)
-                .collect(Collectors.toCollection(HashSet::new));
-
-        Image image = new Image("images/yellowstar.png");
-
-        for (Vector2d position : topGenotypesAnimalsPositions) {
-            ImageView imageView = new ImageView(image);
-            imageView.setFitWidth(cellSize);
-            imageView.setFitHeight(cellSize);
-            animalsTopGenotypesLabels.add(imageView);
-
-            mapGrid.add(imageView, position.x() + 1, worldMap.getMapHeight() - position.y());
-            imageView.toBack();
         }
-    }
 
-    @Override
-    public void handleChangeEvent(WorldMap worldMap, SimulationEventType eventType, StatisticsRecord statisticsRecord) {
-        Platform.runLater(() -> {
-            drawMap();
-            moveLabel.setText("%s%n Day: %s".formatted(eventType, statisticsRecord.day()));
-            writeStatistics(eventType, statisticsRecord);
+        if (cellsBoxes == null) {
+            int mapHeight = currentBounds.upperRight().y() - currentBounds.lowerLeft().y();
+            int mapWidth = currentBounds.upperRight().x() - currentBounds.lowerLeft().x();
 
-            if (selectedAnimal != null) {
-                selectedAnimalStatistics.updateStatistics();
-                writeAnimalStatistics();
-            }
+            addLabels(mapHeight, mapWidth);
+            createCellsBoxes(frame);
+        }
 
-            if (!isSimulationStopped) {
-                simulation.countDown();
-            } else {
-                colorPreferredGrassPositions();
-                colorMostPopularGenotype();
-            }
-        });
+        updateCellsBoxes(frame);
     }
 }
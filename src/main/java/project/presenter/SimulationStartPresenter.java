@@ -5,18 +5,34 @@ import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.scene.layout.BorderPane;
+import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 import project.*;
 import project.listener.SimulationSaveStatistics;
+import project.model.maps.MapStorageVariant;
 import project.model.maps.WorldMap;
+import project.replay.ReplayPlayer;
+import project.replay.ReplayReader;
+import project.replay.ReplayRecorder;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.List;
 
 public class SimulationStartPresenter {
+    private static final String REPLAYS_DIR = "simulationReplays";
+    private static final String CHECKPOINTS_DIR = "simulationCheckpoints";
+
     @FXML
     private CheckBox collectStatistics;
     @FXML
+    private CheckBox recordReplay;
+    @FXML
+    private CheckBox saveCheckpoint;
+    @FXML
     private TextField numberOfGenes;
     @FXML
     private ComboBox<MutationVariant> mutationVariant;
@@ -41,6 +57,14 @@ public class SimulationStartPresenter {
     @FXML
     private ComboBox<GrowthGrassVariant> growthGrassVariant;
     @FXML
+    private ComboBox<MapStorageVariant> mapStorageVariant;
+    @FXML
+    private ComboBox<ExecutionVariant> executionVariant;
+    @FXML
+    private TextField parallelPopulationThreshold;
+    @FXML
+    private TextField seed;
+    @FXML
     private TextField width;
     @FXML
     private TextField height;
@@ -78,6 +102,11 @@ public class SimulationStartPresenter {
 
         mutationVariant.getItems().addAll(MutationVariant.values());
         growthGrassVariant.getItems().addAll(GrowthGrassVariant.values());
+        mapStorageVariant.getItems().addAll(Arrays.stream(MapStorageVariant.values()).filter(variant -> !variant.isHeadlessOnly()).toList());
+        mapStorageVariant.setValue(MapStorageVariant.HASH_MAP);
+        executionVariant.getItems().addAll(ExecutionVariant.values());
+        executionVariant.setValue(ExecutionVariant.SEQUENTIAL);
+        parallelPopulationThreshold.setText(String.valueOf(SimulationParameters.DEFAULT_PARALLEL_POPULATION_THRESHOLD));
 
         try {
             chooseParameters.getItems().addAll(SimulationPresets.getCorrectFilesNames());
@@ -91,53 +120,126 @@ public class SimulationStartPresenter {
     public void onSimulationStartClicked() {
         try {
             SimulationParameters simulationParameters = getParameters();
+            checkAvailableInGui(simulationParameters);
+
+            startSimulation(new Simulation(simulationParameters));
+        } catch (IllegalArgumentException | IOException e) {
+            errors.setText(e.getMessage());
+        }
+    }
+
+    public void onResumeClicked() {
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Wybierz punkt kontrolny symulacji");
+        fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("Checkpoint", "*.checkpoint"));
+        File checkpointsDirectory = new File(CHECKPOINTS_DIR);
+        if (checkpointsDirectory.isDirectory()) {
+            fileChooser.setInitialDirectory(checkpointsDirectory);
+        }
 
-            Stage simulationStage = new Stage();
+        File checkpointFile = fileChooser.showOpenDialog(errors.getScene().getWindow());
+        if (checkpointFile == null) {
+            return;
+        }
+
+        try {
+            Simulation simulation = Simulation.fromCheckpoint(checkpointFile.toPath());
+            checkAvailableInGui(simulation.getSimulationParameters());
 
-            FXMLLoader loader = new FXMLLoader();
-            loader.setLocation(getClass().getClassLoader().getResource("simulationRun.fxml"));
-            BorderPane viewRoot = loader.load();
-            SimulationRunPresenter simulationRunPresenter = loader.getController();
+            startSimulation(simulation);
+        } catch (IllegalArgumentException | IllegalStateException | IOException e) {
+            errors.setText(e.getMessage());
+        }
+    }
 
-            var scene = new Scene(viewRoot);
-            simulationStage.setScene(scene);
-            simulationStage.setTitle("Simulation app");
-            simulationStage.setMinHeight(700);
-            simulationStage.setMinWidth(1300);
+    private void startSimulation(Simulation simulation) throws IOException {
+        Stage simulationStage = new Stage();
+        SimulationRunPresenter simulationRunPresenter = showSimulationRunView(simulationStage);
 
-            simulationStage.setHeight(700);
-            simulationStage.setWidth(1300);
+        WorldMap worldMap = simulation.getWorldMap();
+        simulationRunPresenter.setSimulation(simulation);
 
-            simulationStage.show();
+        boolean saveCheckpointOnClose = saveCheckpoint.isSelected();
+        Path checkpointPath = Paths.get(CHECKPOINTS_DIR).resolve("%s.checkpoint".formatted(worldMap.getId()));
+        simulationStage.setOnCloseRequest(event -> {
+            simulationRunPresenter.setSimulationState(false);
+            simulationRunPresenter.stopRendering();
+            if (saveCheckpointOnClose) {
+                simulation.executeAtDayEnd(() -> saveCheckpoint(simulation, checkpointPath));
+            }
+            simulation.stopSimulation();
+        });
 
-            Simulation simulation = new Simulation(simulationParameters);
+        if(collectStatistics.isSelected()) {
+            simulation.addObserver(new SimulationSaveStatistics(worldMap));
+        }
+        if (recordReplay.isSelected()) {
+            simulationRunPresenter.recordReplay(new ReplayRecorder(simulation, Paths.get(REPLAYS_DIR).resolve("%s.replay".formatted(worldMap.getId()))));
+        }
 
-            simulation.addObserver(simulationRunPresenter);
-            WorldMap worldMap = simulation.getWorldMap();
-            simulationRunPresenter.setSimulation(simulation);
+        try (SimulationEngine engine = new SimulationEngine(simulation)) {
+            engine.runAsync();
+        }
+    }
 
-            simulationStage.setOnCloseRequest(event -> {
-                simulationRunPresenter.setSimulationState(false);
-                simulation.stopSimulation();
+    private static void saveCheckpoint(Simulation simulation, Path checkpointPath) {
+        try {
+            simulation.saveCheckpoint(checkpointPath, false);
+        } catch (IOException e) {
+            System.err.printf("Error while saving checkpoint: %s%n", e.getMessage());
+        }
+    }
+
+    public void onReplayClicked() {
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Wybierz zapis symulacji");
+        fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("Replay", "*.replay"));
+        File replaysDirectory = new File(REPLAYS_DIR);
+        if (replaysDirectory.isDirectory()) {
+            fileChooser.setInitialDirectory(replaysDirectory);
+        }
+
+        File replayFile = fileChooser.showOpenDialog(errors.getScene().getWindow());
+        if (replayFile == null) {
+            return;
+        }
+
+        try {
+            ReplayPlayer replayPlayer = new ReplayPlayer(new ReplayReader(replayFile.toPath()));
+
+            Stage replayStage = new Stage();
+            SimulationRunPresenter simulationRunPresenter = showSimulationRunView(replayStage);
+            simulationRunPresenter.setReplay(replayPlayer);
+
+            replayStage.setOnCloseRequest(event -> {
+                simulationRunPresenter.stopRendering();
+                replayPlayer.stop();
             });
 
-            if(collectStatistics.isSelected()) {
-                try (SimulationSaveStatistics stats = new SimulationSaveStatistics(worldMap)) {
-                    simulation.addObserver(stats);
-                    try (SimulationEngine engine = new SimulationEngine(simulation)) {
-                        engine.runAsync();
-                    }
-                }
-            } else {
-                try (SimulationEngine engine = new SimulationEngine(simulation)) {
-                    engine.runAsync();
-                }
-            }
-        } catch (IllegalArgumentException | IOException e) {
+            replayPlayer.start();
+        } catch (IOException e) {
             errors.setText(e.getMessage());
         }
     }
 
+    private SimulationRunPresenter showSimulationRunView(Stage simulationStage) throws IOException {
+        FXMLLoader loader = new FXMLLoader();
+        loader.setLocation(getClass().getClassLoader().getResource("simulationRun.fxml"));
+        BorderPane viewRoot = loader.load();
+
+        var scene = new Scene(viewRoot);
+        simulationStage.setScene(scene);
+        simulationStage.setTitle("Simulation app");
+        simulationStage.setMinHeight(700);
+        simulationStage.setMinWidth(1300);
+
+        simulationStage.setHeight(700);
+        simulationStage.setWidth(1300);
+
+        simulationStage.show();
+        return loader.getController();
+    }
+
     public void onChooseParameters() {
 
         String chosenParameters = chooseParameters.getValue();
@@ -146,6 +248,13 @@ public class SimulationStartPresenter {
 
         SimulationParameters simulationParameters = SimulationPresets.loadParameters(chosenParameters);
 
+        try {
+            checkAvailableInGui(simulationParameters);
+        } catch (IllegalArgumentException e) {
+            errors.setText(e.getMessage());
+            return;
+        }
+
         height.setText(String.valueOf(simulationParameters.mapHeight()));
         width.setText(String.valueOf(simulationParameters.mapWidth()));
         growthGrassVariant.setValue(simulationParameters.growthGrassVariant());
@@ -161,6 +270,10 @@ public class SimulationStartPresenter {
         mutationVariant.setValue(simulationParameters.mutationVariant());
         numberOfGenes.setText(String.valueOf(simulationParameters.numberOfGenes()));
         collectStatistics.setSelected(simulationParameters.collectStatistics());
+        mapStorageVariant.setValue(simulationParameters.mapStorageVariant());
+        executionVariant.setValue(simulationParameters.executionVariant());
+        parallelPopulationThreshold.setText(String.valueOf(simulationParameters.parallelPopulationThreshold()));
+        seed.setText((simulationParameters.seed() != null) ? String.valueOf(simulationParameters.seed()) : "");
     }
 
     public void saveInputParameters() {
@@ -177,6 +290,12 @@ public class SimulationStartPresenter {
 
     }
 
+    private void checkAvailableInGui(SimulationParameters simulationParameters) {
+        if (simulationParameters.mapStorageVariant() != null && simulationParameters.mapStorageVariant().isHeadlessOnly()) {
+            throw new IllegalArgumentException("Wariant mapy %s jest dostępny tylko w trybie bez interfejsu graficznego".formatted(simulationParameters.mapStorageVariant()));
+        }
+    }
+
     private SimulationParameters getParameters() {
         return new SimulationParameters(
                 height.getText(),
@@ -193,7 +312,11 @@ public class SimulationStartPresenter {
                 maximumNumberOfMutation.getText(),
                 mutationVariant.getValue(),
                 numberOfGenes.getText(),
-                collectStatistics.isSelected()
+                collectStatistics.isSelected(),
+                mapStorageVariant.getValue(),
+                executionVariant.getValue(),
+                parallelPopulationThreshold.getText(),
+                seed.getText()
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package project.presenter;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class SpriteAtlas {
+    private final WritableImage atlas;
+    private final Map<String, Integer> spritesIndexes = new HashMap<>();
+    private final Map<String, Integer> spritesSizes = new HashMap<>();
+    private final int slotSize;
+
+    SpriteAtlas(Map<String, Double> spritesScales, int cellSize) {
+        this.slotSize = cellSize;
+        List<String> resourceFileNames = List.copyOf(spritesScales.keySet());
+        atlas = new WritableImage(slotSize * resourceFileNames.size(), slotSize);
+
+        for (int index = 0; index < resourceFileNames.size(); index++) {
+            String resourceFileName = resourceFileNames.get(index);
+            int spriteSize = Math.max(1, (int) Math.round(slotSize * spritesScales.get(resourceFileName)));
+            Image sprite = new Image(resourceFileName, spriteSize, spriteSize, false, true);
+
+            atlas.getPixelWriter().setPixels(index * slotSize, 0, spriteSize, spriteSize, sprite.getPixelReader(), 0, 0);
+            spritesIndexes.put(resourceFileName, index);
+            spritesSizes.put(resourceFileName, spriteSize);
+        }
+    }
+
+    int getSlotSize() {
+        return slotSize;
+    }
+
+    void drawCentered(GraphicsContext graphicsContext, String resourceFileName, double cellX, double cellY, double cellSize) {
+        int spriteSize = spritesSizes.get(resourceFileName);
+        double offset = (cellSize - spriteSize) / 2;
+
+        graphicsContext.drawImage(atlas,
+                spritesIndexes.get(resourceFileName) * slotSize, 0, spriteSize, spriteSize,
+                cellX + offset, cellY + offset, spriteSize, spriteSize);
+    }
+}
@@ -1,128 +1,118 @@
 package project.presenter;
 
 import javafx.geometry.Pos;
-import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
-import project.model.worldElements.Animal;
-import project.model.worldElements.WorldElement;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 public class WorldElementBox {
-    private final VBox container = new VBox();
-    private final WorldElement element;
+    private final StackPane container = new StackPane();
     private static final Map<String, Image> imageCache = new HashMap<>();
 
+    private final ImageView markerView = new ImageView();
+    private final ImageView grassView = new ImageView();
+    private final ImageView animalView = new ImageView();
+    private final Label energyBar = new Label();
+    private final VBox energyBarBox = new VBox(energyBar);
+
     private final int size;
     private final int initialAnimalEnergy;
-    private boolean selected;
 
-    private final List<String> animalsColors = List.of(
-            "#ffffff",
-            "#b1e3d9",
-            "#84f3dc",
-            "#5febfa",
-            "#00d8fe",
-            "#3f85ee",
-            "#1261a1",
-            "#062195"
-    );
-
-    public WorldElementBox(WorldElement element, int size, int initialAnimalEnergy) {
-        this(element, size, initialAnimalEnergy, false);
-    }
+    private String markerResourceFileName;
+    private String grassResourceFileName;
+    private String animalResourceFileName;
+    private boolean selected;
+    private int energyBarWidth = -1;
 
-    public WorldElementBox(WorldElement element, int size, int initialAnimalEnergy, boolean selected) {
-        this.element = element;
+    public WorldElementBox(int size, int initialAnimalEnergy) {
         this.size = size;
         this.initialAnimalEnergy = initialAnimalEnergy;
-        this.selected = selected;
 
-        fillContent();
-    }
+        container.setMinWidth(size);
+        container.setMinHeight(size);
+        container.setAlignment(Pos.CENTER);
 
-    public VBox getGraphicBox() {
-        return container;
-    }
+        markerView.setFitHeight(size);
+        markerView.setFitWidth(size);
+        grassView.setFitHeight(size);
+        grassView.setFitWidth(size);
+        animalView.setFitHeight(size * 0.8);
+        animalView.setFitWidth(size * 0.8);
 
-    public WorldElement getElement() {
-        return element;
-    }
+        energyBar.setMinHeight(0.1 * size);
+        energyBar.setMaxHeight(0.1 * size);
+        energyBar.setStyle("-fx-background-color: #F99090;");
 
-    public void setSelected(boolean selected) {
-        this.selected = selected;
-    }
+        energyBarBox.setMinWidth(size);
+        energyBarBox.setMinHeight(size);
+        energyBarBox.setAlignment(Pos.BOTTOM_LEFT);
 
-    public void fillContent() {
-            Node elementBox = createElementBox(element);
-            container.getChildren().clear();
-            container.getChildren().add(elementBox);
-    }
+        for (ImageView imageView : new ImageView[]{markerView, grassView, animalView}) {
+            imageView.setVisible(false);
+        }
+        energyBarBox.setVisible(false);
 
-    private Node createElementBox(WorldElement element) {
+        container.getChildren().addAll(markerView, grassView, animalView, energyBarBox);
+    }
 
-        Image image;
+    public StackPane getGraphicBox() {
+        return container;
+    }
 
-        if(selected) {
-            image = getOrCreateImage(element.getResourceFileName().replace(".png", "_selected.png"));
-        } else {
-            image = getOrCreateImage(element.getResourceFileName());
+    public void showMarker(String resourceFileName) {
+        if (Objects.equals(markerResourceFileName, resourceFileName)) {
+            return;
         }
 
-        ImageView imageView = new ImageView(image);
+        markerResourceFileName = resourceFileName;
+        showImage(markerView, resourceFileName);
+    }
 
-        if(element instanceof Animal) {
-            imageView.setFitHeight(size * 0.8);
-            imageView.setFitWidth(size * 0.8);
-        } else {
-            imageView.setFitHeight(size);
-            imageView.setFitWidth(size);
+    public void showGrass(String resourceFileName) {
+        if (Objects.equals(grassResourceFileName, resourceFileName)) {
+            return;
         }
 
-        StackPane stackPane = new StackPane();
-        stackPane.setMinWidth(size);
-        stackPane.setMinHeight(size);
-        stackPane.setAlignment(Pos.CENTER);
-        stackPane.getChildren().add(imageView);
+        grassResourceFileName = resourceFileName;
+        showImage(grassView, resourceFileName);
+    }
 
-        if (element instanceof Animal) {
-            VBox animalLabel = createAnimalEnergyBar();
-            stackPane.getChildren().add(animalLabel);
+    public void showAnimal(String resourceFileName, int energy, boolean selected) {
+        if (!Objects.equals(animalResourceFileName, resourceFileName) || this.selected != selected) {
+            animalResourceFileName = resourceFileName;
+            this.selected = selected;
+            showImage(animalView, (resourceFileName != null && selected) ? resourceFileName.replace(".png", "_selected.png") : resourceFileName);
         }
 
-        return stackPane;
+        int newEnergyBarWidth = (resourceFileName != null) ? getEnergyBarWidth(energy) : -1;
+        if (energyBarWidth != newEnergyBarWidth) {
+            energyBarWidth = newEnergyBarWidth;
+            energyBarBox.setVisible(newEnergyBarWidth >= 0);
+            energyBar.setMinWidth(Math.max(newEnergyBarWidth, 0));
+            energyBar.setMaxWidth(Math.max(newEnergyBarWidth, 0));
+        }
     }
 
-    private VBox createAnimalEnergyBar() {
-        Label label = new Label();
-
-        int energy = ((Animal) element).getCurrentEnergy();
-        double width = Math.min(size, ((double)energy / (2 * (double)initialAnimalEnergy)) * size);
-
-        label.setMinWidth(width);
-        label.setMaxWidth(width);
-
-        label.setMinHeight(0.1 * size);
-        label.setMaxHeight(0.1 * size);
-        label.setStyle("-fx-background-color: #F99090;");
-
-        VBox animalVBox = new VBox();
-        animalVBox.setMinWidth(size);
-        animalVBox.setMinHeight(size);
-        animalVBox.getChildren().add(label);
+    public void hideAnimal() {
+        showAnimal(null, 0, false);
+    }
 
-        animalVBox.setAlignment(Pos.BOTTOM_LEFT);
+    private int getEnergyBarWidth(int energy) {
+        return (int) Math.min(size, ((double) energy / (2 * (double) initialAnimalEnergy)) * size);
+    }
 
-        return animalVBox;
+    private void showImage(ImageView imageView, String resourceFileName) {
+        imageView.setVisible(resourceFileName != null);
+        imageView.setImage((resourceFileName != null) ? getOrCreateImage(resourceFileName) : null);
     }
 
     private Image getOrCreateImage(String resourceFileName) {
         return imageCache.computeIfAbsent(resourceFileName, Image::new);
     }
-}
\ No newline at end of file
+}
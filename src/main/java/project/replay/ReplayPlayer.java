@@ -0,0 +1,110 @@
+package project.replay;
+
+import project.listener.FrameSnapshot;
+import project.listener.FrameSource;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+public final class ReplayPlayer implements FrameSource {
+    private static final int NO_SEEK = -1;
+
+    private final ReplayReader reader;
+    private final AtomicReference<FrameSnapshot> latestFrame = new AtomicReference<>();
+    private Thread playerThread;
+
+    private final Object pauseLock = new Object();
+    private volatile int delay = 200;
+    private volatile boolean running = true;
+    private boolean paused = false;
+    private int requestedDay = NO_SEEK;
+
+    public ReplayPlayer(ReplayReader reader) {
+        this.reader = reader;
+    }
+
+    public ReplayReader getReader() {
+        return reader;
+    }
+
+    @Override
+    public FrameSnapshot getLatestFrame() {
+        return latestFrame.get();
+    }
+
+    public void start() {
+        playerThread = new Thread(this::play, "replay-player");
+        playerThread.setDaemon(true);
+        playerThread.start();
+    }
+
+    public void setDelay(int delay) {
+        this.delay = delay;
+    }
+
+    public void pause() {
+        synchronized (pauseLock) {
+            paused = true;
+        }
+    }
+
+    public void resume() {
+        synchronized (pauseLock) {
+            paused = false;
+            pauseLock.notifyAll();
+        }
+    }
+
+    public void seek(int day) {
+        synchronized (pauseLock) {
+            requestedDay = day;
+            pauseLock.notifyAll();
+        }
+    }
+
+    public void stop() {
+        running = false;
+        synchronized (pauseLock) {
+            pauseLock.notifyAll();
+        }
+        if (playerThread == null) {
+            reader.close();
+        }
+    }
+
+    private void play() {
+        try {
+            latestFrame.set(reader.nextFrame());
+
+            while (running) {
+                int day;
+                synchronized (pauseLock) {
+                    while (running && requestedDay == NO_SEEK && paused) {
+                        pauseLock.wait();
+                    }
+                    day = requestedDay;
+                    requestedDay = NO_SEEK;
+                }
+
+                if (day != NO_SEEK) {
+                    latestFrame.set(reader.seekToDay(day));
+                    continue;
+                }
+                if (!running) {
+                    break;
+                }
+
+                FrameSnapshot frame = reader.nextFrame();
+                if (frame == null) {
+                    pause();
+                    continue;
+                }
+                latestFrame.set(frame);
+                Thread.sleep(delay);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            reader.close();
+        }
+    }
+}
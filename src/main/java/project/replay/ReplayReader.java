@@ -0,0 +1,261 @@
+package project.replay;
+
+import project.listener.FrameSnapshot;
+import project.listener.FrameSnapshotPublisher;
+import project.listener.SimulationEventType;
+import project.statistics.GenotypeCount;
+import project.statistics.StatisticsRecord;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class ReplayReader implements AutoCloseable {
+    private static final SimulationEventType[] EVENT_TYPES = SimulationEventType.values();
+
+    private MappedByteBuffer buffer;
+    private final int mapWidth;
+    private final int mapHeight;
+    private final int initialAnimalsEnergy;
+
+    private int[] keyframesPositions = new int[16];
+    private int[] keyframesDays = new int[16];
+    private int numberOfKeyframes = 0;
+    private int lastDay;
+
+    private final byte[] cellsFlags;
+    private final byte[] cellsOrientations;
+    private final int[] cellsEnergies;
+    private StatisticsRecord statisticsRecord;
+    private List<GenotypeCount> topGenotypes = List.of();
+    private int position;
+    private long version = 0;
+
+    public ReplayReader(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Replay file %s is too large".formatted(filePath));
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+        if (buffer.limit() < ReplayRecorder.HEADER_SIZE || buffer.getInt(0) != ReplayRecorder.MAGIC) {
+            throw new IOException("%s is not a replay file".formatted(filePath));
+        }
+        if (buffer.getInt(Integer.BYTES) != ReplayRecorder.VERSION) {
+            throw new IOException("Unsupported replay version %d".formatted(buffer.getInt(Integer.BYTES)));
+        }
+        mapWidth = buffer.getInt(2 * Integer.BYTES);
+        mapHeight = buffer.getInt(3 * Integer.BYTES);
+        initialAnimalsEnergy = buffer.getInt(4 * Integer.BYTES);
+
+        cellsFlags = new byte[mapWidth * mapHeight];
+        cellsOrientations = new byte[mapWidth * mapHeight];
+        cellsEnergies = new int[mapWidth * mapHeight];
+
+        indexRecords();
+        if (numberOfKeyframes == 0) {
+            throw new IOException("Replay file %s does not contain any frame".formatted(filePath));
+        }
+        position = keyframesPositions[0];
+    }
+
+    public int getMapWidth() {
+        return mapWidth;
+    }
+
+    public int getMapHeight() {
+        return mapHeight;
+    }
+
+    public int getInitialAnimalsEnergy() {
+        return initialAnimalsEnergy;
+    }
+
+    public int getFirstDay() {
+        return keyframesDays[0];
+    }
+
+    public int getLastDay() {
+        return lastDay;
+    }
+
+    public FrameSnapshot nextFrame() {
+        checkOpen();
+        return readNextFrame(true);
+    }
+
+    public FrameSnapshot seekToDay(int day) {
+        checkOpen();
+        int keyframe = Arrays.binarySearch(keyframesDays, 0, numberOfKeyframes, Math.max(day, getFirstDay()));
+        if (keyframe < 0) {
+            keyframe = -keyframe - 2;
+        }
+        position = keyframesPositions[keyframe];
+
+        FrameSnapshot frame = readNextFrame(false);
+        while (frame.getDay() < day) {
+            FrameSnapshot nextFrame = readNextFrame(false);
+            if (nextFrame == null) {
+                break;
+            }
+            frame = nextFrame;
+        }
+        return publish(frame.getEventType(), frame.getDay());
+    }
+
+    // The channel is closed right after mapping, so closing only drops the mapping and lets it be released.
+    @Override
+    public void close() {
+        buffer = null;
+    }
+
+    private void checkOpen() {
+        if (buffer == null) {
+            throw new IllegalStateException("Replay reader is closed");
+        }
+    }
+
+    private FrameSnapshot readNextFrame(boolean published) {
+        while (position + ReplayRecorder.RECORD_HEADER_SIZE <= buffer.limit()) {
+            byte type = buffer.get(position);
+            int length = buffer.getInt(position + Byte.BYTES);
+            int payloadPosition = position + ReplayRecorder.RECORD_HEADER_SIZE;
+            if (payloadPosition + length > buffer.limit()) {
+                return null;
+            }
+            position = payloadPosition + length;
+
+            switch (type) {
+                case ReplayRecorder.STATISTICS_RECORD -> readStatistics(payloadPosition);
+                case ReplayRecorder.KEYFRAME_RECORD, ReplayRecorder.DELTA_RECORD -> {
+                    SimulationEventType eventType = EVENT_TYPES[buffer.get(payloadPosition)];
+                    int day = buffer.getInt(payloadPosition + Byte.BYTES);
+                    int cellsPosition = payloadPosition + Byte.BYTES + Integer.BYTES;
+                    if (type == ReplayRecorder.KEYFRAME_RECORD) {
+                        readKeyframe(cellsPosition);
+                    } else {
+                        readDelta(cellsPosition);
+                    }
+                    return published ? publish(eventType, day) : new FrameSnapshot(version, day, eventType, mapWidth, mapHeight,
+                            cellsOrientations, cellsEnergies, cellsFlags, statisticsRecord, topGenotypes, null);
+                }
+                default -> throw new IllegalStateException("Unknown replay record type %d".formatted(type));
+            }
+        }
+        return null;
+    }
+
+    private FrameSnapshot publish(SimulationEventType eventType, int day) {
+        return new FrameSnapshot(++version, day, eventType, mapWidth, mapHeight,
+                cellsOrientations.clone(), cellsEnergies.clone(), cellsFlags.clone(), statisticsRecord, topGenotypes, null);
+    }
+
+    private void indexRecords() {
+        int recordPosition = ReplayRecorder.HEADER_SIZE;
+        int statisticsPosition = -1;
+        while (recordPosition + ReplayRecorder.RECORD_HEADER_SIZE <= buffer.limit()) {
+            byte type = buffer.get(recordPosition);
+            int length = buffer.getInt(recordPosition + Byte.BYTES);
+            int payloadPosition = recordPosition + ReplayRecorder.RECORD_HEADER_SIZE;
+            if (payloadPosition + length > buffer.limit()) {
+                break;
+            }
+
+            if (type == ReplayRecorder.KEYFRAME_RECORD || type == ReplayRecorder.DELTA_RECORD) {
+                lastDay = buffer.getInt(payloadPosition + Byte.BYTES);
+            }
+            if (type == ReplayRecorder.KEYFRAME_RECORD) {
+                if (numberOfKeyframes == keyframesPositions.length) {
+                    keyframesPositions = Arrays.copyOf(keyframesPositions, numberOfKeyframes * 2);
+                    keyframesDays = Arrays.copyOf(keyframesDays, numberOfKeyframes * 2);
+                }
+                keyframesPositions[numberOfKeyframes] = (statisticsPosition != -1) ? statisticsPosition : recordPosition;
+                keyframesDays[numberOfKeyframes] = lastDay;
+                numberOfKeyframes++;
+            }
+
+            statisticsPosition = (type == ReplayRecorder.STATISTICS_RECORD) ? recordPosition : -1;
+            recordPosition = payloadPosition + length;
+        }
+    }
+
+    private void readStatistics(int payloadPosition) {
+        buffer.position(payloadPosition);
+        int day = buffer.getInt();
+        int animalsCount = buffer.getInt();
+        int plantsCount = buffer.getInt();
+        int emptyFieldsCount = buffer.getInt();
+        int genotypesCount = buffer.getInt();
+        double averageEnergy = buffer.getDouble();
+        double averageLifeLength = buffer.getDouble();
+        double averageChildrenCount = buffer.getDouble();
+
+        int numberOfPopularGenotypes = buffer.get();
+        List<GenotypeCount> popularGenotypes = new ArrayList<>(numberOfPopularGenotypes);
+        for (int i = 0; i < numberOfPopularGenotypes; i++) {
+            long genotypeId = buffer.getLong();
+            byte[] genotype = new byte[buffer.getInt()];
+            buffer.get(genotype);
+            popularGenotypes.add(new GenotypeCount(genotypeId, new String(genotype, StandardCharsets.UTF_8), buffer.getInt()));
+        }
+
+        statisticsRecord = new StatisticsRecord(day, animalsCount, plantsCount, emptyFieldsCount, genotypesCount,
+                popularGenotypes, averageEnergy, averageLifeLength, averageChildrenCount);
+        topGenotypes = statisticsRecord.topGenotypes(FrameSnapshotPublisher.TOP_GENOTYPES_LIMIT);
+    }
+
+    private void readKeyframe(int cellsPosition) {
+        buffer.get(cellsPosition, cellsFlags);
+        buffer.position(cellsPosition + cellsFlags.length);
+
+        for (int cell = 0; cell < cellsFlags.length; cell++) {
+            cellsOrientations[cell] = 0;
+            cellsEnergies[cell] = 0;
+            if ((cellsFlags[cell] & FrameSnapshot.ANIMAL) != 0) {
+                readAnimal(cell);
+            }
+        }
+    }
+
+    private void readDelta(int cellsPosition) {
+        buffer.position(cellsPosition);
+        int numberOfChangedCells = getVarInt();
+
+        int cell = -1;
+        for (int i = 0; i < numberOfChangedCells; i++) {
+            cell += getVarInt() + 1;
+            cellsFlags[cell] = buffer.get();
+            cellsOrientations[cell] = 0;
+            cellsEnergies[cell] = 0;
+            if ((cellsFlags[cell] & FrameSnapshot.ANIMAL) != 0) {
+                readAnimal(cell);
+            }
+        }
+    }
+
+    private void readAnimal(int cell) {
+        cellsOrientations[cell] = buffer.get();
+        int encodedEnergy = getVarInt();
+        cellsEnergies[cell] = (encodedEnergy >>> 1) ^ -(encodedEnergy & 1);
+    }
+
+    private int getVarInt() {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte encodedByte = buffer.get();
+            value |= (encodedByte & 0x7F) << shift;
+            if (encodedByte >= 0) {
+                return value;
+            }
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package project.replay;
+
+import project.Simulation;
+import project.listener.FrameListener;
+import project.listener.FrameSnapshot;
+import project.listener.SimulationEventType;
+import project.model.maps.MapStorageVariant;
+import project.model.maps.WorldMap;
+import project.statistics.GenotypeCount;
+import project.statistics.StatisticsRecord;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class ReplayRecorder implements FrameListener, AutoCloseable {
+    static final int MAGIC = 0x44575250;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 6 * Integer.BYTES;
+    static final int RECORD_HEADER_SIZE = Byte.BYTES + Integer.BYTES;
+    static final byte KEYFRAME_RECORD = 1;
+    static final byte DELTA_RECORD = 2;
+    static final byte STATISTICS_RECORD = 3;
+    static final byte RECORDED_FLAGS = FrameSnapshot.GRASS | FrameSnapshot.FREE_PREFERRED_FIELD | FrameSnapshot.TOP_GENOTYPE_ANIMAL | FrameSnapshot.ANIMAL;
+
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 100;
+
+    private static final int FLUSH_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final int keyframeInterval;
+    private ByteBuffer buffer = ByteBuffer.allocate(FLUSH_SIZE * 2).order(ByteOrder.LITTLE_ENDIAN);
+
+    private FrameSnapshot recordedFrame;
+    private int lastKeyframeDay;
+    private StatisticsRecord recordedStatistics;
+    private boolean closed = false;
+
+    public ReplayRecorder(Simulation simulation, Path filePath) throws IOException {
+        this(simulation, filePath, DEFAULT_KEYFRAME_INTERVAL);
+    }
+
+    public ReplayRecorder(Simulation simulation, Path filePath, int keyframeInterval) throws IOException {
+        if (keyframeInterval <= 0) {
+            throw new IllegalArgumentException("Keyframe interval must be greater than 0");
+        }
+        if (simulation.getSimulationParameters().mapStorageVariant() == MapStorageVariant.CHUNKED) {
+            throw new IllegalArgumentException("Replays cannot be recorded for the Chunked map storage");
+        }
+
+        Path parent = filePath.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        WorldMap worldMap = simulation.getWorldMap();
+        this.keyframeInterval = keyframeInterval;
+
+        channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        buffer.putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(worldMap.getMapWidth())
+                .putInt(worldMap.getMapHeight())
+                .putInt(simulation.getInitialAnimalsEnergy())
+                .putInt(keyframeInterval);
+        flushBuffer();
+    }
+
+    @Override
+    public void handleFrame(FrameSnapshot frame) {
+        if (closed) {
+            return;
+        }
+
+        StatisticsRecord statisticsRecord = frame.getStatisticsRecord();
+        try {
+            boolean isKeyframe = recordedFrame == null
+                    || (frame.getEventType() == SimulationEventType.ANIMALS_REMOVED && frame.getDay() % keyframeInterval == 0 && frame.getDay() != lastKeyframeDay);
+
+            if (isKeyframe || statisticsRecord != recordedStatistics) {
+                writeStatistics(statisticsRecord);
+            }
+            if (isKeyframe) {
+                writeKeyframe(frame);
+            } else {
+                writeDelta(frame);
+            }
+            recordedFrame = frame;
+
+            if (buffer.position() >= FLUSH_SIZE) {
+                flushBuffer();
+            }
+        } catch (IOException e) {
+            System.err.println("Error writing to replay file: " + e.getMessage());
+            closed = true;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        try (channel) {
+            flushBuffer();
+        } catch (IOException e) {
+            System.err.println("Error writing to replay file: " + e.getMessage());
+        }
+    }
+
+    private void writeStatistics(StatisticsRecord statisticsRecord) {
+        recordedStatistics = statisticsRecord;
+
+        int recordStart = beginRecord(STATISTICS_RECORD);
+        ensureRemaining(5 * Integer.BYTES + 3 * Double.BYTES + Byte.BYTES);
+        buffer.putInt(statisticsRecord.day())
+                .putInt(statisticsRecord.animalsCount())
+                .putInt(statisticsRecord.plantsCount())
+                .putInt(statisticsRecord.emptyFieldsCount())
+                .putInt(statisticsRecord.genotypesCount())
+                .putDouble(statisticsRecord.averageEnergy())
+                .putDouble(statisticsRecord.averageLifeLength())
+                .putDouble(statisticsRecord.averageChildrenCount())
+                .put((byte) statisticsRecord.popularGenotypes().size());
+
+        for (GenotypeCount genotypeCount : statisticsRecord.popularGenotypes()) {
+            byte[] genotype = genotypeCount.genotype().getBytes(StandardCharsets.UTF_8);
+            ensureRemaining(Long.BYTES + 2 * Integer.BYTES + genotype.length);
+            buffer.putLong(genotypeCount.genotypeId())
+                    .putInt(genotype.length)
+                    .put(genotype)
+                    .putInt(genotypeCount.count());
+        }
+        endRecord(recordStart);
+    }
+
+    private void writeKeyframe(FrameSnapshot frame) {
+        lastKeyframeDay = frame.getDay();
+
+        int recordStart = beginRecord(KEYFRAME_RECORD);
+        ensureRemaining(Byte.BYTES + Integer.BYTES + frame.getNumberOfCells());
+        buffer.put((byte) frame.getEventType().ordinal()).putInt(frame.getDay());
+
+        for (int cell = 0; cell < frame.getNumberOfCells(); cell++) {
+            buffer.put(recordedFlags(frame, cell));
+        }
+        for (int cell = 0; cell < frame.getNumberOfCells(); cell++) {
+            if (frame.hasAnimal(cell)) {
+                writeAnimal(frame, cell);
+            }
+        }
+        endRecord(recordStart);
+    }
+
+    private void writeDelta(FrameSnapshot frame) {
+        int numberOfChangedCells = 0;
+        for (int cell = 0; cell < frame.getNumberOfCells(); cell++) {
+            if (isCellChanged(frame, cell)) {
+                numberOfChangedCells++;
+            }
+        }
+
+        int recordStart = beginRecord(DELTA_RECORD);
+        ensureRemaining(Byte.BYTES + Integer.BYTES + 5);
+        buffer.put((byte) frame.getEventType().ordinal()).putInt(frame.getDay());
+        putVarInt(numberOfChangedCells);
+
+        int previousCell = -1;
+        for (int cell = 0; cell < frame.getNumberOfCells() && numberOfChangedCells > 0; cell++) {
+            if (!isCellChanged(frame, cell)) {
+                continue;
+            }
+
+            ensureRemaining(5 + Byte.BYTES);
+            putVarInt(cell - previousCell - 1);
+            buffer.put(recordedFlags(frame, cell));
+            if (frame.hasAnimal(cell)) {
+                writeAnimal(frame, cell);
+            }
+            previousCell = cell;
+            numberOfChangedCells--;
+        }
+        endRecord(recordStart);
+    }
+
+    private boolean isCellChanged(FrameSnapshot frame, int cell) {
+        if (recordedFlags(frame, cell) != recordedFlags(recordedFrame, cell)) {
+            return true;
+        }
+        return frame.hasAnimal(cell)
+                && (frame.getOrientation(cell) != recordedFrame.getOrientation(cell) || frame.getEnergy(cell) != recordedFrame.getEnergy(cell));
+    }
+
+    private static byte recordedFlags(FrameSnapshot frame, int cell) {
+        return (byte) (frame.getFlags(cell) & RECORDED_FLAGS);
+    }
+
+    private void writeAnimal(FrameSnapshot frame, int cell) {
+        int energy = frame.getEnergy(cell);
+        ensureRemaining(Byte.BYTES + 5);
+        buffer.put((byte) frame.getOrientation(cell).ordinal());
+        putVarInt((energy << 1) ^ (energy >> 31));
+    }
+
+    private void putVarInt(int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private int beginRecord(byte type) {
+        ensureRemaining(RECORD_HEADER_SIZE);
+        int recordStart = buffer.position();
+        buffer.put(type).putInt(0);
+        return recordStart;
+    }
+
+    private void endRecord(int recordStart) {
+        buffer.putInt(recordStart + Byte.BYTES, buffer.position() - recordStart - RECORD_HEADER_SIZE);
+    }
+
+    private void ensureRemaining(int length) {
+        if (buffer.remaining() < length) {
+            int capacity = buffer.capacity();
+            while (capacity - buffer.position() < length) {
+                capacity *= 2;
+            }
+            buffer = ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN).put(buffer.flip());
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
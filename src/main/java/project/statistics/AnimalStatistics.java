@@ -3,19 +3,19 @@ package project.statistics;
 import project.Simulation;
 import project.model.worldElements.Animal;
 
-import java.util.HashSet;
-import java.util.Set;
-
 public class AnimalStatistics {
     private Integer whenDied;
 
     private AnimalStatisticsRecord record;
     private final Simulation simulation;
     private final Animal animal;
+    private final DescendantsIndex descendantsIndex;
 
     public AnimalStatistics(Animal animal, Simulation simulation) {
         this.animal = animal;
         this.simulation = simulation;
+        this.descendantsIndex = new DescendantsIndex(animal);
+        simulation.addBirthListener(descendantsIndex);
 
         updateStatistics();
     }
@@ -29,8 +29,8 @@ public class AnimalStatistics {
                 animal.getActivePartOfGenome(),
                 animal.getCurrentEnergy(),
                 animal.getNumberOfEatenPlants(),
-                animal.getAnimalsKids().size(),
-                countDescendants(),
+                animal.getNumberOfKids(),
+                descendantsIndex.getNumberOfDescendants(),
                 animal.getLengthOfLife(),
                 whenDied
         );
@@ -40,17 +40,8 @@ public class AnimalStatistics {
         return record;
     }
 
-    private int countDescendants() {
-        Set<Animal> allDescendants = new HashSet<>();
-        findDescendants(animal, allDescendants);
-        return allDescendants.size();
-    }
-
-    private void findDescendants(Animal animal, Set<Animal> allDescendants) {
-        for (Animal child : animal.getAnimalsKids()) {
-            if (allDescendants.add(child)) {
-                findDescendants(child, allDescendants);
-            }
-        }
+    public void stopTracking() {
+        simulation.removeBirthListener(descendantsIndex);
+        descendantsIndex.close();
     }
 }
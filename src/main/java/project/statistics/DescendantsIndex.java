@@ -0,0 +1,65 @@
+package project.statistics;
+
+import project.listener.AnimalBirthListener;
+import project.model.worldElements.Animal;
+import project.model.worldElements.Genealogy;
+
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Deque;
+
+public class DescendantsIndex implements AnimalBirthListener, AutoCloseable {
+    private final Genealogy genealogy;
+    private final int ancestorId;
+    private final BitSet descendantsIds = new BitSet();
+    private int numberOfDescendants = 0;
+
+    public DescendantsIndex(Animal ancestor) {
+        this.genealogy = ancestor.getGenealogy();
+        this.ancestorId = ancestor.getGenealogyId();
+        genealogy.pin(ancestorId);
+
+        Deque<Integer> idsToVisit = new ArrayDeque<>();
+        idsToVisit.push(ancestorId);
+        while (!idsToVisit.isEmpty()) {
+            genealogy.forEachKid(idsToVisit.pop(), kidId -> {
+                if (addDescendant(kidId)) {
+                    idsToVisit.push(kidId);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void handleAnimalBirth(Animal firstParent, Animal secondParent, Animal kid) {
+        if (kid.getGenealogy() == genealogy && (isAncestorOrDescendant(firstParent) || isAncestorOrDescendant(secondParent))) {
+            addDescendant(kid.getGenealogyId());
+        }
+    }
+
+    public int getNumberOfDescendants() {
+        return numberOfDescendants;
+    }
+
+    @Override
+    public void close() {
+        genealogy.unpin(ancestorId);
+    }
+
+    private boolean isAncestorOrDescendant(Animal animal) {
+        if (animal.getGenealogy() != genealogy) {
+            return false;
+        }
+        int id = animal.getGenealogyId();
+        return id == ancestorId || descendantsIds.get(id);
+    }
+
+    private boolean addDescendant(int id) {
+        if (descendantsIds.get(id)) {
+            return false;
+        }
+        descendantsIds.set(id);
+        numberOfDescendants++;
+        return true;
+    }
+}
@@ -0,0 +1,7 @@
+package project.statistics;
+
+public record GenotypeCount(
+        long genotypeId,
+        String genotype,
+        int count
+) {}
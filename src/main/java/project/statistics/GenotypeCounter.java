@@ -0,0 +1,146 @@
+package project.statistics;
+
+import project.model.worldElements.Animal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+public class GenotypeCounter {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<Long, Genotype> genotypes = new HashMap<>();
+    private Genotype[] heap = new Genotype[INITIAL_CAPACITY];
+    private int heapSize = 0;
+
+    public void add(Animal animal) {
+        Genotype genotype = genotypes.get(animal.getGenotypeId());
+
+        if (genotype == null) {
+            genotype = new Genotype(animal.getGenotypeId(), animal.getAnimalGenesString());
+            genotypes.put(genotype.id, genotype);
+
+            if (heapSize == heap.length) {
+                heap = Arrays.copyOf(heap, heap.length * 2);
+            }
+            setHeapSlot(heapSize++, genotype);
+        }
+
+        genotype.count++;
+        siftUp(genotype.heapIndex);
+    }
+
+    public void remove(Animal animal) {
+        Genotype genotype = genotypes.get(animal.getGenotypeId());
+        if (genotype == null) {
+            throw new NoSuchElementException("Genotype %s is not counted".formatted(animal.getAnimalGenesString()));
+        }
+
+        genotype.count--;
+        if (genotype.count > 0) {
+            siftDown(genotype.heapIndex);
+            return;
+        }
+
+        genotypes.remove(genotype.id);
+        int heapIndex = genotype.heapIndex;
+        Genotype lastGenotype = heap[--heapSize];
+        heap[heapSize] = null;
+
+        if (heapIndex != heapSize) {
+            setHeapSlot(heapIndex, lastGenotype);
+            siftDown(heapIndex);
+            siftUp(lastGenotype.heapIndex);
+        }
+    }
+
+    public int getCount(long genotypeId) {
+        Genotype genotype = genotypes.get(genotypeId);
+        return (genotype != null) ? genotype.count : 0;
+    }
+
+    public int size() {
+        return heapSize;
+    }
+
+    public List<GenotypeCount> getMostPopular(int limit) {
+        List<GenotypeCount> mostPopular = new ArrayList<>(Math.min(limit, heapSize));
+        if (heapSize == 0 || limit <= 0) {
+            return mostPopular;
+        }
+
+        PriorityQueue<Integer> candidates = new PriorityQueue<>(Comparator.comparing((Integer heapIndex) -> heap[heapIndex], GenotypeCounter::compare));
+        candidates.add(0);
+
+        while (mostPopular.size() < limit && !candidates.isEmpty()) {
+            int heapIndex = candidates.poll();
+            Genotype genotype = heap[heapIndex];
+            mostPopular.add(new GenotypeCount(genotype.id, genotype.genes, genotype.count));
+
+            for (int child = 2 * heapIndex + 1; child <= 2 * heapIndex + 2 && child < heapSize; child++) {
+                candidates.add(child);
+            }
+        }
+        return mostPopular;
+    }
+
+    private void siftUp(int heapIndex) {
+        Genotype genotype = heap[heapIndex];
+
+        while (heapIndex > 0) {
+            int parent = (heapIndex - 1) / 2;
+            if (compare(genotype, heap[parent]) >= 0) {
+                break;
+            }
+            setHeapSlot(heapIndex, heap[parent]);
+            heapIndex = parent;
+        }
+        setHeapSlot(heapIndex, genotype);
+    }
+
+    private void siftDown(int heapIndex) {
+        Genotype genotype = heap[heapIndex];
+
+        while (2 * heapIndex + 1 < heapSize) {
+            int child = 2 * heapIndex + 1;
+            if (child + 1 < heapSize && compare(heap[child + 1], heap[child]) < 0) {
+                child++;
+            }
+            if (compare(heap[child], genotype) >= 0) {
+                break;
+            }
+            setHeapSlot(heapIndex, heap[child]);
+            heapIndex = child;
+        }
+        setHeapSlot(heapIndex, genotype);
+    }
+
+    private void setHeapSlot(int heapIndex, Genotype genotype) {
+        heap[heapIndex] = genotype;
+        genotype.heapIndex = heapIndex;
+    }
+
+    private static int compare(Genotype first, Genotype second) {
+        if (first.count != second.count) {
+            return Integer.compare(second.count, first.count);
+        }
+        return Long.compare(first.id, second.id);
+    }
+
+    private static final class Genotype {
+        private final long id;
+        private final String genes;
+        private int count = 0;
+        private int heapIndex;
+
+        private Genotype(long id, String genes) {
+            this.id = id;
+            this.genes = genes;
+        }
+    }
+}
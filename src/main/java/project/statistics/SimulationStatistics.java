@@ -1,63 +1,64 @@
 package project.statistics;
 
-import project.model.Vector2d;
+import project.checkpoint.CheckpointInput;
+import project.checkpoint.CheckpointOutput;
 import project.model.maps.WorldMap;
 import project.model.worldElements.Animal;
-import project.model.worldElements.WorldElement;
-
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Set;
 
 public class SimulationStatistics {
+    public static final int NUMBER_OF_POPULAR_GENOTYPES = 5;
+
     private int numberOfDeadAnimals = 0;
     private int countOfDaysForDeadAnimals = 0;
 
-    private final HashMap<String, Integer> genotypesCount = new HashMap<>();
+    private int numberOfAnimals = 0;
+    private long sumOfAnimalsEnergy = 0;
+    private long sumOfAnimalsKids = 0;
+
+    private final GenotypeCounter genotypeCounter = new GenotypeCounter();
 
     private StatisticsRecord statisticsRecord;
 
-    public void registerDeadAnimal(Animal deadAnimal) {
-        numberOfDeadAnimals++;
-        countOfDaysForDeadAnimals += deadAnimal.getLengthOfLife();
+    public void registerSpawnedAnimal(Animal animal) {
+        addAnimal(animal);
+        sumOfAnimalsEnergy += animal.getCurrentEnergy();
     }
 
-    public void updateStatistics(WorldMap map, int day) {
-        int animalsCount = map.getNumberOfAnimals();
-        int plantsCount = map.getNumberOfGrass();
-
-        double averageLengthOfLife = (numberOfDeadAnimals != 0) ? (double) countOfDaysForDeadAnimals / numberOfDeadAnimals : 0.0;
-
-        int allPositionsCount = map.getMapHeight() * map.getMapWidth();
-        Set<Vector2d> occupiedPositions = new HashSet<>();
-
-        int allChildrenCount = 0;
-        int allEnergyCount = 0;
+    public void registerBornAnimal(Animal kid) {
+        addAnimal(kid);
+        sumOfAnimalsKids += 2;
+    }
 
-        genotypesCount.clear();
+    public void registerDeadAnimal(Animal deadAnimal) {
+        numberOfDeadAnimals++;
+        countOfDaysForDeadAnimals += deadAnimal.getLengthOfLife();
 
-        for (WorldElement element : map.getElements()) {
-            occupiedPositions.add(element.getPosition());
+        numberOfAnimals--;
+        sumOfAnimalsEnergy -= deadAnimal.getCurrentEnergy();
+        sumOfAnimalsKids -= deadAnimal.getNumberOfKids();
+        genotypeCounter.remove(deadAnimal);
+    }
 
-            if (element instanceof Animal animal) {
-                allChildrenCount += animal.getAnimalsKids().size();
-                allEnergyCount += animal.getCurrentEnergy();
+    public void registerMovedAnimals(int numberOfMovedAnimals) {
+        sumOfAnimalsEnergy -= numberOfMovedAnimals;
+    }
 
-                int genotypeCount = genotypesCount.computeIfAbsent(animal.getAnimalGenesString(), k -> 0);
-                genotypesCount.replace(animal.getAnimalGenesString(), ++genotypeCount);
-            }
-        }
+    public void registerEatenPlants(int numberOfEatenPlants, int energyFromGrass) {
+        sumOfAnimalsEnergy += (long) numberOfEatenPlants * energyFromGrass;
+    }
 
-        int numberOfFreePositions = allPositionsCount - occupiedPositions.size();
-        double averageAnimalsEnergy = (animalsCount != 0) ? (double) allEnergyCount / animalsCount : 0.0;
-        double averageChildrenCount = (animalsCount != 0) ? (double) allChildrenCount / animalsCount : 0.0;
+    public void updateStatistics(WorldMap map, int day) {
+        double averageLengthOfLife = (numberOfDeadAnimals != 0) ? (double) countOfDaysForDeadAnimals / numberOfDeadAnimals : 0.0;
+        double averageAnimalsEnergy = (numberOfAnimals != 0) ? (double) sumOfAnimalsEnergy / numberOfAnimals : 0.0;
+        double averageChildrenCount = (numberOfAnimals != 0) ? (double) sumOfAnimalsKids / numberOfAnimals : 0.0;
 
         statisticsRecord = new StatisticsRecord(
                 day,
-                animalsCount,
-                plantsCount,
-                numberOfFreePositions,
-                genotypesCount,
+                numberOfAnimals,
+                map.getNumberOfGrass(),
+                map.getNumberOfEmptyFields(),
+                genotypeCounter.size(),
+                genotypeCounter.getMostPopular(NUMBER_OF_POPULAR_GENOTYPES),
                 averageAnimalsEnergy,
                 averageLengthOfLife,
                 averageChildrenCount
@@ -67,4 +68,33 @@ public class SimulationStatistics {
     public StatisticsRecord getStatisticsRecord() {
         return statisticsRecord;
     }
+
+    public void writeCheckpoint(CheckpointOutput output) {
+        output.putInt(numberOfDeadAnimals)
+                .putInt(countOfDaysForDeadAnimals)
+                .putInt(numberOfAnimals)
+                .putLong(sumOfAnimalsEnergy)
+                .putLong(sumOfAnimalsKids)
+                .putInt(statisticsRecord.day());
+    }
+
+    public void restoreCheckpoint(CheckpointInput input, WorldMap map) {
+        numberOfDeadAnimals = input.getInt();
+        countOfDaysForDeadAnimals = input.getInt();
+        numberOfAnimals = input.getInt();
+        sumOfAnimalsEnergy = input.getLong();
+        sumOfAnimalsKids = input.getLong();
+        int day = input.getInt();
+
+        for (Animal animal : map.getOrderedAnimals()) {
+            genotypeCounter.add(animal);
+        }
+        updateStatistics(map, day);
+    }
+
+    private void addAnimal(Animal animal) {
+        numberOfAnimals++;
+        sumOfAnimalsKids += animal.getNumberOfKids();
+        genotypeCounter.add(animal);
+    }
 }
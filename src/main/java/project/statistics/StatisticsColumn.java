@@ -0,0 +1,37 @@
+package project.statistics;
+
+public enum StatisticsColumn {
+    DAY("day", Integer.BYTES),
+    ANIMALS_COUNT("animals_count", Integer.BYTES),
+    PLANTS_COUNT("grass_count", Integer.BYTES),
+    EMPTY_FIELDS_COUNT("empty_fields_count", Integer.BYTES),
+    GENOTYPES_COUNT("genotypes_count", Integer.BYTES),
+    AVERAGE_ENERGY("average_energy", Double.BYTES),
+    AVERAGE_LIFE_LENGTH("average_lifetime", Double.BYTES),
+    AVERAGE_CHILDREN_COUNT("average_kids_number", Double.BYTES);
+
+    private final String columnName;
+    private final int width;
+
+    StatisticsColumn(String columnName, int width) {
+        this.columnName = columnName;
+        this.width = width;
+    }
+
+    public String getColumnName() {
+        return columnName;
+    }
+
+    int getWidth() {
+        return width;
+    }
+
+    boolean isInteger() {
+        return width == Integer.BYTES;
+    }
+
+    @Override
+    public String toString() {
+        return columnName;
+    }
+}
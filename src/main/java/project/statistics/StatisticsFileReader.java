@@ -0,0 +1,258 @@
+package project.statistics;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public class StatisticsFileReader implements AutoCloseable {
+    private static final String CSV_HEADER = "day,animals_count,grass_count,empty_fields_count,genotypes_count,average_energy,average_lifetime,average_kids_number,popular_genotypes";
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int rowsPerBlock;
+    private final int popularGenotypesLimit;
+
+    private final List<Integer> blocksOffsets = new ArrayList<>();
+    private final List<GenotypeCount> genotypesDictionary = new ArrayList<>();
+    private int firstDay;
+    private int numberOfDays = 0;
+
+    public StatisticsFileReader(Path filePath) throws IOException {
+        channel = FileChannel.open(filePath, StandardOpenOption.READ);
+        if (channel.size() > Integer.MAX_VALUE) {
+            channel.close();
+            throw new IOException("Statistics file %s is too large to be mapped".formatted(filePath));
+        }
+
+        buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+        if (buffer.limit() < StatisticsFileWriter.HEADER_SIZE || buffer.getInt(0) != StatisticsFileWriter.MAGIC) {
+            channel.close();
+            throw new IOException("%s is not a statistics file".formatted(filePath));
+        }
+        if (buffer.getInt(Integer.BYTES) != StatisticsFileWriter.VERSION) {
+            channel.close();
+            throw new IOException("Unsupported statistics file version %d".formatted(buffer.getInt(Integer.BYTES)));
+        }
+        rowsPerBlock = buffer.getInt(2 * Integer.BYTES);
+        popularGenotypesLimit = buffer.getInt(3 * Integer.BYTES);
+
+        readChunks();
+    }
+
+    public int getFirstDay() {
+        return firstDay;
+    }
+
+    public int getLastDay() {
+        return firstDay + numberOfDays - 1;
+    }
+
+    public int getNumberOfDays() {
+        return numberOfDays;
+    }
+
+    public int[] readIntColumn(StatisticsColumn column, int fromDay, int toDay) {
+        if (!column.isInteger()) {
+            throw new IllegalArgumentException("Column %s does not hold integers".formatted(column));
+        }
+
+        int[] values = new int[checkRange(fromDay, toDay)];
+        forEachBlockPart(fromDay, toDay, (blockOffset, firstRow, numberOfRows, valuesOffset) ->
+                buffer.slice(getColumnOffset(blockOffset, column.ordinal()) + firstRow * Integer.BYTES, numberOfRows * Integer.BYTES)
+                        .order(ByteOrder.LITTLE_ENDIAN)
+                        .asIntBuffer()
+                        .get(values, valuesOffset, numberOfRows));
+        return values;
+    }
+
+    public double[] readDoubleColumn(StatisticsColumn column, int fromDay, int toDay) {
+        if (column.isInteger()) {
+            int[] intValues = readIntColumn(column, fromDay, toDay);
+            double[] values = new double[intValues.length];
+            for (int i = 0; i < intValues.length; i++) {
+                values[i] = intValues[i];
+            }
+            return values;
+        }
+
+        double[] values = new double[checkRange(fromDay, toDay)];
+        forEachBlockPart(fromDay, toDay, (blockOffset, firstRow, numberOfRows, valuesOffset) ->
+                buffer.slice(getColumnOffset(blockOffset, column.ordinal()) + firstRow * Double.BYTES, numberOfRows * Double.BYTES)
+                        .order(ByteOrder.LITTLE_ENDIAN)
+                        .asDoubleBuffer()
+                        .get(values, valuesOffset, numberOfRows));
+        return values;
+    }
+
+    public StatisticsRecord readRecord(int day) {
+        checkRange(day, day);
+        int blockOffset = blocksOffsets.get((day - firstDay) / rowsPerBlock);
+        int row = (day - firstDay) % rowsPerBlock;
+
+        return new StatisticsRecord(
+                getInt(blockOffset, StatisticsColumn.DAY, row),
+                getInt(blockOffset, StatisticsColumn.ANIMALS_COUNT, row),
+                getInt(blockOffset, StatisticsColumn.PLANTS_COUNT, row),
+                getInt(blockOffset, StatisticsColumn.EMPTY_FIELDS_COUNT, row),
+                getInt(blockOffset, StatisticsColumn.GENOTYPES_COUNT, row),
+                readPopularGenotypes(blockOffset, row),
+                getDouble(blockOffset, StatisticsColumn.AVERAGE_ENERGY, row),
+                getDouble(blockOffset, StatisticsColumn.AVERAGE_LIFE_LENGTH, row),
+                getDouble(blockOffset, StatisticsColumn.AVERAGE_CHILDREN_COUNT, row)
+        );
+    }
+
+    public void writeCsv(Path csvPath) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(csvPath)) {
+            writer.write(CSV_HEADER);
+            writer.newLine();
+
+            for (int day = firstDay; day <= getLastDay(); day++) {
+                StatisticsRecord statisticsRecord = readRecord(day);
+                List<String> popularGenotypes = statisticsRecord.popularGenotypes().stream()
+                        .map(genotypeCount -> genotypeCount.genotype() + ":" + genotypeCount.count())
+                        .toList();
+
+                writer.write(String.format(Locale.ROOT, "%d,%d,%d,%d,%d,%.2f,%.2f,%.2f,%s",
+                        statisticsRecord.day(),
+                        statisticsRecord.animalsCount(),
+                        statisticsRecord.plantsCount(),
+                        statisticsRecord.emptyFieldsCount(),
+                        statisticsRecord.genotypesCount(),
+                        statisticsRecord.averageEnergy(),
+                        statisticsRecord.averageLifeLength(),
+                        statisticsRecord.averageChildrenCount(),
+                        String.join(";", popularGenotypes)
+                ));
+                writer.newLine();
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void readChunks() throws IOException {
+        int offset = StatisticsFileWriter.HEADER_SIZE;
+
+        while (offset + StatisticsFileWriter.CHUNK_HEADER_SIZE <= buffer.limit()) {
+            byte chunkType = buffer.get(offset);
+            int chunkSize = buffer.getInt(offset + Byte.BYTES);
+            int chunkStart = offset + StatisticsFileWriter.CHUNK_HEADER_SIZE;
+            if (chunkSize < 0 || chunkStart + chunkSize > buffer.limit()) {
+                break;
+            }
+
+            switch (chunkType) {
+                case StatisticsFileWriter.DICTIONARY_CHUNK -> readDictionary(chunkStart);
+                case StatisticsFileWriter.ROWS_CHUNK -> addBlock(chunkStart);
+                default -> throw new IOException("Unknown chunk type %d at offset %d".formatted(chunkType, offset));
+            }
+            offset = chunkStart + chunkSize;
+        }
+    }
+
+    private void readDictionary(int offset) {
+        int numberOfGenotypes = buffer.getInt(offset);
+        offset += Integer.BYTES;
+
+        for (int i = 0; i < numberOfGenotypes; i++) {
+            long genotypeId = buffer.getLong(offset);
+            int length = buffer.getInt(offset + Long.BYTES);
+            byte[] encodedGenotype = new byte[length];
+            buffer.get(offset + Long.BYTES + Integer.BYTES, encodedGenotype);
+            genotypesDictionary.add(new GenotypeCount(genotypeId, new String(encodedGenotype, StandardCharsets.US_ASCII), 0));
+            offset += Long.BYTES + Integer.BYTES + length;
+        }
+    }
+
+    private void addBlock(int offset) throws IOException {
+        int firstDayOfBlock = buffer.getInt(offset);
+        int numberOfRows = buffer.getInt(offset + Integer.BYTES);
+
+        if (blocksOffsets.isEmpty()) {
+            firstDay = firstDayOfBlock;
+        } else if (firstDayOfBlock != firstDay + numberOfDays || numberOfDays % rowsPerBlock != 0) {
+            throw new IOException("Block starting at day %d does not follow the previous one".formatted(firstDayOfBlock));
+        }
+
+        blocksOffsets.add(offset);
+        numberOfDays += numberOfRows;
+    }
+
+    private List<GenotypeCount> readPopularGenotypes(int blockOffset, int row) {
+        int numberOfRows = buffer.getInt(blockOffset + Integer.BYTES);
+        int genotypesOffset = getColumnOffset(blockOffset, StatisticsColumn.values().length);
+        List<GenotypeCount> popularGenotypes = new ArrayList<>(popularGenotypesLimit);
+
+        for (int i = 0; i < popularGenotypesLimit; i++) {
+            int indexesOffset = genotypesOffset + 2 * i * numberOfRows * Integer.BYTES;
+            int genotypeIndex = buffer.getInt(indexesOffset + row * Integer.BYTES);
+            if (genotypeIndex == StatisticsFileWriter.NO_GENOTYPE) {
+                break;
+            }
+
+            GenotypeCount genotype = genotypesDictionary.get(genotypeIndex);
+            int count = buffer.getInt(indexesOffset + (numberOfRows + row) * Integer.BYTES);
+            popularGenotypes.add(new GenotypeCount(genotype.genotypeId(), genotype.genotype(), count));
+        }
+        return popularGenotypes;
+    }
+
+    private int getInt(int blockOffset, StatisticsColumn column, int row) {
+        return buffer.getInt(getColumnOffset(blockOffset, column.ordinal()) + row * Integer.BYTES);
+    }
+
+    private double getDouble(int blockOffset, StatisticsColumn column, int row) {
+        return buffer.getDouble(getColumnOffset(blockOffset, column.ordinal()) + row * Double.BYTES);
+    }
+
+    private int getColumnOffset(int blockOffset, int columnIndex) {
+        int numberOfRows = buffer.getInt(blockOffset + Integer.BYTES);
+        int columnOffset = blockOffset + 2 * Integer.BYTES;
+
+        StatisticsColumn[] columns = StatisticsColumn.values();
+        for (int i = 0; i < columnIndex; i++) {
+            columnOffset += numberOfRows * columns[i].getWidth();
+        }
+        return columnOffset;
+    }
+
+    private int checkRange(int fromDay, int toDay) {
+        if (fromDay > toDay || fromDay < firstDay || toDay > getLastDay()) {
+            throw new IndexOutOfBoundsException("Days %d..%d are outside of the saved days %d..%d".formatted(fromDay, toDay, firstDay, getLastDay()));
+        }
+        return toDay - fromDay + 1;
+    }
+
+    private void forEachBlockPart(int fromDay, int toDay, BlockPartReader blockPartReader) {
+        int valuesOffset = 0;
+        for (int row = fromDay - firstDay; row <= toDay - firstDay; ) {
+            int block = row / rowsPerBlock;
+            int firstRow = row % rowsPerBlock;
+            int numberOfRows = Math.min(rowsPerBlock - firstRow, toDay - firstDay - row + 1);
+
+            blockPartReader.read(blocksOffsets.get(block), firstRow, numberOfRows, valuesOffset);
+            valuesOffset += numberOfRows;
+            row += numberOfRows;
+        }
+    }
+
+    @FunctionalInterface
+    private interface BlockPartReader {
+        void read(int blockOffset, int firstRow, int numberOfRows, int valuesOffset);
+    }
+}
@@ -0,0 +1,229 @@
+package project.statistics;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class StatisticsFileWriter implements AutoCloseable {
+    static final int MAGIC = 0x44575354;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 4 * Integer.BYTES;
+    static final int CHUNK_HEADER_SIZE = Byte.BYTES + Integer.BYTES;
+    static final byte DICTIONARY_CHUNK = 1;
+    static final byte ROWS_CHUNK = 2;
+    static final int ROWS_PER_BLOCK = 4096;
+    static final int NO_GENOTYPE = -1;
+
+    private static final StatisticsColumn[] COLUMNS = StatisticsColumn.values();
+
+    private final FileChannel channel;
+    private final int popularGenotypesLimit;
+
+    private final int[][] intColumns = new int[COLUMNS.length][];
+    private final double[][] doubleColumns = new double[COLUMNS.length][];
+    private final int[][] genotypesIndexes;
+    private final int[][] genotypesCounts;
+    private int numberOfRows = 0;
+    private int firstDayOfBlock;
+    private Integer lastDay;
+
+    private final Map<String, Integer> genotypesDictionary = new HashMap<>();
+    private final List<GenotypeCount> newGenotypes = new ArrayList<>();
+
+    public StatisticsFileWriter(Path filePath) throws IOException {
+        this(filePath, SimulationStatistics.NUMBER_OF_POPULAR_GENOTYPES);
+    }
+
+    StatisticsFileWriter(Path filePath, int popularGenotypesLimit) throws IOException {
+        Path parent = filePath.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        this.popularGenotypesLimit = popularGenotypesLimit;
+        for (StatisticsColumn column : COLUMNS) {
+            if (column.isInteger()) {
+                intColumns[column.ordinal()] = new int[ROWS_PER_BLOCK];
+            } else {
+                doubleColumns[column.ordinal()] = new double[ROWS_PER_BLOCK];
+            }
+        }
+        genotypesIndexes = new int[popularGenotypesLimit][ROWS_PER_BLOCK];
+        genotypesCounts = new int[popularGenotypesLimit][ROWS_PER_BLOCK];
+
+        channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        ByteBuffer header = createBuffer(HEADER_SIZE)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(ROWS_PER_BLOCK)
+                .putInt(popularGenotypesLimit);
+        writeFully(header);
+    }
+
+    // Days saved after nextDay are dropped, the resumed run writes them again.
+    public static StatisticsFileWriter continueFrom(Path filePath, int nextDay) throws IOException {
+        if (!Files.exists(filePath)) {
+            return new StatisticsFileWriter(filePath);
+        }
+
+        Path previousFilePath = filePath.resolveSibling(filePath.getFileName() + ".previous");
+        Files.move(filePath, previousFilePath, StandardCopyOption.REPLACE_EXISTING);
+
+        StatisticsFileWriter writer = new StatisticsFileWriter(filePath);
+        try (StatisticsFileReader reader = new StatisticsFileReader(previousFilePath)) {
+            if (reader.getNumberOfDays() > 0) {
+                if (reader.getLastDay() + 1 < nextDay) {
+                    throw new IllegalArgumentException("Statistics file %s ends at day %d and cannot be continued from day %d".formatted(filePath, reader.getLastDay(), nextDay));
+                }
+                for (int day = reader.getFirstDay(); day < nextDay; day++) {
+                    writer.write(reader.readRecord(day));
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            writer.close();
+            Files.move(previousFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+            throw e;
+        }
+        Files.delete(previousFilePath);
+        return writer;
+    }
+
+    public void write(StatisticsRecord statisticsRecord) throws IOException {
+        if (lastDay != null && statisticsRecord.day() != lastDay + 1) {
+            throw new IllegalArgumentException("Statistics must be written for consecutive days, expected day %d but got %d".formatted(lastDay + 1, statisticsRecord.day()));
+        }
+        lastDay = statisticsRecord.day();
+
+        if (numberOfRows == 0) {
+            firstDayOfBlock = statisticsRecord.day();
+        }
+
+        int row = numberOfRows++;
+        intColumns[StatisticsColumn.DAY.ordinal()][row] = statisticsRecord.day();
+        intColumns[StatisticsColumn.ANIMALS_COUNT.ordinal()][row] = statisticsRecord.animalsCount();
+        intColumns[StatisticsColumn.PLANTS_COUNT.ordinal()][row] = statisticsRecord.plantsCount();
+        intColumns[StatisticsColumn.EMPTY_FIELDS_COUNT.ordinal()][row] = statisticsRecord.emptyFieldsCount();
+        intColumns[StatisticsColumn.GENOTYPES_COUNT.ordinal()][row] = statisticsRecord.genotypesCount();
+        doubleColumns[StatisticsColumn.AVERAGE_ENERGY.ordinal()][row] = statisticsRecord.averageEnergy();
+        doubleColumns[StatisticsColumn.AVERAGE_LIFE_LENGTH.ordinal()][row] = statisticsRecord.averageLifeLength();
+        doubleColumns[StatisticsColumn.AVERAGE_CHILDREN_COUNT.ordinal()][row] = statisticsRecord.averageChildrenCount();
+
+        List<GenotypeCount> popularGenotypes = statisticsRecord.popularGenotypes();
+        for (int i = 0; i < popularGenotypesLimit; i++) {
+            if (i < popularGenotypes.size()) {
+                genotypesIndexes[i][row] = getGenotypeIndex(popularGenotypes.get(i));
+                genotypesCounts[i][row] = popularGenotypes.get(i).count();
+            } else {
+                genotypesIndexes[i][row] = NO_GENOTYPE;
+                genotypesCounts[i][row] = 0;
+            }
+        }
+
+        if (numberOfRows == ROWS_PER_BLOCK) {
+            writeBlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (channel) {
+            writeBlock();
+        }
+    }
+
+    private int getGenotypeIndex(GenotypeCount genotypeCount) {
+        Integer index = genotypesDictionary.get(genotypeCount.genotype());
+        if (index == null) {
+            index = genotypesDictionary.size();
+            genotypesDictionary.put(genotypeCount.genotype(), index);
+            newGenotypes.add(genotypeCount);
+        }
+        return index;
+    }
+
+    private void writeBlock() throws IOException {
+        if (!newGenotypes.isEmpty()) {
+            writeDictionaryChunk();
+        }
+        if (numberOfRows == 0) {
+            return;
+        }
+
+        int rowsSize = 2 * Integer.BYTES + numberOfRows * getRowWidth(popularGenotypesLimit);
+        ByteBuffer chunk = createBuffer(CHUNK_HEADER_SIZE + rowsSize)
+                .put(ROWS_CHUNK)
+                .putInt(rowsSize)
+                .putInt(firstDayOfBlock)
+                .putInt(numberOfRows);
+
+        for (StatisticsColumn column : COLUMNS) {
+            if (column.isInteger()) {
+                chunk.asIntBuffer().put(intColumns[column.ordinal()], 0, numberOfRows);
+            } else {
+                chunk.asDoubleBuffer().put(doubleColumns[column.ordinal()], 0, numberOfRows);
+            }
+            chunk.position(chunk.position() + numberOfRows * column.getWidth());
+        }
+        for (int i = 0; i < popularGenotypesLimit; i++) {
+            chunk.asIntBuffer().put(genotypesIndexes[i], 0, numberOfRows);
+            chunk.position(chunk.position() + numberOfRows * Integer.BYTES);
+            chunk.asIntBuffer().put(genotypesCounts[i], 0, numberOfRows);
+            chunk.position(chunk.position() + numberOfRows * Integer.BYTES);
+        }
+
+        writeFully(chunk);
+        numberOfRows = 0;
+    }
+
+    private void writeDictionaryChunk() throws IOException {
+        List<byte[]> encodedGenotypes = new ArrayList<>(newGenotypes.size());
+        int dictionarySize = Integer.BYTES;
+        for (GenotypeCount genotypeCount : newGenotypes) {
+            byte[] encodedGenotype = genotypeCount.genotype().getBytes(StandardCharsets.US_ASCII);
+            encodedGenotypes.add(encodedGenotype);
+            dictionarySize += Long.BYTES + Integer.BYTES + encodedGenotype.length;
+        }
+
+        ByteBuffer chunk = createBuffer(CHUNK_HEADER_SIZE + dictionarySize)
+                .put(DICTIONARY_CHUNK)
+                .putInt(dictionarySize)
+                .putInt(newGenotypes.size());
+        for (int i = 0; i < newGenotypes.size(); i++) {
+            chunk.putLong(newGenotypes.get(i).genotypeId())
+                    .putInt(encodedGenotypes.get(i).length)
+                    .put(encodedGenotypes.get(i));
+        }
+
+        writeFully(chunk);
+        newGenotypes.clear();
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    static int getRowWidth(int popularGenotypesLimit) {
+        int rowWidth = 2 * Integer.BYTES * popularGenotypesLimit;
+        for (StatisticsColumn column : COLUMNS) {
+            rowWidth += column.getWidth();
+        }
+        return rowWidth;
+    }
+
+    static ByteBuffer createBuffer(int capacity) {
+        return ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+    }
+}
@@ -1,15 +1,36 @@
 package project.statistics;
 
-import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
 
 public record StatisticsRecord(
         int day,
         int animalsCount,
         int plantsCount,
         int emptyFieldsCount,
-        HashMap<String, Integer> genotypesCount,
+        int genotypesCount,
+        List<GenotypeCount> popularGenotypes,
         double averageEnergy,
         double averageLifeLength,
         double averageChildrenCount
 ) {
+    public StatisticsRecord {
+        popularGenotypes = List.copyOf(popularGenotypes);
+    }
+
+    public Optional<GenotypeCount> mostPopularGenotype() {
+        return popularGenotypes.stream().findFirst();
+    }
+
+    public List<GenotypeCount> topGenotypes(int limit) {
+        int maxCount = mostPopularGenotype().map(GenotypeCount::count).orElse(0);
+        if (maxCount <= 1) {
+            return List.of();
+        }
+
+        return popularGenotypes.stream()
+                .filter(genotypeCount -> genotypeCount.count() == maxCount)
+                .limit(limit)
+                .toList();
+    }
 }
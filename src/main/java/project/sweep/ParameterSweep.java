@@ -0,0 +1,63 @@
+package project.sweep;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ParameterSweep {
+    private static final String COMMENT_PREFIX = "#";
+    private static final String VALUES_SEPARATOR = "\\|";
+
+    private final List<String> runsCsvLines;
+
+    public ParameterSweep(List<String> runsCsvLines) {
+        if (runsCsvLines.isEmpty()) {
+            throw new IllegalArgumentException("Parameter sweep must contain at least one run");
+        }
+        this.runsCsvLines = List.copyOf(runsCsvLines);
+    }
+
+    public static ParameterSweep fromFile(Path path) throws IOException {
+        List<String> runsCsvLines = new ArrayList<>();
+
+        for (String line : Files.readAllLines(path)) {
+            String trimmedLine = line.strip();
+            if (trimmedLine.isEmpty() || trimmedLine.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            runsCsvLines.addAll(expandGrid(trimmedLine));
+        }
+
+        return new ParameterSweep(runsCsvLines);
+    }
+
+    public static List<String> expandGrid(String gridLine) {
+        List<String> csvLines = new ArrayList<>(List.of(""));
+
+        String[] fields = gridLine.split(",", -1);
+        for (int i = 0; i < fields.length; i++) {
+            String separator = (i == 0) ? "" : ",";
+            List<String> expandedLines = new ArrayList<>();
+
+            for (String csvLine : csvLines) {
+                for (String value : fields[i].split(VALUES_SEPARATOR, -1)) {
+                    expandedLines.add(csvLine + separator + value.strip());
+                }
+            }
+            csvLines = expandedLines;
+        }
+
+        return csvLines;
+    }
+
+    public List<String> getRunsCsvLines() {
+        return runsCsvLines;
+    }
+
+    public int getNumberOfRuns() {
+        return runsCsvLines.size();
+    }
+}
@@ -0,0 +1,5 @@
+package project.sweep;
+
+public interface SweepProgressListener {
+    void runFinished(SweepRunResult runResult, int numberOfFinishedRuns, int numberOfRuns);
+}
@@ -0,0 +1,83 @@
+package project.sweep;
+
+import project.statistics.GenotypeCount;
+import project.statistics.StatisticsRecord;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+class SweepResultsWriter implements AutoCloseable {
+    private static final String STATISTICS_HEADER = "run,day,animals_count,grass_count,empty_fields_count,average_energy,average_lifetime,average_kids_number,most_popular_genotype";
+    private static final String RUNS_HEADER = "run,status,seed,simulated_days,elapsed_seconds,error,parameters";
+
+    private final BufferedWriter statisticsWriter;
+    private final Path runsFilePath;
+
+    SweepResultsWriter(Path statisticsFilePath) throws IOException {
+        Path parent = statisticsFilePath.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        statisticsWriter = Files.newBufferedWriter(statisticsFilePath);
+        statisticsWriter.write(STATISTICS_HEADER);
+        statisticsWriter.newLine();
+        runsFilePath = getRunsFilePath(statisticsFilePath);
+    }
+
+    static Path getRunsFilePath(Path statisticsFilePath) {
+        String fileName = statisticsFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = (extensionIndex > 0) ? fileName.substring(0, extensionIndex) : fileName;
+
+        return statisticsFilePath.resolveSibling(baseName + "-runs.csv");
+    }
+
+    Path getRunsFilePath() {
+        return runsFilePath;
+    }
+
+    synchronized void writeStatistics(int runId, StatisticsRecord statisticsRecord) throws IOException {
+        statisticsWriter.write(String.format(Locale.ROOT, "%d,%d,%d,%d,%d,%.2f,%.2f,%.2f,%s",
+                runId,
+                statisticsRecord.day(),
+                statisticsRecord.animalsCount(),
+                statisticsRecord.plantsCount(),
+                statisticsRecord.emptyFieldsCount(),
+                statisticsRecord.averageEnergy(),
+                statisticsRecord.averageLifeLength(),
+                statisticsRecord.averageChildrenCount(),
+                statisticsRecord.mostPopularGenotype().map(GenotypeCount::genotype).orElse("")
+        ));
+        statisticsWriter.newLine();
+    }
+
+    void writeRuns(List<SweepRunResult> runResults) throws IOException {
+        try (BufferedWriter runsWriter = Files.newBufferedWriter(runsFilePath)) {
+            runsWriter.write(RUNS_HEADER);
+            runsWriter.newLine();
+
+            for (SweepRunResult runResult : runResults) {
+                runsWriter.write(String.format(Locale.ROOT, "%d,%s,%s,%d,%.3f,%s,\"%s\"",
+                        runResult.runId(),
+                        runResult.failed() ? "FAILED" : "OK",
+                        (runResult.seed() != null) ? runResult.seed() : "",
+                        runResult.simulatedDays(),
+                        runResult.elapsedSeconds(),
+                        runResult.failed() ? runResult.error().replace(',', ';').replace('\n', ' ') : "",
+                        runResult.parameters()
+                ));
+                runsWriter.newLine();
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        statisticsWriter.close();
+    }
+}
@@ -0,0 +1,14 @@
+package project.sweep;
+
+public record SweepRunResult(
+        int runId,
+        String parameters,
+        Long seed,
+        int simulatedDays,
+        double elapsedSeconds,
+        String error
+) {
+    public boolean failed() {
+        return error != null;
+    }
+}
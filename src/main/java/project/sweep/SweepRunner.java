@@ -0,0 +1,96 @@
+package project.sweep;
+
+import project.Simulation;
+import project.SimulationParameters;
+import project.presenter.SimulationPresets;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class SweepRunner {
+    private final int numberOfThreads;
+
+    public SweepRunner() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public SweepRunner(int numberOfThreads) {
+        if (numberOfThreads <= 0) {
+            throw new IllegalArgumentException("Number of threads must be greater than 0");
+        }
+        this.numberOfThreads = numberOfThreads;
+    }
+
+    public int getNumberOfThreads() {
+        return numberOfThreads;
+    }
+
+    public List<SweepRunResult> run(ParameterSweep parameterSweep, int numberOfDays, Path resultsFilePath, SweepProgressListener progressListener) throws IOException, InterruptedException {
+        if (numberOfDays <= 0) {
+            throw new IllegalArgumentException("Number of days must be greater than 0");
+        }
+
+        List<String> runsCsvLines = parameterSweep.getRunsCsvLines();
+        List<SweepRunResult> runResults = new ArrayList<>();
+
+        try (SweepResultsWriter resultsWriter = new SweepResultsWriter(resultsFilePath);
+             ExecutorService executor = Executors.newFixedThreadPool(Math.min(numberOfThreads, runsCsvLines.size()))) {
+            CompletionService<SweepRunResult> completionService = new ExecutorCompletionService<>(executor);
+
+            for (int runId = 0; runId < runsCsvLines.size(); runId++) {
+                int currentRunId = runId;
+                completionService.submit(() -> simulateRun(currentRunId, runsCsvLines.get(currentRunId), numberOfDays, resultsWriter));
+            }
+
+            for (int finishedRuns = 1; finishedRuns <= runsCsvLines.size(); finishedRuns++) {
+                SweepRunResult runResult = completionService.take().get();
+                runResults.add(runResult);
+                progressListener.runFinished(runResult, finishedRuns, runsCsvLines.size());
+            }
+
+            runResults.sort(Comparator.comparingInt(SweepRunResult::runId));
+            resultsWriter.writeRuns(runResults);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Sweep run ended without a result", e.getCause());
+        }
+
+        return runResults;
+    }
+
+    private static SweepRunResult simulateRun(int runId, String csvLine, int numberOfDays, SweepResultsWriter resultsWriter) {
+        String parameters = csvLine;
+        Long seed = null;
+        int simulatedDays = 0;
+        long startTime = System.nanoTime();
+
+        try {
+            SimulationParameters simulationParameters = SimulationPresets.parseParameters(csvLine);
+            parameters = SimulationPresets.toCsvLine(simulationParameters);
+
+            Simulation simulation = new Simulation(simulationParameters);
+            seed = simulation.getSeed();
+
+            for (; simulatedDays < numberOfDays; simulatedDays++) {
+                simulation.simulateDay();
+                resultsWriter.writeStatistics(runId, simulation.getStatistics().getStatisticsRecord());
+            }
+
+            return new SweepRunResult(runId, parameters, seed, simulatedDays, elapsedSeconds(startTime), null);
+        } catch (Throwable e) {
+            String error = (e.getMessage() != null) ? e.getMessage() : e.getClass().getSimpleName();
+            return new SweepRunResult(runId, parameters, seed, simulatedDays, elapsedSeconds(startTime), error);
+        }
+    }
+
+    private static double elapsedSeconds(long startTime) {
+        return (System.nanoTime() - startTime) / 1_000_000_000.0;
+    }
+}
@@ -1,16 +1,33 @@
 package project;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 import project.model.Vector2d;
 import project.model.worldElements.Animal;
 import project.model.worldElements.RandomMutationStrategyVariant;
+import project.model.worldElements.WorldElement;
+import project.model.maps.MapStorageVariant;
+import project.model.maps.WorldMap;
+import project.presenter.ExecutionVariant;
 import project.presenter.GrowthGrassVariant;
 import project.presenter.MutationVariant;
+import project.statistics.GenotypeCount;
+import project.statistics.StatisticsRecord;
 
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 class SimulationTest {
 
@@ -55,6 +72,171 @@ class SimulationTest {
         assertEquals(expectedEnergy, simulation.getInitialAnimalsEnergy());
     }
 
+    @Test
+    void shouldSimulateDaysWithoutListeners() throws Exception {
+        // given
+        Simulation simulation = new Simulation(createDefaultParameters());
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            simulation.simulateDay();
+        }
+
+        // then
+        assertEquals(6, simulation.getCurrentDay());
+        assertEquals(5, simulation.getStatistics().getStatisticsRecord().day());
+    }
+
+    @Test
+    void shouldKeepMapConsistentInParallelExecution() throws Exception {
+        // given
+        Simulation simulation = new Simulation(createParallelParameters());
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            simulation.simulateDay();
+        }
+
+        // then
+        int numberOfAnimalsInCells = 0;
+        for (Vector2d position : simulation.getWorldMap().getAllAnimalsPositions()) {
+            for (Animal animal : simulation.getWorldMap().animalsAt(position).orElseThrow()) {
+                assertEquals(position, animal.getPosition());
+                numberOfAnimalsInCells++;
+            }
+        }
+        assertEquals(simulation.getWorldMap().getOrderedAnimals().size(), numberOfAnimalsInCells);
+        assertTrue(numberOfAnimalsInCells > 0);
+    }
+
+    @Test
+    void shouldRemoveEatenGrassInParallelExecution() throws Exception {
+        // given
+        Simulation simulation = new Simulation(createParallelParameters());
+        WorldMap worldMap = simulation.getWorldMap();
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            simulation.simulateDay();
+        }
+
+        // then
+        int numberOfFreeGrassPositions = worldMap.getFreeGrassPreferredPositions().size() + worldMap.getFreeGrassNotPreferredPositions().size();
+        assertEquals(worldMap.getMapHeight() * worldMap.getMapWidth(), worldMap.getNumberOfGrass() + numberOfFreeGrassPositions);
+        for (Vector2d position : worldMap.getFreeGrassPreferredPositions()) {
+            assertFalse(worldMap.isGrassAt(position));
+        }
+    }
+
+    @Test
+    void shouldRunSubmittedTasksWhilePaused() throws Exception {
+        // given
+        Simulation simulation = new Simulation(createDefaultParameters());
+        simulation.setCoolDown(0);
+        simulation.pause();
+        CountDownLatch taskExecuted = new CountDownLatch(1);
+        Thread simulationThread = new Thread(simulation);
+        simulationThread.start();
+
+        // when
+        simulation.execute(taskExecuted::countDown);
+
+        // then
+        assertTrue(taskExecuted.await(5, TimeUnit.SECONDS));
+        assertEquals(1, simulation.getCurrentDay());
+
+        simulation.stopSimulation();
+        simulationThread.join(5000);
+        assertFalse(simulationThread.isAlive());
+    }
+
+    @Test
+    void shouldRunDayEndTasksAfterTheStoppedDayIsFinished() throws Exception {
+        // given
+        Simulation simulation = new Simulation(createDefaultParameters());
+        simulation.setCoolDown(0);
+        simulation.pause();
+        CountDownLatch paused = new CountDownLatch(1);
+        AtomicInteger dayOfTask = new AtomicInteger();
+        Thread simulationThread = new Thread(simulation);
+        simulationThread.start();
+        simulation.execute(paused::countDown);
+        assertTrue(paused.await(5, TimeUnit.SECONDS));
+
+        // when
+        simulation.executeAtDayEnd(() -> dayOfTask.set(simulation.getCurrentDay()));
+        simulation.stopSimulation();
+        simulationThread.join(5000);
+
+        // then
+        assertFalse(simulationThread.isAlive());
+        assertEquals(2, dayOfTask.get());
+        assertEquals(2, simulation.getCurrentDay());
+    }
+
+    @Test
+    void shouldReproduceRunsWithTheSameSeed() throws Exception {
+        // given
+        Simulation sequentialSimulation = new Simulation(createSeededParameters(ExecutionVariant.SEQUENTIAL));
+        Simulation otherSequentialSimulation = new Simulation(createSeededParameters(ExecutionVariant.SEQUENTIAL));
+        Simulation parallelSimulation = new Simulation(createSeededParameters(ExecutionVariant.PARALLEL));
+
+        // when
+        for (int i = 0; i < 30; i++) {
+            sequentialSimulation.simulateDay();
+            otherSequentialSimulation.simulateDay();
+            parallelSimulation.simulateDay();
+        }
+
+        // then
+        assertEquals(describeAnimals(sequentialSimulation), describeAnimals(otherSequentialSimulation));
+        assertEquals(describeAnimals(sequentialSimulation), describeAnimals(parallelSimulation));
+        assertEquals(sequentialSimulation.getStatistics().getStatisticsRecord(), parallelSimulation.getStatistics().getStatisticsRecord());
+        assertEquals(sequentialSimulation.getWorldMap().getFreeGrassPreferredPositions(), parallelSimulation.getWorldMap().getFreeGrassPreferredPositions());
+    }
+
+    @Test
+    void shouldKeepIncrementalStatisticsInLineWithMapContents() throws Exception {
+        // given
+        List<Simulation> simulations = List.of(
+                new Simulation(createDefaultParameters()),
+                new Simulation(createParallelParameters()),
+                new Simulation(createSeededParameters(ExecutionVariant.PARALLEL))
+        );
+
+        for (Simulation simulation : simulations) {
+            // when
+            for (int i = 0; i < 25; i++) {
+                simulation.simulateDay();
+            }
+
+            // then
+            WorldMap worldMap = simulation.getWorldMap();
+            StatisticsRecord statisticsRecord = simulation.getStatistics().getStatisticsRecord();
+            Collection<Animal> animals = worldMap.getOrderedAnimals();
+            Set<Vector2d> occupiedPositions = new HashSet<>();
+            Map<String, Integer> genotypesCount = new HashMap<>();
+            for (WorldElement element : worldMap.getElements()) {
+                occupiedPositions.add(element.getPosition());
+            }
+            for (Animal animal : animals) {
+                genotypesCount.merge(animal.getAnimalGenesString(), 1, Integer::sum);
+            }
+
+            assertEquals(animals.size(), statisticsRecord.animalsCount());
+            assertEquals(worldMap.getNumberOfGrass(), statisticsRecord.plantsCount());
+            assertEquals(worldMap.getMapHeight() * worldMap.getMapWidth() - occupiedPositions.size(), statisticsRecord.emptyFieldsCount());
+            assertEquals(genotypesCount.size(), statisticsRecord.genotypesCount());
+            assertEquals(Math.min(5, genotypesCount.size()), statisticsRecord.popularGenotypes().size());
+            for (GenotypeCount genotypeCount : statisticsRecord.popularGenotypes()) {
+                assertEquals(genotypesCount.get(genotypeCount.genotype()), genotypeCount.count());
+            }
+            assertEquals(genotypesCount.values().stream().max(Integer::compare).orElseThrow(), statisticsRecord.mostPopularGenotype().orElseThrow().count());
+            assertEquals(animals.stream().mapToInt(Animal::getCurrentEnergy).average().orElse(0.0), statisticsRecord.averageEnergy(), 1e-9);
+            assertEquals(animals.stream().mapToInt(Animal::getNumberOfKids).average().orElse(0.0), statisticsRecord.averageChildrenCount(), 1e-9);
+        }
+    }
+
     @Test
     public void checkSimulationConstruction() {
         //given
@@ -78,11 +260,68 @@ class SimulationTest {
         assertThrows(IllegalArgumentException.class, () -> new SimulationParameters(parameter0, parameter0, growthGrassVariant, parameter1, parameter1, parameter1, parameter1, parameter1, parameter0, parameter1, parameter1, parameter2, mutationVariant, parameter1, collectStatistics));
         assertThrows(IllegalArgumentException.class, () -> new SimulationParameters(parameter2, parameter0, growthGrassVariant, parameter1, parameter1, parameter1, parameter1, parameter1, parameter0, parameter1, parameter2, parameter1, mutationVariant, parameter1, collectStatistics));
     }
+    @Test
+    void shouldContinueRestoredCheckpointLikeTheOriginalRun(@TempDir Path directory) throws Exception {
+        // given
+        List<SimulationParameters> parameters = List.of(
+                createSeededParameters(ExecutionVariant.SEQUENTIAL),
+                new SimulationParameters(50, 50, GrowthGrassVariant.EQUATOR_MAP, 500, 10, 100, 1000, 100, 50, 30, 1, 3, MutationVariant.RANDOM, 8, true, MapStorageVariant.HASH_MAP, ExecutionVariant.SEQUENTIAL, 0, 42L),
+                new SimulationParameters(300, 300, GrowthGrassVariant.MOVING_JUNGLE_MAP, 5000, 10, 500, 3000, 100, 50, 30, 1, 3, MutationVariant.RANDOM, 8, true, MapStorageVariant.CHUNKED, ExecutionVariant.PARALLEL, 0, 7L)
+        );
+
+        for (SimulationParameters simulationParameters : parameters) {
+            Simulation simulation = new Simulation(simulationParameters);
+            for (int i = 0; i < 20; i++) {
+                simulation.simulateDay();
+            }
+            Path checkpointPath = directory.resolve(simulationParameters.mapStorageVariant() + ".checkpoint");
+            simulation.saveCheckpoint(checkpointPath, simulationParameters.seed() % 2 == 0);
+
+            // when
+            Simulation restoredSimulation = Simulation.fromCheckpoint(checkpointPath);
+            assertEquals(simulation.getStatistics().getStatisticsRecord(), restoredSimulation.getStatistics().getStatisticsRecord());
+            for (int i = 0; i < 20; i++) {
+                simulation.simulateDay();
+                restoredSimulation.simulateDay();
+            }
+
+            // then
+            assertEquals(simulation.getCurrentDay(), restoredSimulation.getCurrentDay());
+            assertEquals(describeAnimals(simulation), describeAnimals(restoredSimulation));
+            assertEquals(simulation.getStatistics().getStatisticsRecord(), restoredSimulation.getStatistics().getStatisticsRecord());
+            assertEquals(simulation.getWorldMap().getFreeGrassPreferredPositions(), restoredSimulation.getWorldMap().getFreeGrassPreferredPositions());
+            assertEquals(simulation.getWorldMap().getFreeGrassNotPreferredPositions(), restoredSimulation.getWorldMap().getFreeGrassNotPreferredPositions());
+        }
+    }
+
 
     private SimulationParameters createDefaultParameters() {
         return new SimulationParameters(20, 20, GrowthGrassVariant.EQUATOR_MAP, 10, 10, 2, 10, 100, 50, 30, 1, 3, MutationVariant.RANDOM, 8, true);
     }
 
+    private SimulationParameters createParallelParameters() {
+        return new SimulationParameters(50, 50, GrowthGrassVariant.EQUATOR_MAP, 500, 10, 100, 1000, 100, 50, 30, 1, 3, MutationVariant.RANDOM, 8, true, MapStorageVariant.ARRAY_GRID, ExecutionVariant.PARALLEL, 0, null);
+    }
+
+    private SimulationParameters createSeededParameters(ExecutionVariant executionVariant) {
+        return new SimulationParameters(50, 50, GrowthGrassVariant.MOVING_JUNGLE_MAP, 500, 10, 100, 1000, 100, 50, 30, 1, 3, MutationVariant.INCREMENT_DECREMENT, 8, true, MapStorageVariant.ARRAY_GRID, executionVariant, 0, 1234L);
+    }
+
+    private List<String> describeAnimals(Simulation simulation) {
+        return simulation.getWorldMap().getOrderedAnimals().stream()
+                .sorted(Comparator.comparingLong(Animal::getId))
+                .map(animal -> "%d %s %d %s %s %d %d".formatted(
+                        animal.getId(),
+                        animal.getPosition(),
+                        animal.getCurrentEnergy(),
+                        animal.getCurrentOrientation(),
+                        animal.getAnimalGenesString(),
+                        animal.getLengthOfLife(),
+                        animal.getNumberOfKids()
+                ))
+                .toList();
+    }
+
     private SimulationParameters createParametersWithAnimals(int numberOfAnimals) {
         return new SimulationParameters(20, 20, GrowthGrassVariant.EQUATOR_MAP, 10, 10, 2, numberOfAnimals, 100, 50, 30, 1, 3, MutationVariant.RANDOM, 8, true);
     }
@@ -0,0 +1,17 @@
+package project;
+
+import project.model.maps.MapStorageVariant;
+import project.presenter.ExecutionVariant;
+import project.presenter.GrowthGrassVariant;
+import project.presenter.MutationVariant;
+
+public final class TestSimulationParameters {
+
+    private TestSimulationParameters() {
+    }
+
+    // 30x20 map with 10 animals, small enough to check cell by cell and busy enough to change in every phase
+    public static SimulationParameters smallMap(GrowthGrassVariant growthGrassVariant, MapStorageVariant mapStorageVariant, long seed) {
+        return new SimulationParameters(20, 30, growthGrassVariant, 50, 10, 10, 100, 100, 50, 30, 1, 3, MutationVariant.RANDOM, 8, false, mapStorageVariant, ExecutionVariant.SEQUENTIAL, 0, seed);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,164 @@
+package project.listener;
+
+import org.junit.jupiter.api.Test;
+import project.Simulation;
+import project.TestSimulationParameters;
+import project.model.Vector2d;
+import project.model.maps.MapStorageVariant;
+import project.model.maps.WorldMap;
+import project.model.worldElements.Animal;
+import project.presenter.GrowthGrassVariant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrameSnapshotPublisherTest {
+
+    private Simulation createSimulation() {
+        return new Simulation(TestSimulationParameters.smallMap(GrowthGrassVariant.EQUATOR_MAP, MapStorageVariant.ARRAY_GRID, 99L));
+    }
+
+    private void publish(Simulation simulation, FrameSnapshotPublisher publisher, SimulationEventType eventType) {
+        publisher.handleChangeEvent(simulation.getWorldMap(), eventType, simulation.getStatistics().getStatisticsRecord());
+    }
+
+    @Test
+    void frameReflectsWorldMapAtTheTimeOfTheEvent() throws Exception {
+        // Given
+        Simulation simulation = createSimulation();
+        FrameSnapshotPublisher publisher = new FrameSnapshotPublisher(simulation);
+        simulation.simulateDay();
+
+        // When
+        publish(simulation, publisher, SimulationEventType.DAY_ENDED);
+        FrameSnapshot frame = publisher.getLatestFrame();
+
+        // Then
+        WorldMap worldMap = simulation.getWorldMap();
+        assertEquals(30, frame.getMapWidth());
+        assertEquals(20, frame.getMapHeight());
+        for (int cell = 0; cell < frame.getNumberOfCells(); cell++) {
+            Vector2d position = frame.getPosition(cell);
+            assertEquals(worldMap.isGrassAt(position), frame.hasFlag(cell, FrameSnapshot.GRASS));
+            assertEquals(worldMap.animalsAt(position).isPresent(), frame.hasAnimal(cell));
+
+            if (frame.hasAnimal(cell)) {
+                Animal animal = simulation.resolveAnimalsConflicts(worldMap.animalsAt(position).get()).getFirst();
+                assertEquals(animal.getCurrentEnergy(), frame.getEnergy(cell));
+                assertEquals(animal.getCurrentOrientation(), frame.getOrientation(cell));
+            }
+        }
+        assertEquals(simulation.getStatistics().getStatisticsRecord().animalsCount(), frame.getStatisticsRecord().animalsCount());
+    }
+
+    @Test
+    void everyPublishedFrameHasNewerVersionAndIsNotChangedBySimulation() throws Exception {
+        // Given
+        Simulation simulation = createSimulation();
+        FrameSnapshotPublisher publisher = new FrameSnapshotPublisher(simulation);
+        publish(simulation, publisher, SimulationEventType.DAY_ENDED);
+        FrameSnapshot firstFrame = publisher.getLatestFrame();
+        int firstFrameGenotypes = firstFrame.getStatisticsRecord().genotypesCount();
+        int firstFrameAnimals = firstFrame.getStatisticsRecord().animalsCount();
+
+        // When
+        for (int day = 0; day < 10; day++) {
+            simulation.simulateDay();
+        }
+        publish(simulation, publisher, SimulationEventType.DAY_ENDED);
+        FrameSnapshot secondFrame = publisher.getLatestFrame();
+
+        // Then
+        assertTrue(secondFrame.getVersion() > firstFrame.getVersion());
+        assertEquals(firstFrameGenotypes, firstFrame.getStatisticsRecord().genotypesCount());
+        assertEquals(firstFrameAnimals, firstFrame.getStatisticsRecord().animalsCount());
+        assertNotSame(firstFrame.getStatisticsRecord(), secondFrame.getStatisticsRecord());
+    }
+
+    @Test
+    void trackAnimalPublishesFrameWithTrackedAnimalStatistics() {
+        // Given
+        Simulation simulation = createSimulation();
+        FrameSnapshotPublisher publisher = new FrameSnapshotPublisher(simulation);
+        publish(simulation, publisher, SimulationEventType.ANIMALS_MOVED);
+        Animal animal = simulation.getWorldMap().getOrderedAnimals().iterator().next();
+        long previousVersion = publisher.getLatestFrame().getVersion();
+
+        // When
+        publisher.trackAnimal(animal);
+        FrameSnapshot frame = publisher.getLatestFrame();
+
+        // Then
+        int cell = frame.getCell(animal.getPosition());
+        assertTrue(frame.getVersion() > previousVersion);
+        assertEquals(animal.getCurrentEnergy(), frame.getEnergy(cell));
+        assertTrue(frame.hasFlag(cell, FrameSnapshot.TRACKED_ANIMAL));
+        assertEquals(animal.getCurrentEnergy(), frame.getTrackedAnimalStatistics().currentEnergy());
+        assertEquals(SimulationEventType.ANIMALS_MOVED, frame.getEventType());
+    }
+
+    @Test
+    void frameIsNotRebuiltUntilThePreviousOneIsTaken() throws Exception {
+        // Given
+        Simulation simulation = createSimulation();
+        FrameSnapshotPublisher publisher = new FrameSnapshotPublisher(simulation);
+        publish(simulation, publisher, SimulationEventType.ANIMALS_MOVED);
+
+        // When
+        simulation.simulateDay();
+        publish(simulation, publisher, SimulationEventType.DAY_ENDED);
+        FrameSnapshot skippedFrame = publisher.getLatestFrame();
+        publisher.publishPendingFrame();
+        FrameSnapshot pendingFrame = publisher.getLatestFrame();
+
+        // Then
+        assertEquals(SimulationEventType.ANIMALS_MOVED, skippedFrame.getEventType());
+        assertEquals(SimulationEventType.DAY_ENDED, pendingFrame.getEventType());
+        assertEquals(simulation.getCurrentDay(), pendingFrame.getDay());
+    }
+
+    @Test
+    void strongestAnimalOfTheCellIsTracked() {
+        // Given
+        Simulation simulation = createSimulation();
+        FrameSnapshotPublisher publisher = new FrameSnapshotPublisher(simulation);
+        publish(simulation, publisher, SimulationEventType.ANIMALS_MOVED);
+        FrameSnapshot frame = publisher.getLatestFrame();
+        Vector2d position = simulation.getWorldMap().getOrderedAnimals().iterator().next().getPosition();
+        Animal strongestAnimal = simulation.resolveStrongestAnimal(simulation.getWorldMap().animalsAt(position).orElseThrow());
+        int cell = frame.getCell(position);
+
+        // When
+        publisher.trackAnimalAt(cell);
+        FrameSnapshot trackingFrame = publisher.getLatestFrame();
+
+        // Then
+        assertTrue(trackingFrame.hasFlag(cell, FrameSnapshot.TRACKED_ANIMAL));
+        assertEquals(strongestAnimal.getCurrentEnergy(), trackingFrame.getTrackedAnimalStatistics().currentEnergy());
+        assertEquals(strongestAnimal.getLengthOfLife(), trackingFrame.getTrackedAnimalStatistics().lengthOfLife());
+    }
+
+    @Test
+    void takenFrameIsNotOverwrittenByLaterFrames() throws Exception {
+        // Given
+        Simulation simulation = createSimulation();
+        FrameSnapshotPublisher publisher = new FrameSnapshotPublisher(simulation);
+        publish(simulation, publisher, SimulationEventType.DAY_ENDED);
+        FrameSnapshot takenFrame = publisher.getLatestFrame();
+        byte[] takenFlags = new byte[takenFrame.getNumberOfCells()];
+        for (int cell = 0; cell < takenFlags.length; cell++) {
+            takenFlags[cell] = takenFrame.getFlags(cell);
+        }
+
+        // When
+        for (int day = 0; day < 10; day++) {
+            simulation.simulateDay();
+            publish(simulation, publisher, SimulationEventType.DAY_ENDED);
+            publisher.publishPendingFrame();
+        }
+
+        // Then
+        for (int cell = 0; cell < takenFlags.length; cell++) {
+            assertEquals(takenFlags[cell], takenFrame.getFlags(cell));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package project.listener;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import project.statistics.GenotypeCount;
+import project.statistics.StatisticsRecord;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationSaveStatisticsTest {
+
+    private StatisticsRecord createRecord(int day) {
+        return new StatisticsRecord(day, 10 + day, 5, 3, 2, List.of(new GenotypeCount(7, "0123", 4)), 12.345, 0.5, 1.0 / 3);
+    }
+
+    @Test
+    void closeWritesAllRecordsOfEndedDays(@TempDir Path directory) throws IOException {
+        // Given
+        Path filePath = directory.resolve("nested").resolve("map.csv");
+        SimulationSaveStatistics saveStatistics = new SimulationSaveStatistics(filePath);
+
+        // When
+        for (int day = 1; day <= 100; day++) {
+            saveStatistics.handleChangeEvent(null, SimulationEventType.ANIMALS_MOVED, createRecord(day));
+            saveStatistics.handleChangeEvent(null, SimulationEventType.DAY_ENDED, createRecord(day));
+        }
+        saveStatistics.close();
+        saveStatistics.handleChangeEvent(null, SimulationEventType.DAY_ENDED, createRecord(101));
+
+        // Then
+        List<String> lines = Files.readAllLines(filePath);
+        assertEquals(101, lines.size());
+        assertTrue(lines.getFirst().startsWith("day,animals_count"));
+        assertEquals("1,11,5,12.35,0.50,0.33,0123", lines.get(1));
+        assertEquals("100,110,5,12.35,0.50,0.33,0123", lines.get(100));
+    }
+
+    @Test
+    void reopenedFileIsAppendedWithoutSecondHeader(@TempDir Path directory) throws IOException {
+        // Given
+        Path filePath = directory.resolve("map.csv");
+        try (SimulationSaveStatistics saveStatistics = new SimulationSaveStatistics(filePath)) {
+            saveStatistics.handleChangeEvent(null, SimulationEventType.DAY_ENDED, createRecord(1));
+        }
+
+        // When
+        try (SimulationSaveStatistics saveStatistics = new SimulationSaveStatistics(filePath)) {
+            saveStatistics.handleChangeEvent(null, SimulationEventType.DAY_ENDED, createRecord(2));
+        }
+
+        // Then
+        List<String> lines = Files.readAllLines(filePath);
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(2).startsWith("2,12,"));
+    }
+
+    @Test
+    void daysThatWereNotSavedAreMarkedInTheFile(@TempDir Path directory) throws IOException {
+        // Given
+        Path filePath = directory.resolve("map.csv");
+        SimulationSaveStatistics saveStatistics = new SimulationSaveStatistics(filePath, 1);
+
+        // When
+        for (int day = 1; day <= 10_000; day++) {
+            saveStatistics.handleChangeEvent(null, SimulationEventType.DAY_ENDED, createRecord(day));
+        }
+        saveStatistics.close();
+
+        // Then
+        List<String> lines = Files.readAllLines(filePath);
+        int expectedDay = 1;
+        int numberOfMarkedDays = 0;
+        for (String line : lines.subList(1, lines.size())) {
+            if (line.startsWith("# days ")) {
+                String[] range = line.substring("# days ".length(), line.indexOf(' ', "# days ".length())).split("\\.\\.");
+                assertEquals(expectedDay, Integer.parseInt(range[0]));
+                expectedDay = Integer.parseInt(range[1]) + 1;
+                numberOfMarkedDays += expectedDay - Integer.parseInt(range[0]);
+            } else {
+                assertEquals(expectedDay, Integer.parseInt(line.substring(0, line.indexOf(','))));
+                expectedDay++;
+            }
+        }
+        assertEquals(10_001, expectedDay);
+        assertEquals(saveStatistics.getNumberOfDroppedRecords(), numberOfMarkedDays);
+    }
+}
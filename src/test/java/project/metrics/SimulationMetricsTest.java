@@ -0,0 +1,72 @@
+package project.metrics;
+
+import org.junit.jupiter.api.Test;
+import project.Simulation;
+import project.TestSimulationParameters;
+import project.model.maps.MapStorageVariant;
+import project.presenter.GrowthGrassVariant;
+
+import javax.management.MBeanServer;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationMetricsTest {
+
+    private Simulation createSimulation() {
+        return new Simulation(TestSimulationParameters.smallMap(GrowthGrassVariant.MOVING_JUNGLE_MAP, MapStorageVariant.ARRAY_GRID, 7L));
+    }
+
+    @Test
+    void simulatedDaysAreMeasuredForEveryPhase() throws Exception {
+        // Given
+        Simulation simulation = createSimulation();
+
+        // When
+        for (int day = 0; day < 20; day++) {
+            simulation.simulateDay();
+        }
+        SimulationMetrics metrics = simulation.getMetrics();
+
+        // Then
+        assertEquals(20, metrics.getNumberOfSimulatedDays());
+        assertEquals(20, metrics.getCurrentDay());
+        assertEquals(SimulationPhase.values().length, metrics.getPhaseNames().length);
+        assertTrue(metrics.getDaysPerSecond() > 0);
+        assertTrue(metrics.getAnimalsPerSecond() > 0);
+
+        for (SimulationPhase phase : SimulationPhase.values()) {
+            long p50 = metrics.getPhaseWallTimePercentileNanos(phase, 50);
+            long p90 = metrics.getPhaseWallTimePercentileNanos(phase, 90);
+            long p99 = metrics.getPhaseWallTimePercentileNanos(phase, 99);
+            assertTrue(0 <= p50 && p50 <= p90 && p90 <= p99);
+        }
+        assertTrue(metrics.getPhaseWallTimeMeanMillis()[SimulationPhase.MOVE.ordinal()] > 0);
+    }
+
+    @Test
+    void metricsAreReadableOverJmx() throws Exception {
+        // Given
+        Simulation simulation = createSimulation();
+        SimulationMetrics metrics = simulation.getMetrics();
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+        // When
+        metrics.registerMBean(simulation.getWorldMap().getId().toString());
+        for (int day = 0; day < 5; day++) {
+            simulation.simulateDay();
+        }
+
+        // Then
+        try {
+            assertEquals(5L, mBeanServer.getAttribute(metrics.getObjectName(), "NumberOfSimulatedDays"));
+            assertArrayEquals(metrics.getPhaseNames(), (String[]) mBeanServer.getAttribute(metrics.getObjectName(), "PhaseNames"));
+
+            mBeanServer.invoke(metrics.getObjectName(), "reset", null, null);
+            assertEquals(0.0, (double) mBeanServer.getAttribute(metrics.getObjectName(), "DaysPerSecond"));
+        } finally {
+            metrics.unregisterMBean();
+        }
+        assertNull(metrics.getObjectName());
+    }
+}
@@ -0,0 +1,45 @@
+package project.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SplitMixRandomTest {
+
+    @Test
+    void shouldDrawTheSameNumbersAsSplittableRandom() {
+        // given
+        SplitMixRandom random = new SplitMixRandom(1234L);
+        SplittableRandom expectedRandom = new SplittableRandom(1234L);
+
+        // when
+        SplitMixRandom splitRandom = random.split();
+        SplittableRandom expectedSplitRandom = expectedRandom.split();
+
+        // then
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(expectedRandom.nextInt(17), random.nextInt(17));
+            assertEquals(expectedRandom.nextInt(3, 1000), random.nextInt(3, 1000));
+            assertEquals(expectedSplitRandom.nextBoolean(), splitRandom.nextBoolean());
+            assertEquals(expectedSplitRandom.nextLong(), splitRandom.nextLong());
+            assertEquals(expectedSplitRandom.nextDouble(), splitRandom.nextDouble());
+        }
+    }
+
+    @Test
+    void shouldContinueFromSavedState() {
+        // given
+        SplitMixRandom random = new SplitMixRandom(99L).split();
+        random.nextInt(10);
+
+        // when
+        SplitMixRandom restoredRandom = new SplitMixRandom(random.getSeed(), random.getGamma());
+
+        // then
+        for (int i = 0; i < 100; i++) {
+            assertEquals(random.nextLong(), restoredRandom.nextLong());
+        }
+    }
+}
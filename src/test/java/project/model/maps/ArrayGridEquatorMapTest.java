@@ -0,0 +1,9 @@
+package project.model.maps;
+
+class ArrayGridEquatorMapTest extends EquatorMapTest {
+
+    @Override
+    protected EquatorMap createMap(int height, int width) {
+        return new EquatorMap(height, width, MapStorageVariant.ARRAY_GRID);
+    }
+}
@@ -0,0 +1,112 @@
+package project.model.maps;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChunkedCellSetTest {
+
+    private final int height = 150;
+    private final int width = 100;
+
+    @Test
+    void newSetContainsOnlyCellsFromMemberRows() {
+        // Given
+        ChunkedCellSet cells = new ChunkedCellSet(height, width, y -> y >= 60 && y < 90);
+
+        // When
+        Set<Integer> memberCells = new HashSet<>();
+        cells.forEach(memberCells::add);
+
+        // Then
+        assertEquals(30 * width, cells.size());
+        assertEquals(30 * width, memberCells.size());
+        assertTrue(cells.contains(60 * width));
+        assertTrue(cells.contains(90 * width - 1));
+        assertFalse(cells.contains(60 * width - 1));
+        assertFalse(cells.contains(90 * width));
+        assertEquals(0, cells.getNumberOfAllocatedChunks());
+    }
+
+    @Test
+    void addAndRemoveUpdateMembershipAndReleaseChunks() {
+        // Given
+        ChunkedCellSet cells = new ChunkedCellSet(height, width, y -> true);
+        int cell = 130 * width + 70;
+
+        // When
+        assertTrue(cells.remove(cell));
+        assertFalse(cells.remove(cell));
+        int numberOfAllocatedChunks = cells.getNumberOfAllocatedChunks();
+        assertTrue(cells.add(cell));
+        assertFalse(cells.add(cell));
+
+        // Then
+        assertEquals(1, numberOfAllocatedChunks);
+        assertEquals(0, cells.getNumberOfAllocatedChunks());
+        assertTrue(cells.contains(cell));
+        assertEquals(height * width, cells.size());
+    }
+
+    @Test
+    void addingCellOutsideOfMemberRowsThrowsException() {
+        // Given
+        ChunkedCellSet cells = new ChunkedCellSet(height, width, y -> y % 2 == 0);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> cells.add(width));
+    }
+
+    @Test
+    void drawWithoutReplacementReturnsEveryMemberCellOnce() {
+        // Given
+        ChunkedCellSet cells = new ChunkedCellSet(height, width, y -> y % 3 != 0);
+        for (int x = 0; x < width; x += 2) {
+            cells.remove(70 * width + x);
+        }
+        Random random = new Random(1);
+
+        // When
+        Set<Integer> drawnCells = new HashSet<>();
+        for (int i = 0; i < cells.size(); i++) {
+            drawnCells.add(cells.drawWithoutReplacement(random, i));
+        }
+
+        // Then
+        assertEquals(cells.size(), drawnCells.size());
+        assertTrue(drawnCells.stream().allMatch(cells::contains));
+        assertThrows(NoSuchElementException.class, () -> cells.drawWithoutReplacement(random, cells.size()));
+        assertDoesNotThrow(() -> cells.drawWithoutReplacement(random, 0));
+    }
+
+    @Test
+    void removingDrawnCellsKeepsRemainingCellsDrawable() {
+        // Given
+        ChunkedCellSet cells = new ChunkedCellSet(height, width, y -> true);
+        Random random = new Random(3);
+
+        // When
+        for (int day = 0; day < 10; day++) {
+            int[] drawnCells = new int[100];
+            for (int i = 0; i < drawnCells.length; i++) {
+                drawnCells[i] = cells.drawWithoutReplacement(random, i);
+            }
+            for (int drawnCell : drawnCells) {
+                assertTrue(cells.remove(drawnCell));
+            }
+        }
+
+        // Then
+        assertEquals(height * width - 1000, cells.size());
+        Set<Integer> drawnCells = new HashSet<>();
+        for (int i = 0; i < cells.size(); i++) {
+            drawnCells.add(cells.drawWithoutReplacement(random, i));
+        }
+        assertEquals(cells.size(), drawnCells.size());
+    }
+}
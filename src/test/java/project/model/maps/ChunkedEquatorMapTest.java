@@ -0,0 +1,9 @@
+package project.model.maps;
+
+class ChunkedEquatorMapTest extends EquatorMapTest {
+
+    @Override
+    protected EquatorMap createMap(int height, int width) {
+        return new EquatorMap(height, width, MapStorageVariant.CHUNKED);
+    }
+}
@@ -0,0 +1,9 @@
+package project.model.maps;
+
+class ChunkedMovingJungleMapTest extends MovingJungleMapTest {
+
+    @Override
+    protected MovingJungleMap createMap(int height, int width) {
+        return new MovingJungleMap(height, width, MapStorageVariant.CHUNKED);
+    }
+}
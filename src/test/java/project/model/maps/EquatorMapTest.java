@@ -9,9 +9,11 @@ import project.model.worldElements.MapDirection;
 import project.model.worldElements.RandomMutationStrategyVariant;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -23,7 +25,11 @@ class EquatorMapTest {
 
     @BeforeEach
     void setUp() {
-        equatorMap = new EquatorMap(mapHeight, mapWidth);
+        equatorMap = createMap(mapHeight, mapWidth);
+    }
+
+    protected EquatorMap createMap(int height, int width) {
+        return new EquatorMap(height, width);
     }
 
     @Test
@@ -45,6 +51,36 @@ class EquatorMapTest {
         assertTrue(animalsAtPosition.get().contains(animal));
     }
 
+    @Test
+    void placeSameAnimalTwiceThrowsException() throws IncorrectPositionException {
+        // Given
+        Animal animal = new Animal(new Vector2d(3, 3), 1, 1, 1, 1, new RandomMutationStrategyVariant(0, 0));
+        equatorMap.place(animal);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> equatorMap.place(animal));
+    }
+
+    @Test
+    void removeAnimalKeepsOtherAnimalsAtPosition() throws IncorrectPositionException {
+        // Given
+        Vector2d position = new Vector2d(3, 3);
+        Animal firstAnimal = new Animal(position, 1, 1, 1, 1, new RandomMutationStrategyVariant(0, 0));
+        Animal secondAnimal = new Animal(position, 1, 1, 1, 1, new RandomMutationStrategyVariant(0, 0));
+        Animal thirdAnimal = new Animal(position, 1, 1, 1, 1, new RandomMutationStrategyVariant(0, 0));
+        equatorMap.place(firstAnimal);
+        equatorMap.place(secondAnimal);
+        equatorMap.place(thirdAnimal);
+
+        // When
+        equatorMap.removeAnimal(secondAnimal);
+
+        // Then
+        assertEquals(List.of(firstAnimal, thirdAnimal), equatorMap.animalsAt(position).orElseThrow());
+        assertEquals(1, equatorMap.getAllAnimalsPositions().size());
+        assertThrows(NoSuchElementException.class, () -> equatorMap.removeAnimal(secondAnimal));
+    }
+
     @Test
     void placeAnimalOutOfBoundsThrowsException() {
         // Given
@@ -261,4 +297,72 @@ class EquatorMapTest {
         assertTrue(equatorMap.getFreeGrassNotPreferredPositions().contains(notPreferredPosition));
         assertFalse(equatorMap.getElements().contains(grass));
     }
+
+    @Test
+    void spawnGrassFillsPreferredFieldsFirstAndOverflowsToOtherFields() {
+        // When
+        equatorMap.spawnGrass(50, new Random(1));
+
+        // Then
+        assertEquals(50, equatorMap.getNumberOfGrass());
+        assertTrue(equatorMap.getFreeGrassPreferredPositions().isEmpty());
+        assertEquals(mapHeight * mapWidth - 50, equatorMap.getFreeGrassNotPreferredPositions().size());
+    }
+
+    @Test
+    void spawnGrassDoesNotExceedNumberOfFreeFields() {
+        // When
+        equatorMap.spawnGrass(mapHeight * mapWidth + 10, new Random(1));
+
+        // Then
+        assertEquals(mapHeight * mapWidth, equatorMap.getNumberOfGrass());
+        assertTrue(equatorMap.getFreeGrassPreferredPositions().isEmpty());
+        assertTrue(equatorMap.getFreeGrassNotPreferredPositions().isEmpty());
+    }
+
+    @Test
+    void spawnGrassWithSameRandomSeedPlacesGrassAtSamePositions() {
+        // Given
+        EquatorMap otherMap = createMap(mapHeight, mapWidth);
+
+        // When
+        equatorMap.spawnGrass(30, new Random(7));
+        otherMap.spawnGrass(30, new Random(7));
+
+        // Then
+        assertEquals(new HashSet<>(otherMap.getFreeGrassPreferredPositions()), new HashSet<>(equatorMap.getFreeGrassPreferredPositions()));
+        assertEquals(new HashSet<>(otherMap.getFreeGrassNotPreferredPositions()), new HashSet<>(equatorMap.getFreeGrassNotPreferredPositions()));
+    }
+
+    @Test
+    void moveAnimalsInRowBandsMovesEveryAnimalOnce() {
+        // Given
+        List<Animal> animals = new ArrayList<>();
+        List<Vector2d> expectedPositions = new ArrayList<>();
+        for (int y = 1; y < mapHeight - 1; y++) {
+            for (int x = 1; x < mapWidth - 1; x += 2) {
+                Animal animal = new Animal(new Vector2d(x, y), 1, 10, 1, 1, new RandomMutationStrategyVariant(0, 0));
+                try {
+                    equatorMap.place(animal);
+                } catch (IncorrectPositionException e) {
+                    fail("Exception should not be thrown: " + e.getMessage());
+                }
+                animals.add(animal);
+                expectedPositions.add(animal.getNextPosition());
+            }
+        }
+
+        // When
+        equatorMap.moveAnimalsInRowBands(4);
+
+        // Then
+        for (int i = 0; i < animals.size(); i++) {
+            Animal animal = animals.get(i);
+            assertEquals(expectedPositions.get(i), animal.getPosition());
+            assertEquals(9, animal.getCurrentEnergy());
+            assertTrue(equatorMap.animalsAt(expectedPositions.get(i)).orElseThrow().contains(animal));
+        }
+        assertEquals(new HashSet<>(expectedPositions).size(), equatorMap.getNumberOfAnimals());
+        assertEquals(animals.size(), equatorMap.getOrderedAnimals().size());
+    }
 }
@@ -0,0 +1,100 @@
+package project.model.maps;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexedCellSetTest {
+
+    @Test
+    void addAndRemoveUpdateMembership() {
+        // Given
+        IndexedCellSet cells = new IndexedCellSet(10);
+
+        // When
+        assertTrue(cells.add(3));
+        assertTrue(cells.add(7));
+        assertFalse(cells.add(3));
+        assertTrue(cells.remove(3));
+        assertFalse(cells.remove(3));
+
+        // Then
+        assertFalse(cells.contains(3));
+        assertTrue(cells.contains(7));
+        assertEquals(1, cells.size());
+        assertEquals(7, cells.get(0));
+    }
+
+    @Test
+    void removeKeepsRemainingCellsReachable() {
+        // Given
+        IndexedCellSet cells = new IndexedCellSet(10);
+        for (int cell = 0; cell < 10; cell++) {
+            cells.add(cell);
+        }
+
+        // When
+        cells.remove(0);
+        cells.remove(5);
+        cells.remove(9);
+
+        // Then
+        Set<Integer> remainingCells = new HashSet<>();
+        for (int slot = 0; slot < cells.size(); slot++) {
+            remainingCells.add(cells.get(slot));
+        }
+        assertEquals(Set.of(1, 2, 3, 4, 6, 7, 8), remainingCells);
+        assertArrayEquals(new int[]{1, 2, 3, 4, 6, 7, 8}, cells.toSortedArray());
+    }
+
+    @Test
+    void getRandomReturnsOnlyContainedCells() {
+        // Given
+        IndexedCellSet cells = new IndexedCellSet(100);
+        cells.add(10);
+        cells.add(20);
+        cells.add(30);
+        Random random = new Random(1);
+
+        // When & Then
+        for (int i = 0; i < 100; i++) {
+            assertTrue(cells.contains(cells.getRandom(random)));
+        }
+    }
+
+    @Test
+    void getRandomFromEmptySetThrowsException() {
+        // Given
+        IndexedCellSet cells = new IndexedCellSet(10);
+
+        // When & Then
+        assertThrows(NoSuchElementException.class, () -> cells.getRandom(new Random()));
+    }
+
+    @Test
+    void drawWithoutReplacementReturnsDistinctCellsAndKeepsMembership() {
+        // Given
+        IndexedCellSet cells = new IndexedCellSet(10);
+        for (int cell = 0; cell < 10; cell++) {
+            cells.add(cell);
+        }
+        Random random = new Random(1);
+
+        // When
+        Set<Integer> drawnCells = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            drawnCells.add(cells.drawWithoutReplacement(random, i));
+        }
+
+        // Then
+        assertEquals(10, drawnCells.size());
+        assertEquals(10, cells.size());
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, cells.toSortedArray());
+        assertThrows(NoSuchElementException.class, () -> cells.drawWithoutReplacement(random, 10));
+    }
+}
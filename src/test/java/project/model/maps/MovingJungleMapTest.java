@@ -21,7 +21,11 @@ class MovingJungleMapTest {
     void setUp() {
         int mapHeight = 10;
         int mapWidth = 10;
-        movingJungleMap = new MovingJungleMap(mapHeight, mapWidth);
+        movingJungleMap = createMap(mapHeight, mapWidth);
+    }
+
+    protected MovingJungleMap createMap(int height, int width) {
+        return new MovingJungleMap(height, width);
     }
 
     @Test
@@ -144,6 +144,23 @@ class AnimalTest {
         assertTrue(genes.stream().anyMatch(gene -> gene != 0));
     }
 
+    @Test
+    void testPackedMutationChangesOnlyGenesInRange() {
+        // Given
+        byte[] genes = new byte[24];
+        MutationStrategy mutationStrategy = new RandomMutationStrategyVariant(8, 8);
+
+        // When
+        mutationStrategy.mutateGenes(genes, 8, 8);
+
+        // Then
+        for (int i = 0; i < genes.length; i++) {
+            boolean insideRange = i >= 8 && i < 16;
+            assertEquals(insideRange, genes[i] != 0);
+            assertTrue(genes[i] >= 0 && genes[i] <= 7);
+        }
+    }
+
     @Test
     void testEdgeCaseEnergy() {
         // Given
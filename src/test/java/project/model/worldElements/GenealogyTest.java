@@ -0,0 +1,91 @@
+package project.model.worldElements;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GenealogyTest {
+
+    private List<Integer> kidsOf(Genealogy genealogy, int id) {
+        List<Integer> kidsIds = new ArrayList<>();
+        genealogy.forEachKid(id, kidsIds::add);
+        return kidsIds;
+    }
+
+    @Test
+    void addAnimalLinksKidToBothParents() {
+        // Given
+        Genealogy genealogy = new Genealogy();
+        genealogy.setCurrentDay(3);
+        int firstParentId = genealogy.addAnimal(null, Genealogy.NO_ANIMAL, Genealogy.NO_ANIMAL);
+        int secondParentId = genealogy.addAnimal(null, Genealogy.NO_ANIMAL, Genealogy.NO_ANIMAL);
+
+        // When
+        genealogy.setCurrentDay(5);
+        int firstKidId = genealogy.addAnimal(null, firstParentId, secondParentId);
+        int secondKidId = genealogy.addAnimal(null, secondParentId, firstParentId);
+        genealogy.registerDeath(firstKidId);
+
+        // Then
+        assertEquals(List.of(secondKidId, firstKidId), kidsOf(genealogy, firstParentId));
+        assertEquals(List.of(secondKidId, firstKidId), kidsOf(genealogy, secondParentId));
+        assertEquals(2, genealogy.getNumberOfKids(firstParentId));
+        assertEquals(3, genealogy.getBirthDay(firstParentId));
+        assertEquals(5, genealogy.getBirthDay(firstKidId));
+        assertEquals(5, genealogy.getDeathDay(firstKidId));
+        assertEquals(Genealogy.NO_DAY, genealogy.getDeathDay(secondKidId));
+    }
+
+    @Test
+    void pruneKeepsOnlyLivingAndPinnedAnimalsWithTheirDescendants() {
+        // Given
+        Genealogy genealogy = new Genealogy();
+        int deadFounderId = genealogy.addAnimal(null, Genealogy.NO_ANIMAL, Genealogy.NO_ANIMAL);
+        int livingFounderId = genealogy.addAnimal(null, Genealogy.NO_ANIMAL, Genealogy.NO_ANIMAL);
+        int pinnedFounderId = genealogy.addAnimal(null, Genealogy.NO_ANIMAL, Genealogy.NO_ANIMAL);
+        int deadKidId = genealogy.addAnimal(null, deadFounderId, livingFounderId);
+        int orphanId = genealogy.addAnimal(null, deadFounderId, Genealogy.NO_ANIMAL);
+        int pinnedKidId = genealogy.addAnimal(null, pinnedFounderId, Genealogy.NO_ANIMAL);
+        genealogy.registerDeath(deadFounderId);
+        genealogy.registerDeath(deadKidId);
+        genealogy.registerDeath(orphanId);
+        genealogy.registerDeath(pinnedFounderId);
+        genealogy.registerDeath(pinnedKidId);
+        genealogy.pin(pinnedFounderId);
+
+        // When
+        genealogy.prune();
+
+        // Then
+        assertEquals(4, genealogy.size());
+        assertEquals(List.of(deadKidId), kidsOf(genealogy, livingFounderId));
+        assertEquals(List.of(pinnedKidId), kidsOf(genealogy, pinnedFounderId));
+        assertEquals(Genealogy.NO_ANIMAL, genealogy.getFirstParentId(deadKidId));
+        assertEquals(livingFounderId, genealogy.getSecondParentId(deadKidId));
+        assertEquals(2, genealogy.getNumberOfKids(deadFounderId));
+    }
+
+    @Test
+    void prunedRowsAreReusedInLongRuns() {
+        // Given
+        Genealogy genealogy = new Genealogy();
+        int parentId = genealogy.addAnimal(null, Genealogy.NO_ANIMAL, Genealogy.NO_ANIMAL);
+
+        // When
+        for (int day = 0; day < 100_000; day++) {
+            genealogy.setCurrentDay(day);
+            int kidId = genealogy.addAnimal(null, parentId, Genealogy.NO_ANIMAL);
+            genealogy.registerDeath(parentId);
+            parentId = kidId;
+        }
+        genealogy.prune();
+
+        // Then
+        assertEquals(1, genealogy.size());
+        assertEquals(99_999, genealogy.getBirthDay(parentId));
+        assertTrue(parentId < 128);
+    }
+}
@@ -0,0 +1,150 @@
+package project.model.worldElements;
+
+import org.junit.jupiter.api.Test;
+import project.model.Vector2d;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PopulationTest {
+
+    private Population createPopulation() {
+        return new Population(8, 20, 10, new RandomMutationStrategyVariant(0, 0), new Random(1));
+    }
+
+    @Test
+    void spawnAnimalCreatesViewOnPopulationSlot() {
+        // Given
+        Population population = createPopulation();
+
+        // When
+        Animal animal = population.spawnAnimal(new Vector2d(2, 3), 50);
+
+        // Then
+        assertEquals(1, population.size());
+        assertSame(animal, population.getAnimal(0));
+        assertEquals(new Vector2d(2, 3), animal.getPosition());
+        assertEquals(50, animal.getCurrentEnergy());
+        assertEquals(8, animal.getAnimalGenesList().size());
+    }
+
+    @Test
+    void rotateUpdatesOrientationActiveGeneAndLengthOfLife() {
+        // Given
+        Population population = createPopulation();
+        Animal animal = population.spawnAnimal(new Vector2d(0, 0), 50);
+        MapDirection expectedOrientation = animal.getNextOrientation();
+        int expectedActiveGene = (animal.getActivePartOfGenome() + 1) % 8;
+
+        // When
+        population.rotate(0);
+
+        // Then
+        assertEquals(expectedOrientation, animal.getCurrentOrientation());
+        assertEquals(expectedActiveGene, animal.getActivePartOfGenome());
+        assertEquals(1, animal.getLengthOfLife());
+    }
+
+    @Test
+    void removeKeepsViewsOfRemainingAnimalsConsistent() {
+        // Given
+        Population population = createPopulation();
+        Animal firstAnimal = population.spawnAnimal(new Vector2d(0, 0), 10);
+        Animal secondAnimal = population.spawnAnimal(new Vector2d(1, 1), 20);
+        Animal thirdAnimal = population.spawnAnimal(new Vector2d(2, 2), 30);
+
+        // When
+        population.remove(0);
+
+        // Then
+        assertEquals(2, population.size());
+        assertSame(thirdAnimal, population.getAnimal(0));
+        assertSame(secondAnimal, population.getAnimal(1));
+        assertEquals(new Vector2d(2, 2), thirdAnimal.getPosition());
+        assertEquals(30, thirdAnimal.getCurrentEnergy());
+        assertEquals(20, secondAnimal.getCurrentEnergy());
+        assertEquals(new Vector2d(0, 0), firstAnimal.getPosition());
+        assertEquals(10, firstAnimal.getCurrentEnergy());
+    }
+
+    @Test
+    void removedAnimalCannotActAnymore() {
+        // Given
+        Population population = createPopulation();
+        Animal removedAnimal = population.spawnAnimal(new Vector2d(1, 1), 50);
+        Animal livingAnimal = population.spawnAnimal(new Vector2d(1, 1), 40);
+        population.remove(0);
+
+        // When & Then
+        assertThrows(AnimalDeadException.class, () -> removedAnimal.move(new Vector2d(2, 2)));
+        assertThrows(AnimalDeadException.class, () -> Animal.reproduce(livingAnimal, removedAnimal));
+        assertEquals(new Vector2d(1, 1), removedAnimal.getPosition());
+        assertEquals(1, population.size());
+    }
+
+    @Test
+    void reproduceAddsKidToPopulationOfFirstParent() {
+        // Given
+        Population population = createPopulation();
+        Animal firstParent = population.spawnAnimal(new Vector2d(1, 1), 50);
+        Animal secondParent = population.spawnAnimal(new Vector2d(1, 1), 40);
+
+        // When
+        Animal kid = Animal.reproduce(firstParent, secondParent);
+
+        // Then
+        assertEquals(3, population.size());
+        assertSame(kid, population.getAnimal(2));
+        assertEquals(20, kid.getCurrentEnergy());
+        assertEquals(new Vector2d(1, 1), kid.getPosition());
+        assertEquals(40, firstParent.getCurrentEnergy());
+        assertEquals(30, secondParent.getCurrentEnergy());
+        assertEquals(1, firstParent.getNumberOfKids());
+        assertEquals(1, secondParent.getNumberOfKids());
+        assertSame(kid, firstParent.getAnimalsKids().getFirst());
+    }
+
+    @Test
+    void removedAnimalKeepsItsKids() {
+        // Given
+        Population population = createPopulation();
+        Animal firstParent = population.spawnAnimal(new Vector2d(1, 1), 50);
+        Animal secondParent = population.spawnAnimal(new Vector2d(1, 1), 40);
+        Animal kid = Animal.reproduce(firstParent, secondParent);
+
+        // When
+        population.remove(0);
+
+        // Then
+        assertEquals(2, population.size());
+        assertEquals(1, firstParent.getNumberOfKids());
+        assertSame(kid, firstParent.getAnimalsKids().getFirst());
+        assertEquals(kid.getAnimalGenesString(), population.getAnimal(0).getAnimalGenesString());
+    }
+
+    @Test
+    void animalsWithSameGenesShareOneGenome() {
+        // Given
+        Population population = createPopulation();
+        List<Integer> genes = List.of(0, 1, 2, 3, 4, 5, 6, 7);
+        Animal firstParent = new Animal();
+        Animal secondParent = new Animal();
+        population.addAnimal(firstParent, new Vector2d(1, 1), 50, genes);
+        population.addAnimal(secondParent, new Vector2d(1, 1), 40, genes);
+
+        // When
+        Animal kid = Animal.reproduce(firstParent, secondParent);
+        int numberOfGenomesBeforeRemoval = population.getNumberOfDistinctGenomes();
+        population.remove(0);
+        population.remove(0);
+        population.remove(0);
+
+        // Then
+        assertEquals(1, numberOfGenomesBeforeRemoval);
+        assertEquals(0, population.getNumberOfDistinctGenomes());
+        assertEquals("01234567", kid.getAnimalGenesString());
+        assertEquals(firstParent.getGenotypeId(), kid.getGenotypeId());
+    }
+}
@@ -0,0 +1,78 @@
+package project.presenter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MapViewportTest {
+
+    @Test
+    void cellAtPointCountsRowsFromTheTopOfTheMap() {
+        // Given
+        MapViewport viewport = new MapViewport(100, 50, 500, 250, 64);
+
+        // When
+        int topLeftCell = viewport.getCellAt(0, 0);
+        int bottomRightCell = viewport.getCellAt(499, 249);
+        int cell = viewport.getCellAt(12, 7);
+
+        // Then
+        assertEquals(5, viewport.getCellSize());
+        assertEquals(49 * 100, topLeftCell);
+        assertEquals(99, bottomRightCell);
+        assertEquals(48 * 100 + 2, cell);
+        assertEquals(-1, viewport.getCellAt(-1, 0));
+        assertEquals(-1, viewport.getCellAt(500, 0));
+        assertEquals(-1, viewport.getCellAt(0, 250));
+    }
+
+    @Test
+    void zoomKeepsTheCellUnderTheCursor() {
+        // Given
+        MapViewport viewport = new MapViewport(100, 100, 500, 500, 64);
+        int cellUnderCursor = viewport.getCellAt(230, 140);
+
+        // When
+        viewport.zoomAt(230, 140, 2);
+
+        // Then
+        assertEquals(10, viewport.getCellSize());
+        assertEquals(cellUnderCursor, viewport.getCellAt(230, 140));
+    }
+
+    @Test
+    void zoomIsLimitedToWholeMapAndMaximumCellSize() {
+        // Given
+        MapViewport viewport = new MapViewport(100, 100, 500, 500, 64);
+
+        // When
+        viewport.zoomAt(0, 0, 0.5);
+        double zoomedOutCellSize = viewport.getCellSize();
+        viewport.zoomAt(0, 0, 100);
+
+        // Then
+        assertEquals(5, zoomedOutCellSize);
+        assertEquals(64, viewport.getCellSize());
+    }
+
+    @Test
+    void panningStaysInsideTheMap() {
+        // Given
+        MapViewport viewport = new MapViewport(100, 100, 500, 500, 64);
+        viewport.zoomAt(250, 250, 2);
+
+        // When
+        viewport.panBy(10_000, 10_000);
+        double offsetXAfterPanningRight = viewport.getOffsetX();
+        double offsetYAfterPanningDown = viewport.getOffsetY();
+        viewport.panBy(-10_000, -10_000);
+
+        // Then
+        assertEquals(0, offsetXAfterPanningRight);
+        assertEquals(0, offsetYAfterPanningDown);
+        assertEquals(100 * 10 - 500, viewport.getOffsetX());
+        assertEquals(100 * 10 - 500, viewport.getOffsetY());
+        assertEquals(99, viewport.getLastVisibleColumn());
+        assertEquals(99, viewport.getLastVisibleRow());
+    }
+}
@@ -0,0 +1,134 @@
+package project.replay;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import project.Simulation;
+import project.TestSimulationParameters;
+import project.listener.FrameSnapshot;
+import project.listener.FrameSnapshotPublisher;
+import project.model.maps.MapStorageVariant;
+import project.presenter.GrowthGrassVariant;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayTest {
+
+    private List<FrameSnapshot> recordSimulation(Path replayPath, int numberOfDays) throws Exception {
+        Simulation simulation = new Simulation(TestSimulationParameters.smallMap(GrowthGrassVariant.MOVING_JUNGLE_MAP, MapStorageVariant.ARRAY_GRID, 99L));
+        FrameSnapshotPublisher publisher = new FrameSnapshotPublisher(simulation);
+        List<FrameSnapshot> frames = new ArrayList<>();
+
+        try (ReplayRecorder recorder = new ReplayRecorder(simulation, replayPath, 10)) {
+            publisher.addFrameListener(recorder);
+            publisher.addFrameListener(frame -> frames.add(copyOf(frame)));
+            simulation.addObserver(publisher);
+
+            for (int day = 0; day < numberOfDays; day++) {
+                simulation.simulateDay();
+            }
+        }
+        return frames;
+    }
+
+    // The publisher reuses the buffers of frames it has replaced, so recorded frames are kept as copies.
+    private FrameSnapshot copyOf(FrameSnapshot frame) {
+        byte[] cellsOrientations = new byte[frame.getNumberOfCells()];
+        int[] cellsEnergies = new int[frame.getNumberOfCells()];
+        byte[] cellsFlags = new byte[frame.getNumberOfCells()];
+        for (int cell = 0; cell < frame.getNumberOfCells(); cell++) {
+            cellsFlags[cell] = frame.getFlags(cell);
+            if (frame.hasAnimal(cell)) {
+                cellsOrientations[cell] = (byte) frame.getOrientation(cell).ordinal();
+                cellsEnergies[cell] = frame.getEnergy(cell);
+            }
+        }
+        return new FrameSnapshot(frame.getVersion(), frame.getDay(), frame.getEventType(), frame.getMapWidth(), frame.getMapHeight(),
+                cellsOrientations, cellsEnergies, cellsFlags, frame.getStatisticsRecord(), frame.getTopGenotypes(), frame.getTrackedAnimalStatistics());
+    }
+
+    private void assertSameFrame(FrameSnapshot expectedFrame, FrameSnapshot frame) {
+        assertEquals(expectedFrame.getDay(), frame.getDay());
+        assertEquals(expectedFrame.getEventType(), frame.getEventType());
+        assertEquals(expectedFrame.getStatisticsRecord(), frame.getStatisticsRecord());
+        assertEquals(expectedFrame.getTopGenotypes(), frame.getTopGenotypes());
+
+        for (int cell = 0; cell < expectedFrame.getNumberOfCells(); cell++) {
+            assertEquals(expectedFrame.getFlags(cell), frame.getFlags(cell));
+            if (expectedFrame.hasAnimal(cell)) {
+                assertEquals(expectedFrame.getOrientation(cell), frame.getOrientation(cell));
+                assertEquals(expectedFrame.getEnergy(cell), frame.getEnergy(cell));
+            }
+        }
+    }
+
+    @Test
+    void replayedFramesAreTheSameAsRecordedOnes(@TempDir Path directory) throws Exception {
+        // Given
+        Path replayPath = directory.resolve("run.replay");
+        List<FrameSnapshot> recordedFrames = recordSimulation(replayPath, 30);
+
+        // When
+        ReplayReader reader = new ReplayReader(replayPath);
+
+        // Then
+        assertEquals(30, reader.getMapWidth());
+        assertEquals(20, reader.getMapHeight());
+        assertEquals(1, reader.getFirstDay());
+        assertEquals(30, reader.getLastDay());
+        for (FrameSnapshot recordedFrame : recordedFrames) {
+            assertSameFrame(recordedFrame, reader.nextFrame());
+        }
+        assertNull(reader.nextFrame());
+    }
+
+    @Test
+    void seekingStartsFromTheFirstFrameOfTheDay(@TempDir Path directory) throws Exception {
+        // Given
+        Path replayPath = directory.resolve("run.replay");
+        List<FrameSnapshot> recordedFrames = recordSimulation(replayPath, 30);
+        ReplayReader reader = new ReplayReader(replayPath);
+
+        for (int day : new int[]{17, 3, 20, 30, 1}) {
+            // When
+            FrameSnapshot frame = reader.seekToDay(day);
+            FrameSnapshot nextFrame = reader.nextFrame();
+
+            // Then
+            int firstFrameOfDay = (day - 1) * 6;
+            assertSameFrame(recordedFrames.get(firstFrameOfDay), frame);
+            assertSameFrame(recordedFrames.get(firstFrameOfDay + 1), nextFrame);
+        }
+    }
+
+    @Test
+    void closedReaderRejectsReads(@TempDir Path directory) throws Exception {
+        // Given
+        Path replayPath = directory.resolve("run.replay");
+        recordSimulation(replayPath, 5);
+        ReplayReader reader = new ReplayReader(replayPath);
+        reader.nextFrame();
+
+        // When
+        reader.close();
+
+        // Then
+        assertThrows(IllegalStateException.class, reader::nextFrame);
+        assertThrows(IllegalStateException.class, () -> reader.seekToDay(3));
+    }
+
+    @Test
+    void replayOfChunkedMapIsRejected(@TempDir Path directory) {
+        // Given
+        Simulation simulation = new Simulation(TestSimulationParameters.smallMap(GrowthGrassVariant.EQUATOR_MAP, MapStorageVariant.CHUNKED, 99L));
+        Path replayPath = directory.resolve("run.replay");
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> new ReplayRecorder(simulation, replayPath));
+        assertFalse(Files.exists(replayPath));
+    }
+}
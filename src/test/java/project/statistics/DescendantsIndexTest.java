@@ -0,0 +1,75 @@
+package project.statistics;
+
+import org.junit.jupiter.api.Test;
+import project.model.Vector2d;
+import project.model.worldElements.Animal;
+import project.model.worldElements.RandomMutationStrategyVariant;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DescendantsIndexTest {
+
+    private Animal createAnimal() {
+        return new Animal(new Vector2d(0, 0), new ArrayList<>(List.of(0, 1, 2, 3)), 1000, 10, 10, new RandomMutationStrategyVariant(0, 0));
+    }
+
+    private Animal reproduce(DescendantsIndex descendantsIndex, Animal firstParent, Animal secondParent) {
+        Animal kid = Animal.reproduce(firstParent, secondParent);
+        descendantsIndex.handleAnimalBirth(firstParent, secondParent, kid);
+        return kid;
+    }
+
+    @Test
+    void indexCountsDescendantsBornBeforeItWasCreated() {
+        // Given
+        Animal ancestor = createAnimal();
+        Animal firstMate = createAnimal();
+        Animal secondMate = createAnimal();
+        Animal firstKid = Animal.reproduce(ancestor, firstMate);
+        Animal secondKid = Animal.reproduce(ancestor, secondMate);
+        Animal.reproduce(firstKid, secondKid);
+        Animal.reproduce(firstMate, secondMate);
+
+        // When
+        DescendantsIndex descendantsIndex = new DescendantsIndex(ancestor);
+
+        // Then
+        assertEquals(3, descendantsIndex.getNumberOfDescendants());
+    }
+
+    @Test
+    void newbornWithTwoRelatedParentsIsCountedOnce() {
+        // Given
+        Animal ancestor = createAnimal();
+        Animal mate = createAnimal();
+        DescendantsIndex descendantsIndex = new DescendantsIndex(ancestor);
+
+        // When
+        Animal kid = reproduce(descendantsIndex, ancestor, mate);
+        Animal grandKid = reproduce(descendantsIndex, kid, ancestor);
+        reproduce(descendantsIndex, grandKid, kid);
+        reproduce(descendantsIndex, mate, createAnimal());
+
+        // Then
+        assertEquals(3, descendantsIndex.getNumberOfDescendants());
+    }
+
+    @Test
+    void indexHandlesLongLineageWithoutRecursion() {
+        // Given
+        Animal ancestor = createAnimal();
+        Animal lastDescendant = ancestor;
+        for (int generation = 0; generation < 50_000; generation++) {
+            lastDescendant = Animal.reproduce(lastDescendant, createAnimal());
+        }
+
+        // When
+        DescendantsIndex descendantsIndex = new DescendantsIndex(ancestor);
+
+        // Then
+        assertEquals(50_000, descendantsIndex.getNumberOfDescendants());
+    }
+}
@@ -0,0 +1,111 @@
+package project.statistics;
+
+import org.junit.jupiter.api.Test;
+import project.model.Vector2d;
+import project.model.worldElements.Animal;
+import project.model.worldElements.RandomMutationStrategyVariant;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GenotypeCounterTest {
+
+    private Animal createAnimal(Integer... genes) {
+        return new Animal(new Vector2d(0, 0), new ArrayList<>(List.of(genes)), 10, 20, 10, new RandomMutationStrategyVariant(0, 0));
+    }
+
+    @Test
+    void sameGenesGiveSameGenotypeId() {
+        // Given
+        Animal firstAnimal = createAnimal(0, 1, 2, 3);
+        Animal secondAnimal = createAnimal(0, 1, 2, 3);
+        Animal thirdAnimal = createAnimal(3, 2, 1, 0);
+
+        // When & Then
+        assertEquals(firstAnimal.getGenotypeId(), secondAnimal.getGenotypeId());
+        assertNotEquals(firstAnimal.getGenotypeId(), thirdAnimal.getGenotypeId());
+    }
+
+    @Test
+    void mostPopularGenotypesAreSortedByCount() {
+        // Given
+        GenotypeCounter genotypeCounter = new GenotypeCounter();
+
+        // When
+        genotypeCounter.add(createAnimal(1, 1, 1));
+        for (int i = 0; i < 3; i++) {
+            genotypeCounter.add(createAnimal(2, 2, 2));
+        }
+        for (int i = 0; i < 2; i++) {
+            genotypeCounter.add(createAnimal(3, 3, 3));
+        }
+
+        // Then
+        List<GenotypeCount> mostPopular = genotypeCounter.getMostPopular(2);
+        assertEquals(3, genotypeCounter.size());
+        assertEquals(2, mostPopular.size());
+        assertEquals("222", mostPopular.get(0).genotype());
+        assertEquals(3, mostPopular.get(0).count());
+        assertEquals("333", mostPopular.get(1).genotype());
+        assertEquals(2, mostPopular.get(1).count());
+    }
+
+    @Test
+    void removingLastAnimalForgetsGenotype() {
+        // Given
+        GenotypeCounter genotypeCounter = new GenotypeCounter();
+        Animal animal = createAnimal(4, 5, 6);
+        genotypeCounter.add(animal);
+
+        // When
+        genotypeCounter.remove(animal);
+
+        // Then
+        assertEquals(0, genotypeCounter.size());
+        assertEquals(0, genotypeCounter.getCount(animal.getGenotypeId()));
+        assertTrue(genotypeCounter.getMostPopular(5).isEmpty());
+        assertThrows(NoSuchElementException.class, () -> genotypeCounter.remove(animal));
+    }
+
+    @Test
+    void mostPopularGenotypesMatchFullCountAfterRandomChanges() {
+        // Given
+        GenotypeCounter genotypeCounter = new GenotypeCounter();
+        Map<String, Integer> expectedCounts = new HashMap<>();
+        List<Animal> countedAnimals = new ArrayList<>();
+        Random random = new Random(5);
+
+        // When
+        for (int i = 0; i < 2000; i++) {
+            if (!countedAnimals.isEmpty() && random.nextInt(3) == 0) {
+                Animal animal = countedAnimals.remove(random.nextInt(countedAnimals.size()));
+                genotypeCounter.remove(animal);
+                expectedCounts.merge(animal.getAnimalGenesString(), -1, Integer::sum);
+                expectedCounts.remove(animal.getAnimalGenesString(), 0);
+            } else {
+                Animal animal = createAnimal(random.nextInt(3), random.nextInt(3), random.nextInt(3));
+                countedAnimals.add(animal);
+                genotypeCounter.add(animal);
+                expectedCounts.merge(animal.getAnimalGenesString(), 1, Integer::sum);
+            }
+        }
+
+        // Then
+        List<Integer> expectedTopCounts = expectedCounts.values().stream()
+                .sorted((first, second) -> Integer.compare(second, first))
+                .limit(5)
+                .toList();
+        List<GenotypeCount> mostPopular = genotypeCounter.getMostPopular(5);
+        assertEquals(expectedCounts.size(), genotypeCounter.size());
+        assertEquals(expectedTopCounts, mostPopular.stream().map(GenotypeCount::count).toList());
+        for (GenotypeCount genotypeCount : mostPopular) {
+            assertEquals(expectedCounts.get(genotypeCount.genotype()), genotypeCount.count());
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package project.statistics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatisticsFileTest {
+
+    private StatisticsRecord createRecord(int day) {
+        List<GenotypeCount> popularGenotypes = new ArrayList<>();
+        for (int i = 0; i < day % 4; i++) {
+            popularGenotypes.add(new GenotypeCount(day % 7 + i, "g" + (day % 7 + i), 10 - i));
+        }
+        return new StatisticsRecord(day, day * 2, day % 100, 50 - day % 50, day % 4, popularGenotypes, day / 3.0, day / 7.0, day / 11.0);
+    }
+
+    private Path writeRecords(Path directory, int firstDay, int lastDay) throws IOException {
+        Path filePath = directory.resolve("run.stats");
+        try (StatisticsFileWriter writer = new StatisticsFileWriter(filePath)) {
+            for (int day = firstDay; day <= lastDay; day++) {
+                writer.write(createRecord(day));
+            }
+        }
+        return filePath;
+    }
+
+    @Test
+    void readerReturnsWrittenRecords(@TempDir Path directory) throws IOException {
+        // Given
+        Path filePath = writeRecords(directory, 1, 10_000);
+
+        // When
+        try (StatisticsFileReader reader = new StatisticsFileReader(filePath)) {
+
+            // Then
+            assertEquals(1, reader.getFirstDay());
+            assertEquals(10_000, reader.getLastDay());
+            for (int day : new int[]{1, 2, 3, 4096, 4097, 8193, 10_000}) {
+                assertEquals(createRecord(day), reader.readRecord(day));
+            }
+        }
+    }
+
+    @Test
+    void columnRangeSpanningBlocksIsReadWithoutGaps(@TempDir Path directory) throws IOException {
+        // Given
+        Path filePath = writeRecords(directory, 5, 9_004);
+
+        // When
+        try (StatisticsFileReader reader = new StatisticsFileReader(filePath)) {
+            int[] animalsCounts = reader.readIntColumn(StatisticsColumn.ANIMALS_COUNT, 4000, 8500);
+            double[] averageEnergies = reader.readDoubleColumn(StatisticsColumn.AVERAGE_ENERGY, 4000, 8500);
+            double[] days = reader.readDoubleColumn(StatisticsColumn.DAY, 9_004, 9_004);
+
+            // Then
+            assertEquals(4501, animalsCounts.length);
+            for (int i = 0; i < animalsCounts.length; i++) {
+                assertEquals((4000 + i) * 2, animalsCounts[i]);
+                assertEquals((4000 + i) / 3.0, averageEnergies[i]);
+            }
+            assertArrayEquals(new double[]{9_004}, days);
+            assertThrows(IndexOutOfBoundsException.class, () -> reader.readIntColumn(StatisticsColumn.DAY, 4, 10));
+            assertThrows(IllegalArgumentException.class, () -> reader.readIntColumn(StatisticsColumn.AVERAGE_ENERGY, 5, 10));
+        }
+    }
+
+    @Test
+    void fileIsConvertedToCsv(@TempDir Path directory) throws IOException {
+        // Given
+        Path filePath = writeRecords(directory, 1, 5);
+        Path csvPath = directory.resolve("run.csv");
+
+        // When
+        try (StatisticsFileReader reader = new StatisticsFileReader(filePath)) {
+            reader.writeCsv(csvPath);
+        }
+
+        // Then
+        List<String> lines = Files.readAllLines(csvPath);
+        assertEquals(6, lines.size());
+        assertEquals("3,6,3,47,3,1.00,0.43,0.27,g3:10;g4:9;g5:8", lines.get(3));
+        assertEquals("4,8,4,46,0,1.33,0.57,0.36,", lines.get(4));
+    }
+
+    @Test
+    void writerRejectsDaysOutOfOrder(@TempDir Path directory) throws IOException {
+        // Given
+        try (StatisticsFileWriter writer = new StatisticsFileWriter(directory.resolve("run.stats"))) {
+            writer.write(createRecord(1));
+
+            // When & Then
+            assertThrows(IllegalArgumentException.class, () -> writer.write(createRecord(3)));
+        }
+    }
+
+    @Test
+    void resumedFileKeepsDaysBeforeTheCheckpoint(@TempDir Path directory) throws IOException {
+        // Given
+        Path filePath = writeRecords(directory, 0, 6_000);
+
+        // When
+        try (StatisticsFileWriter writer = StatisticsFileWriter.continueFrom(filePath, 5_000)) {
+            for (int day = 5_000; day < 9_000; day++) {
+                writer.write(createRecord(day));
+            }
+        }
+
+        // Then
+        try (StatisticsFileReader reader = new StatisticsFileReader(filePath)) {
+            assertEquals(0, reader.getFirstDay());
+            assertEquals(8_999, reader.getLastDay());
+            for (int day : new int[]{0, 4095, 4096, 4999, 5000, 6001, 8999}) {
+                assertEquals(createRecord(day), reader.readRecord(day));
+            }
+        }
+        assertFalse(Files.exists(directory.resolve("run.stats.previous")));
+    }
+
+    @Test
+    void fileEndingBeforeTheCheckpointIsNotContinued(@TempDir Path directory) throws IOException {
+        // Given
+        Path filePath = writeRecords(directory, 0, 100);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> StatisticsFileWriter.continueFrom(filePath, 200));
+        try (StatisticsFileReader reader = new StatisticsFileReader(filePath)) {
+            assertEquals(100, reader.getLastDay());
+        }
+    }
+}
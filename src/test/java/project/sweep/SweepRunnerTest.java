@@ -0,0 +1,88 @@
+package project.sweep;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SweepRunnerTest {
+
+    @Test
+    void expandGridCreatesEveryCombinationOfValues() {
+        // Given
+        String gridLine = "10|20,10,EQUATOR_MAP,5,5|8,5,5,50,30,20,0,2,RANDOM|INCREMENT_DECREMENT,8,false";
+
+        // When
+        List<String> csvLines = ParameterSweep.expandGrid(gridLine);
+
+        // Then
+        assertEquals(8, csvLines.size());
+        assertEquals("10,10,EQUATOR_MAP,5,5,5,5,50,30,20,0,2,RANDOM,8,false", csvLines.getFirst());
+        assertEquals("20,10,EQUATOR_MAP,5,8,5,5,50,30,20,0,2,INCREMENT_DECREMENT,8,false", csvLines.getLast());
+    }
+
+    @Test
+    void runWritesStatisticsOfEveryDayOfEveryRun(@TempDir Path directory) throws IOException, InterruptedException {
+        // Given
+        Path sweepFile = directory.resolve("sweep.csv");
+        Files.writeString(sweepFile, """
+                # map size x grass energy
+                10|15,10,EQUATOR_MAP,5,5|8,5,5,50,30,20,0,2,RANDOM,8,false,ARRAY_GRID,SEQUENTIAL,2000,7
+                """);
+        ParameterSweep parameterSweep = ParameterSweep.fromFile(sweepFile);
+        Path resultsFile = directory.resolve("results.csv");
+        List<Integer> finishedRuns = new ArrayList<>();
+
+        // When
+        List<SweepRunResult> runResults = new SweepRunner(2).run(parameterSweep, 5, resultsFile,
+                (runResult, numberOfFinishedRuns, numberOfRuns) -> finishedRuns.add(numberOfFinishedRuns));
+
+        // Then
+        assertEquals(4, runResults.size());
+        assertEquals(List.of(1, 2, 3, 4), finishedRuns);
+        for (int runId = 0; runId < runResults.size(); runId++) {
+            SweepRunResult runResult = runResults.get(runId);
+            assertEquals(runId, runResult.runId());
+            assertFalse(runResult.failed());
+            assertEquals(7L, runResult.seed());
+            assertEquals(5, runResult.simulatedDays());
+        }
+
+        List<String> statisticsLines = Files.readAllLines(resultsFile);
+        assertEquals(1 + 4 * 5, statisticsLines.size());
+        for (int runId = 0; runId < runResults.size(); runId++) {
+            String runPrefix = runId + ",";
+            assertEquals(5, statisticsLines.stream().filter(line -> line.startsWith(runPrefix)).count());
+        }
+        assertEquals(1 + 4, Files.readAllLines(directory.resolve("results-runs.csv")).size());
+    }
+
+    @Test
+    void invalidCombinationFailsOnlyItsOwnRun(@TempDir Path directory) throws IOException, InterruptedException {
+        // Given
+        Path sweepFile = directory.resolve("sweep.csv");
+        Files.writeString(sweepFile, """
+                10|ten,10,EQUATOR_MAP,5,5,5,5,50,30,20,0,2,RANDOM,8,false,ARRAY_GRID,SEQUENTIAL,2000,7
+                """);
+        ParameterSweep parameterSweep = ParameterSweep.fromFile(sweepFile);
+
+        // When
+        List<SweepRunResult> runResults = new SweepRunner(2).run(parameterSweep, 5, directory.resolve("results.csv"),
+                (runResult, numberOfFinishedRuns, numberOfRuns) -> {
+                });
+
+        // Then
+        assertEquals(2, runResults.size());
+        assertFalse(runResults.get(0).failed());
+        assertEquals(5, runResults.get(0).simulatedDays());
+        assertTrue(runResults.get(1).failed());
+        assertEquals(0, runResults.get(1).simulatedDays());
+        assertTrue(runResults.get(1).parameters().startsWith("ten,"));
+    }
+}